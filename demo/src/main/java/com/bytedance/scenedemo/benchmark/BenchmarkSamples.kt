@@ -9,7 +9,10 @@ import android.widget.ScrollView
 import com.bytedance.scene.Scene
 import com.bytedance.scene.ktx.requireNavigationScene
 import com.bytedance.scenedemo.R
+import com.bytedance.scenedemo.benchmark.performance.FragmentSceneBenchmarkDemo
+import com.bytedance.scenedemo.benchmark.performance.NavigationAnimationBenchmarkDemo
 import com.bytedance.scenedemo.benchmark.performance.PerformanceDemo
+import com.bytedance.scenedemo.benchmark.performance.ScopeKeyBenchmarkDemo
 import com.bytedance.scenedemo.utility.addButton
 import com.bytedance.scenedemo.utility.addClassPathTitle
 import com.bytedance.scenedemo.utility.addSpace
@@ -33,6 +36,18 @@ class BenchmarkSamples : Scene() {
             requireNavigationScene().push(PerformanceDemo::class.java)
         })
 
+        addButton(layout, getString(R.string.main_nav_btn_navigation_animation_benchmark), View.OnClickListener {
+            requireNavigationScene().push(NavigationAnimationBenchmarkDemo::class.java)
+        })
+
+        addButton(layout, getString(R.string.main_nav_btn_fragment_scene_benchmark), View.OnClickListener {
+            requireNavigationScene().push(FragmentSceneBenchmarkDemo::class.java)
+        })
+
+        addButton(layout, getString(R.string.main_nav_btn_scope_key_benchmark), View.OnClickListener {
+            requireNavigationScene().push(ScopeKeyBenchmarkDemo::class.java)
+        })
+
         addSpace(layout, 100)
 
         return scrollView
@@ -0,0 +1,96 @@
+package com.bytedance.scenedemo.benchmark.performance
+
+import android.os.Bundle
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import android.widget.LinearLayout
+import android.widget.ScrollView
+import android.widget.TextView
+import androidx.fragment.app.Fragment
+import com.bytedance.scene.Scene
+import com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor
+import com.bytedance.scene.fragment.push
+import com.bytedance.scene.interfaces.PopOptions
+import com.bytedance.scene.interfaces.PushOptions
+import com.bytedance.scene.ktx.requireNavigationScene
+import com.bytedance.scene.navigation.NavigationScene
+import com.bytedance.scenedemo.R
+import com.bytedance.scenedemo.utility.ColorUtil
+import com.bytedance.scenedemo.utility.addButton
+import com.bytedance.scenedemo.utility.addClassPathTitle
+import com.bytedance.scenedemo.utility.addSpace
+import com.bytedance.scenedemo.utility.addTitle
+
+/**
+ * Push latency of a FragmentScene compared with a plain Scene showing the same view
+ */
+class FragmentSceneBenchmarkDemo : Scene() {
+    private lateinit var resultView: TextView
+
+    override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+        val scrollView = ScrollView(requireSceneContext())
+        scrollView.setBackgroundColor(ColorUtil.getMaterialColor(resources, 0))
+
+        val layout = LinearLayout(requireSceneContext())
+        layout.orientation = LinearLayout.VERTICAL
+        scrollView.addView(layout)
+
+        addClassPathTitle(layout)
+        addSpace(layout, 12)
+        addTitle(layout, getString(R.string.fragment_scene_benchmark_description))
+
+        addButton(layout, getString(R.string.fragment_scene_benchmark_btn_fragment_scene), View.OnClickListener {
+            runBenchmark("FragmentScene") { navigationScene, pushOptions ->
+                navigationScene.push(FragmentSceneBenchmarkFragment::class.java, null, pushOptions)
+            }
+        })
+        addButton(layout, getString(R.string.fragment_scene_benchmark_btn_scene), View.OnClickListener {
+            runBenchmark("Scene") { navigationScene, pushOptions ->
+                navigationScene.push(FragmentSceneBenchmarkTargetScene::class.java, null, pushOptions)
+            }
+        })
+
+        resultView = TextView(requireSceneContext())
+        layout.addView(resultView)
+        addSpace(layout, 100)
+        return scrollView
+    }
+
+    private fun runBenchmark(name: String, push: (NavigationScene, PushOptions) -> Unit) {
+        val navigationScene = requireNavigationScene()
+        val pushOptions = PushOptions.Builder().setAnimation(NoAnimationExecutor()).build()
+        val popOptions = PopOptions.Builder().setAnimation(NoAnimationExecutor()).build()
+        var totalNanos = 0L
+        for (i in 0 until COUNT) {
+            val start = System.nanoTime()
+            push(navigationScene, pushOptions)
+            navigationScene.forceExecutePendingNavigationOperation()
+            totalNanos += System.nanoTime() - start
+
+            navigationScene.pop(popOptions)
+            navigationScene.forceExecutePendingNavigationOperation()
+        }
+        resultView.append(String.format("%s: avg %.2fms\n", name, totalNanos / COUNT / 1_000_000f))
+    }
+
+    companion object {
+        private const val COUNT = 20
+    }
+}
+
+class FragmentSceneBenchmarkFragment : Fragment() {
+    override fun onCreateView(inflater: LayoutInflater, container: ViewGroup?, savedInstanceState: Bundle?): View {
+        val view = View(requireContext())
+        view.setBackgroundColor(ColorUtil.getMaterialColor(resources, 1))
+        return view
+    }
+}
+
+class FragmentSceneBenchmarkTargetScene : Scene() {
+    override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+        val view = View(requireSceneContext())
+        view.setBackgroundColor(ColorUtil.getMaterialColor(resources, 1))
+        return view
+    }
+}
@@ -0,0 +1,177 @@
+package com.bytedance.scenedemo.benchmark.performance
+
+import android.animation.Animator
+import android.animation.ValueAnimator
+import android.os.Bundle
+import android.os.SystemClock
+import android.view.Choreographer
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import android.widget.CheckBox
+import android.widget.LinearLayout
+import android.widget.ScrollView
+import android.widget.TextView
+import com.bytedance.scene.Scene
+import com.bytedance.scene.animation.AnimationInfo
+import com.bytedance.scene.animation.NavigationAnimatorExecutor
+import com.bytedance.scene.animation.TransitionUtils
+import com.bytedance.scene.animation.animatorexecutor.HorizontalTransitionAnimatorExecutor
+import com.bytedance.scene.animation.animatorexecutor.RenderThreadHorizontalTransitionAnimatorExecutor
+import com.bytedance.scene.interfaces.PopOptions
+import com.bytedance.scene.interfaces.PushOptions
+import com.bytedance.scene.ktx.requireNavigationScene
+import com.bytedance.scenedemo.R
+import com.bytedance.scenedemo.utility.ColorUtil
+import com.bytedance.scenedemo.utility.addButton
+import com.bytedance.scenedemo.utility.addClassPathTitle
+import com.bytedance.scenedemo.utility.addSpace
+import com.bytedance.scenedemo.utility.addTitle
+
+/**
+ * Push and pop with different horizontal navigation animators and compare the main thread frame intervals
+ */
+class NavigationAnimationBenchmarkDemo : Scene() {
+    private lateinit var resultView: TextView
+    private lateinit var busyCheckBox: CheckBox
+    private var running = false
+
+    override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+        val scrollView = ScrollView(requireSceneContext())
+        scrollView.setBackgroundColor(ColorUtil.getMaterialColor(resources, 0))
+
+        val layout = LinearLayout(requireSceneContext())
+        layout.orientation = LinearLayout.VERTICAL
+        scrollView.addView(layout)
+
+        addClassPathTitle(layout)
+        addSpace(layout, 12)
+        addTitle(layout, getString(R.string.nav_animation_benchmark_description))
+
+        busyCheckBox = CheckBox(requireSceneContext())
+        busyCheckBox.text = getString(R.string.nav_animation_benchmark_busy_main_thread)
+        layout.addView(busyCheckBox)
+
+        addButton(layout, getString(R.string.nav_animation_benchmark_btn_value_animator), View.OnClickListener {
+            runBenchmark("ValueAnimator.ofInt", BoxedHorizontalTransitionAnimatorExecutor())
+        })
+        addButton(layout, getString(R.string.nav_animation_benchmark_btn_object_animator), View.OnClickListener {
+            runBenchmark("ObjectAnimator + FloatProperty", HorizontalTransitionAnimatorExecutor())
+        })
+        addButton(layout, getString(R.string.nav_animation_benchmark_btn_render_thread), View.OnClickListener {
+            runBenchmark("RenderThread", RenderThreadHorizontalTransitionAnimatorExecutor())
+        })
+
+        resultView = TextView(requireSceneContext())
+        layout.addView(resultView)
+        addSpace(layout, 100)
+        return scrollView
+    }
+
+    private fun runBenchmark(name: String, executor: NavigationAnimatorExecutor) {
+        if (running) {
+            return
+        }
+        running = true
+        val recorder = FrameRecorder(busyCheckBox.isChecked)
+        recorder.start()
+        requireNavigationScene().push(
+            NavigationAnimationBenchmarkTargetScene::class.java, null,
+            PushOptions.Builder().setAnimation(executor).build()
+        )
+        view.postDelayed({
+            requireNavigationScene().pop(PopOptions.Builder().setAnimation(executor).build())
+            view.postDelayed({
+                recorder.stop()
+                running = false
+                resultView.append(recorder.report(name) + "\n")
+            }, ANIMATION_WINDOW_MS)
+        }, ANIMATION_WINDOW_MS)
+    }
+
+    private class FrameRecorder(private val busyMainThread: Boolean) : Choreographer.FrameCallback {
+        private var recording = false
+        private var lastFrameTimeNanos = 0L
+        private var frameCount = 0
+        private var jankCount = 0
+        private var maxIntervalNanos = 0L
+        private var totalIntervalNanos = 0L
+
+        fun start() {
+            recording = true
+            Choreographer.getInstance().postFrameCallback(this)
+        }
+
+        fun stop() {
+            recording = false
+            Choreographer.getInstance().removeFrameCallback(this)
+        }
+
+        override fun doFrame(frameTimeNanos: Long) {
+            if (!recording) {
+                return
+            }
+            if (lastFrameTimeNanos != 0L) {
+                val interval = frameTimeNanos - lastFrameTimeNanos
+                frameCount++
+                totalIntervalNanos += interval
+                maxIntervalNanos = maxOf(maxIntervalNanos, interval)
+                if (interval > JANK_INTERVAL_NANOS) {
+                    jankCount++
+                }
+            }
+            lastFrameTimeNanos = frameTimeNanos
+            if (busyMainThread) {
+                SystemClock.sleep(BUSY_MAIN_THREAD_MS)
+            }
+            Choreographer.getInstance().postFrameCallback(this)
+        }
+
+        fun report(name: String): String {
+            val average = if (frameCount == 0) 0L else totalIntervalNanos / frameCount
+            return String.format(
+                "%s: %d frames, avg %.2fms, max %.2fms, jank %d",
+                name, frameCount, average / 1_000_000f, maxIntervalNanos / 1_000_000f, jankCount
+            )
+        }
+    }
+
+    /**
+     * HorizontalTransitionAnimatorExecutor before it switched to ObjectAnimator, kept to compare with
+     */
+    private class BoxedHorizontalTransitionAnimatorExecutor : HorizontalTransitionAnimatorExecutor() {
+        override fun onPushAnimator(from: AnimationInfo, to: AnimationInfo): Animator {
+            return TransitionUtils.mergeAnimators(
+                translationAnimator(from.mSceneView, 0, -from.mSceneView.width),
+                translationAnimator(to.mSceneView, to.mSceneView.width, 0)
+            )
+        }
+
+        override fun onPopAnimator(fromInfo: AnimationInfo, toInfo: AnimationInfo): Animator {
+            return TransitionUtils.mergeAnimators(
+                translationAnimator(fromInfo.mSceneView, 0, fromInfo.mSceneView.width),
+                translationAnimator(toInfo.mSceneView, -toInfo.mSceneView.width, 0)
+            )
+        }
+
+        private fun translationAnimator(view: View, from: Int, to: Int): Animator {
+            val animator = ValueAnimator.ofInt(from, to)
+            animator.addUpdateListener { view.translationX = (it.animatedValue as Int).toFloat() }
+            return animator
+        }
+    }
+
+    companion object {
+        private const val ANIMATION_WINDOW_MS = 600L
+        private const val BUSY_MAIN_THREAD_MS = 12L
+        private const val JANK_INTERVAL_NANOS = 25_000_000L
+    }
+}
+
+class NavigationAnimationBenchmarkTargetScene : Scene() {
+    override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+        val view = View(requireSceneContext())
+        view.setBackgroundColor(ColorUtil.getMaterialColor(resources, 1))
+        return view
+    }
+}
@@ -0,0 +1,82 @@
+package com.bytedance.scenedemo.benchmark.performance
+
+import android.os.Bundle
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import android.widget.LinearLayout
+import android.widget.ScrollView
+import android.widget.TextView
+import com.bytedance.scene.Scene
+import com.bytedance.scene.Scope
+import com.bytedance.scenedemo.R
+import com.bytedance.scenedemo.utility.ColorUtil
+import com.bytedance.scenedemo.utility.addButton
+import com.bytedance.scenedemo.utility.addClassPathTitle
+import com.bytedance.scenedemo.utility.addSpace
+import com.bytedance.scenedemo.utility.addTitle
+import java.util.UUID
+
+/**
+ * Scope creation time with the previous UUID based scope key compared with the counter based key of Scope.buildScope
+ */
+class ScopeKeyBenchmarkDemo : Scene() {
+    private lateinit var resultView: TextView
+
+    override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+        val scrollView = ScrollView(requireSceneContext())
+        scrollView.setBackgroundColor(ColorUtil.getMaterialColor(resources, 0))
+
+        val layout = LinearLayout(requireSceneContext())
+        layout.orientation = LinearLayout.VERTICAL
+        scrollView.addView(layout)
+
+        addClassPathTitle(layout)
+        addSpace(layout, 12)
+        addTitle(layout, getString(R.string.scope_key_benchmark_description))
+
+        addButton(layout, getString(R.string.scope_key_benchmark_btn_uuid), View.OnClickListener {
+            runBenchmark("UUID key") { buildScopesWithUUIDKey() }
+        })
+        addButton(layout, getString(R.string.scope_key_benchmark_btn_counter), View.OnClickListener {
+            runBenchmark("counter key") { buildScopes() }
+        })
+
+        resultView = TextView(requireSceneContext())
+        layout.addView(resultView)
+        addSpace(layout, 100)
+        return scrollView
+    }
+
+    private fun runBenchmark(name: String, build: () -> Unit) {
+        //warm up
+        build()
+        val start = System.nanoTime()
+        build()
+        val cost = System.nanoTime() - start
+        resultView.append(String.format("%s: %d Scopes %.2fms\n", name, COUNT, cost / 1_000_000f))
+    }
+
+    /**
+     * Same work as Scope.buildScope, but with the previous UUID based key
+     */
+    private fun buildScopesWithUUIDKey() {
+        val rootScope = Scope.DEFAULT_ROOT_SCOPE_FACTORY.rootScope
+        val childrenScopes = HashMap<String, Scope>()
+        for (i in 0 until COUNT) {
+            val scopeKey = javaClass.name + "_" + UUID.randomUUID()
+            childrenScopes[scopeKey] = Scope(rootScope, javaClass, scopeKey)
+        }
+    }
+
+    private fun buildScopes() {
+        val rootScope = Scope.DEFAULT_ROOT_SCOPE_FACTORY.rootScope
+        for (i in 0 until COUNT) {
+            rootScope.buildScope(this, null)
+        }
+    }
+
+    companion object {
+        private const val COUNT = 20000
+    }
+}
@@ -0,0 +1,45 @@
+# Keep the names of the classes loaded by NavigationScene.preloadClasses(), they are loaded by name.
+# Renaming is disabled only, unused classes can still be removed. Keep in sync with ScenePreloadClasses.
+-keepnames class com.bytedance.scene.Scene
+-keepnames class com.bytedance.scene.State
+-keepnames class com.bytedance.scene.SceneLifecycleManager
+-keepnames class com.bytedance.scene.SceneLifecycleDispatcher
+-keepnames class com.bytedance.scene.SceneComponentFactory
+-keepnames class com.bytedance.scene.SceneFactoryRegistry
+-keepnames class com.bytedance.scene.SceneGlobalConfig
+-keepnames class com.bytedance.scene.SceneTrace
+-keepnames class com.bytedance.scene.Scope
+-keepnames class com.bytedance.scene.Scope$RootScopeFactory
+-keepnames class com.bytedance.scene.ScopeHolderFragment
+-keepnames class com.bytedance.scene.LifeCycleFragment
+-keepnames class com.bytedance.scene.SceneLayoutInflater
+-keepnames class com.bytedance.scene.SceneViewModelProviders
+-keepnames class com.bytedance.scene.ActivityViewFinder
+-keepnames class com.bytedance.scene.ViewFinder
+-keepnames class com.bytedance.scene.SceneParent
+-keepnames class com.bytedance.scene.SceneContainerLifecycleCallback
+-keepnames class com.bytedance.scene.SuppressOperationAware
+-keepnames class com.bytedance.scene.SceneStateSaveStrategy
+-keepnames class com.bytedance.scene.group.GroupScene
+-keepnames class com.bytedance.scene.group.GroupSceneManager
+-keepnames class com.bytedance.scene.group.GroupRecord
+-keepnames class com.bytedance.scene.group.GroupRecordList
+-keepnames class com.bytedance.scene.group.ReuseGroupScene
+-keepnames class com.bytedance.scene.interfaces.ChildSceneLifecycleCallbacks
+-keepnames class com.bytedance.scene.logger.LoggerManager
+-keepnames class com.bytedance.scene.logger.Logger
+-keepnames class com.bytedance.scene.logger.DefaultLogger
+-keepnames class com.bytedance.scene.parcel.ParcelConstants
+-keepnames class com.bytedance.scene.animation.AnimationOrAnimator
+-keepnames class com.bytedance.scene.animation.AnimationOrAnimatorFactory
+-keepnames class com.bytedance.scene.utlity.SceneInstanceUtility
+-keepnames class com.bytedance.scene.utlity.ThreadUtility
+-keepnames class com.bytedance.scene.utlity.Utility
+-keepnames class com.bytedance.scene.utlity.NonNullPair
+-keepnames class com.bytedance.scene.utlity.CancellationSignal
+-keepnames class com.bytedance.scene.utlity.CancellationSignalList
+-keepnames class com.bytedance.scene.utlity.TaskStartSignal
+-keepnames class com.bytedance.scene.utlity.ViewIdGenerator
+-keepnames class com.bytedance.scene.utlity.ViewUtility
+-keepnames class com.bytedance.scene.utlity.ExceptionsUtility
+-keepnames class com.bytedance.scene.view.SceneContextThemeWrapper
@@ -146,6 +146,17 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     private View mView;
 
     private Scene mParentScene;
+
+    /**
+     * Bumped when child lifecycle callbacks of any Scene change or any Scene is attached to another parent,
+     * Scenes compare it with their cached result to know whether the ancestor callbacks must be looked up again
+     */
+    private static int sLifecycleCallbacksVersion = 0;
+    private int mLifecycleCallbacksVersion = -1;
+    private int mChildLifecycleCallbacksCount = 0;
+    private int mRecursiveChildLifecycleCallbacksCount = 0;
+    private boolean mParentHasLifecycleCallbacks = false;
+    private boolean mAncestorHasRecursiveLifecycleCallbacks = false;
     private Scope.RootScopeFactory mRootScopeFactory = Scope.DEFAULT_ROOT_SCOPE_FACTORY;
     private Scope mScope;
     private State mState = State.NONE;
@@ -272,8 +283,9 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     public void dispatchAttachScene(@Nullable Scene parentScene) {
         if (parentScene != null) {
             this.mParentScene = parentScene;
+            sLifecycleCallbacksVersion++;
         } else {
-            LoggerManager.getInstance().v(TAG, "This Scene is the root Scene " + this.toCanonicalString());
+            LoggerManager.getInstance().v(TAG, "This Scene is the root Scene %s", this);
         }
         mCalled = false;
         onAttach();
@@ -573,6 +585,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchDetachScene() {
         this.mParentScene = null;
+        sLifecycleCallbacksVersion++;
     }
 
     /** @hide */
@@ -883,8 +896,9 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
         if (!((SceneParent) replacementParentScene).isSupportChildReplaceParentScene()) {
             throw new IllegalArgumentException("Parent Scene isSupportChildReplaceParentScene is false");
         }
-        LoggerManager.getInstance().i(TAG, "Replace " + this.toString() + " parent Scene to " + replacementParentScene.toString());
+        LoggerManager.getInstance().i(TAG, "Replace %s parent Scene to %s", this, replacementParentScene);
         this.mParentScene = replacementParentScene;
+        sLifecycleCallbacksVersion++;
         this.mScope.replaceParentScope(replacementParentScene.mScope);
     }
 
@@ -958,8 +972,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
             if (needsFocus != null) {
                 needsFocus.requestFocus();
             } else {
-                LoggerManager.getInstance().v(TAG, "Previously focused view reported id " + focusedViewId
-                        + " during save, but can't be found during restore.");
+                LoggerManager.getInstance().v(TAG, "Previously focused view reported id %s during save, but can't be found during restore.", focusedViewId);
             }
         }
     }
@@ -1110,7 +1123,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
                 if (!this.isLifecycleAndSavedStateRegistryEnabled()) {
                     throw new SceneInternalException("Scene initLifecycleIfNeeded when isLifecycleAndSavedStateRegistryEnabled false");
                 }
-                LoggerManager.getInstance().i(TAG, this + " create LifecycleRegistry");
+                LoggerManager.getInstance().i(TAG, "%s create LifecycleRegistry", this);
                 this.mLifecycleRegistry = new FixSceneReuseLifecycleAdapter(new LifecycleRegistry(this));
             }
             return this.mLifecycleRegistry;
@@ -1272,11 +1285,45 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
         return this.mScope;
     }
 
+    /**
+     * @hide
+     * Called by GroupScene and NavigationScene when their child lifecycle callbacks change
+     */
+    @RestrictTo(LIBRARY_GROUP)
+    protected final void setChildSceneLifecycleCallbacksCount(int count, int recursiveCount) {
+        this.mChildLifecycleCallbacksCount = count;
+        this.mRecursiveChildLifecycleCallbacksCount = recursiveCount;
+        sLifecycleCallbacksVersion++;
+    }
+
+    /**
+     * Lifecycle events bubble through every ancestor, but most ancestors have no callbacks at all,
+     * so skip the upward walk unless the parent has callbacks for a direct child or any ancestor has a recursive one
+     *
+     * @param directChild true if this Scene is the one whose lifecycle changed
+     */
+    private boolean shouldDispatchLifecycleToParentScene(boolean directChild) {
+        if (this.mLifecycleCallbacksVersion != sLifecycleCallbacksVersion) {
+            Scene parentScene = this.mParentScene;
+            this.mParentHasLifecycleCallbacks = parentScene != null && parentScene.mChildLifecycleCallbacksCount > 0;
+            boolean ancestorHasRecursiveCallbacks = false;
+            for (Scene scene = parentScene; scene != null; scene = scene.mParentScene) {
+                if (scene.mRecursiveChildLifecycleCallbacksCount > 0) {
+                    ancestorHasRecursiveCallbacks = true;
+                    break;
+                }
+            }
+            this.mAncestorHasRecursiveLifecycleCallbacks = ancestorHasRecursiveCallbacks;
+            this.mLifecycleCallbacksVersion = sLifecycleCallbacksVersion;
+        }
+        return this.mAncestorHasRecursiveLifecycleCallbacks || (directChild && this.mParentHasLifecycleCallbacks);
+    }
+
     /** @hide */
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1285,7 +1332,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneViewCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1294,7 +1341,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneActivityCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1303,7 +1350,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneStarted(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneStarted(scene, scene == this);
         }
     }
@@ -1312,7 +1359,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneResumed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneResumed(scene, scene == this);
         }
     }
@@ -1321,7 +1368,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreScenePaused(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreScenePaused(scene, scene == this);
         }
     }
@@ -1330,7 +1377,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneStopped(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneStopped(scene, scene == this);
         }
     }
@@ -1339,7 +1386,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneViewDestroyed(scene, scene == this);
         }
     }
@@ -1348,7 +1395,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneDestroyed(scene, scene == this);
         }
     }
@@ -1357,7 +1404,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1366,7 +1413,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneViewCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1375,7 +1422,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneActivityCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1384,7 +1431,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneStarted(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneStarted(scene, scene == this);
         }
     }
@@ -1393,7 +1440,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneResumed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneResumed(scene, scene == this);
         }
     }
@@ -1402,7 +1449,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperScenePaused(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperScenePaused(scene, scene == this);
         }
     }
@@ -1411,7 +1458,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneStopped(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneStopped(scene, scene == this);
         }
     }
@@ -1420,7 +1467,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneViewDestroyed(scene, scene == this);
         }
     }
@@ -1429,7 +1476,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneDestroyed(scene, scene == this);
         }
     }
@@ -1442,7 +1489,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1451,7 +1498,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneViewCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1460,7 +1507,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneActivityCreated(scene, savedInstanceState, scene == this);
         }
     }
@@ -1469,7 +1516,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneStarted(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneStarted(scene, scene == this);
         }
     }
@@ -1478,7 +1525,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneResumed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneResumed(scene, scene == this);
         }
     }
@@ -1487,7 +1534,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneStopped(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneStopped(scene, scene == this);
         }
     }
@@ -1496,7 +1543,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnScenePaused(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnScenePaused(scene, scene == this);
         }
     }
@@ -1505,7 +1552,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnPreSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnPreSceneSaveInstanceState(scene, outState, scene == this);
         }
     }
@@ -1514,7 +1561,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSuperSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSuperSceneSaveInstanceState(scene, outState, scene == this);
         }
     }
@@ -1523,7 +1570,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneSaveInstanceState(scene, outState, scene == this);
         }
     }
@@ -1532,7 +1579,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneViewDestroyed(scene, scene == this);
         }
     }
@@ -1541,7 +1588,7 @@ public abstract class Scene implements LifecycleOwner, SavedStateRegistryOwner,
     @RestrictTo(LIBRARY_GROUP)
     public void dispatchOnSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         Scene parentScene = getParentScene();
-        if (parentScene != null) {
+        if (parentScene != null && shouldDispatchLifecycleToParentScene(scene == this)) {
             parentScene.dispatchOnSceneDestroyed(scene, scene == this);
         }
     }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene;
+
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Direct constructors of Scene classes, used instead of reflection whenever the library creates a Scene by its class
+ * or class name: push(Class), restoring the stack, replacing recycled Scenes and GroupScene restore.
+ * Classes without a registered factory are still created by reflection.
+ * <p>
+ * Register every Scene class that is pushed often or restored on cold start, before the first NavigationScene is created:
+ * <pre>
+ * SceneFactoryRegistry.register(DetailScene.class, new SceneFactoryRegistry.Factory&lt;DetailScene&gt;() {
+ *     public DetailScene newInstance() {
+ *         return new DetailScene();
+ *     }
+ * });
+ * </pre>
+ * The factory must return a new instance of exactly the registered class every time, the same as its public empty constructor.
+ */
+public final class SceneFactoryRegistry {
+    public interface Factory<T extends Scene> {
+        @NonNull
+        T newInstance();
+    }
+
+    private static final ConcurrentHashMap<String, Factory<?>> sFactories = new ConcurrentHashMap<>();
+
+    /**
+     * Expose the registry to APIs which take a {@link SceneComponentFactory}, it returns null for unregistered classes
+     */
+    public static final SceneComponentFactory COMPONENT_FACTORY = new SceneComponentFactory() {
+        @Nullable
+        @Override
+        public Scene instantiateScene(@NonNull ClassLoader cl, @NonNull String className, @Nullable Bundle bundle) {
+            Factory<?> factory = sFactories.get(className);
+            if (factory == null) {
+                return null;
+            }
+            Scene scene = factory.newInstance();
+            if (bundle != null) {
+                bundle.setClassLoader(scene.getClass().getClassLoader());
+                scene.setArguments(bundle);
+            }
+            return scene;
+        }
+    };
+
+    private SceneFactoryRegistry() {
+    }
+
+    public static <T extends Scene> void register(@NonNull Class<T> clazz, @NonNull Factory<T> factory) {
+        sFactories.put(clazz.getName(), factory);
+    }
+
+    public static void unregister(@NonNull Class<? extends Scene> clazz) {
+        sFactories.remove(clazz.getName());
+    }
+
+    @Nullable
+    public static Factory<?> getFactory(@NonNull String className) {
+        if (sFactories.isEmpty()) {
+            return null;
+        }
+        return sFactories.get(className);
+    }
+
+    public static void clear() {
+        sFactories.clear();
+    }
+}
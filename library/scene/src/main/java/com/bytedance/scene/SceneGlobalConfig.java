@@ -22,9 +22,48 @@ package com.bytedance.scene;
  */
 public class SceneGlobalConfig {
     public static volatile boolean validateScopeAndViewModelStoreSceneClassStrategy = false;
+    /**
+     * @deprecated child lifecycle callbacks are dispatched without allocation now, this flag has no effect
+     */
+    @Deprecated
     public static volatile boolean sceneLifecycleCallbackObjectCreationOpt = false;
     public static volatile boolean cancelAnimationWhenForceExecutePendingNavigationOperation = false;
     public static volatile boolean useStrictPublishResultCallbackEnabled = false;
     public static volatile boolean onlyRestoreNonSystemBarAfterAnimation = false;
     public static volatile boolean forceUseWindowInsetsToDetectIMEStatus = false;
-}
\ No newline at end of file
+    /**
+     * Memoize services resolved from ancestor Scopes in Scope.getService, set it before any Scene is created
+     */
+    public static volatile boolean scopeServiceCacheEnabled = false;
+    /**
+     * Worker count of async layout inflation, read once when the first async inflation starts.
+     * More than 1 is only safe if every inflated View class was constructed once on the main thread before,
+     * because LayoutInflater caches View constructors in a static HashMap without synchronization
+     */
+    public static volatile int asyncLayoutInflateThreadCount = 1;
+    /**
+     * Pending async layout inflations beyond this are inflated on the main thread instead of blocking it
+     */
+    public static volatile int asyncLayoutInflateMaxPendingCount = 32;
+    /**
+     * Hand out clones of animation resources parsed before by the same Activity, see AnimationOrAnimatorCache
+     */
+    public static volatile boolean animationResourceCacheEnabled = false;
+    /**
+     * Run navigation operations from Choreographer frame callbacks instead of plain Handler messages, read when a NavigationScene is created
+     */
+    public static volatile boolean navigationFrameAlignedSchedulingEnabled = false;
+    /**
+     * Time a frame may spend on navigation operations before the remaining ones are moved to the next frame
+     */
+    public static volatile long navigationFrameBudgetMillis = 8L;
+    /**
+     * Interval of periodic heap sampling for NavigationSceneOptions.setAutoRecycleInvisibleScenesThreshold, 0 to only sample after GC
+     */
+    public static volatile long memoryPressureSampleIntervalMillis = 0L;
+    /**
+     * Time and Scene count a recycleInvisibleScenes pass may spend before the rest is resumed on the next idle, 0 means no limit
+     */
+    public static volatile long recycleInvisibleScenesBudgetMillis = 0L;
+    public static volatile int recycleInvisibleScenesBudgetCount = 0;
+}
@@ -24,16 +24,33 @@ public final class SceneTrace {
 
     }
 
+    /**
+     * Default value of {@link #setEnabled(boolean)}
+     */
     public static final boolean VERBOSE_TRACING = false;
 
+    private static volatile boolean sEnabled = VERBOSE_TRACING;
+
+    /**
+     * Emit Scene sections to android.os.Trace, so they show up in systrace and Perfetto
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
     public static void beginSection(@NonNull String sectionName) {
-        if (VERBOSE_TRACING && Build.VERSION.SDK_INT >= 18) {
-            Trace.beginSection(sectionName);
+        if (sEnabled && Build.VERSION.SDK_INT >= 18) {
+            // section names longer than 127 characters are rejected by Trace
+            Trace.beginSection(sectionName.length() > 127 ? sectionName.substring(0, 127) : sectionName);
         }
     }
 
     public static void endSection() {
-        if (VERBOSE_TRACING && Build.VERSION.SDK_INT >= 18) {
+        if (sEnabled && Build.VERSION.SDK_INT >= 18) {
             Trace.endSection();
         }
     }
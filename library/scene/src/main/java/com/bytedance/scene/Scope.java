@@ -28,8 +28,9 @@ import com.bytedance.scene.utlity.SceneInternalException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created by JiangQi on 9/11/18.
@@ -44,6 +45,15 @@ public class Scope {
         Scope getRootScope();
     }
 
+    /**
+     * UUID.randomUUID() goes through SecureRandom which is slow when a lot of Scenes are created at once,
+     * so the key is a process wide counter plus a random salt picked once per process. The salt keeps keys
+     * restored from a previous process (saved with KEY_SCENE_SCOPE_KEY_TAG) apart from new keys, and the
+     * "salt_counter" suffix can never be equal to the UUID suffix of keys saved by older versions.
+     */
+    private static final String SCOPE_KEY_PROCESS_SALT = Long.toHexString(new Random().nextLong());
+    private static final AtomicLong SCOPE_KEY_COUNTER = new AtomicLong();
+
     public static final RootScopeFactory DEFAULT_ROOT_SCOPE_FACTORY = new RootScopeFactory() {
         @Override
         public Scope getRootScope() {
@@ -59,6 +69,18 @@ public class Scope {
     private final Map<Object, Object> mServices = new HashMap<>();
 
     private final boolean validateScopeAndViewModelStoreSceneClassStrategy = SceneGlobalConfig.validateScopeAndViewModelStoreSceneClassStrategy;
+    private final boolean serviceCacheEnabled = SceneGlobalConfig.scopeServiceCacheEnabled;
+
+    /**
+     * Services resolved from ancestor Scopes, including misses as null values,
+     * it is cleared when any ancestor registers or unregisters a service and when this Scope is re-parented
+     */
+    @Nullable
+    private Map<Object, Object> mServiceCache;
+
+    private static long sServiceCacheHitCount = 0;
+    private static long sServiceCacheMissCount = 0;
+    private static long sServiceLookupChainLength = 0;
 
     @NonNull
     public Scope buildScope(@NonNull final Scene scene, @Nullable Bundle bundle) {
@@ -99,14 +121,17 @@ public class Scope {
         }
         replacementParentScope.mChildrenScopes.put(this.mScopeKey, this);
         this.mParentScope = replacementParentScope;
+        invalidateServiceCache();
     }
 
     public void register(@NonNull Object key, @NonNull Object service) {
         this.mServices.put(key, service);
+        invalidateChildrenServiceCache();
     }
 
     public void registerInMyScope(@NonNull Object key, @NonNull Object service) {
         this.mServices.put(key, service);
+        invalidateChildrenServiceCache();
     }
 
     public void unRegister(@NonNull Object key) {
@@ -116,6 +141,24 @@ public class Scope {
                 ((Scoped) value).onUnRegister();
             }
             this.mServices.remove(key);
+            invalidateChildrenServiceCache();
+        }
+    }
+
+    private void invalidateServiceCache() {
+        if (this.mServiceCache != null) {
+            this.mServiceCache.clear();
+        }
+        invalidateChildrenServiceCache();
+    }
+
+    private void invalidateChildrenServiceCache() {
+        //without the cache there is nothing to invalidate, skip walking the subtree on every register
+        if (!this.serviceCacheEnabled || this.mChildrenScopes.isEmpty()) {
+            return;
+        }
+        for (Scope childScope : this.mChildrenScopes.values()) {
+            childScope.invalidateServiceCache();
         }
     }
 
@@ -132,13 +175,71 @@ public class Scope {
         Object value = mServices.get(key);
         if (value != null) {
             return (T) value;
-        } else if (mParentScope != null) {
+        } else if (mParentScope == null) {
+            return null;
+        } else if (!serviceCacheEnabled) {
             return mParentScope.getService(key);
         } else {
-            return null;
+            return (T) getServiceFromAncestors(key);
         }
     }
 
+    @Nullable
+    private Object getServiceFromAncestors(@NonNull Object key) {
+        if (this.mServiceCache == null) {
+            this.mServiceCache = new HashMap<>();
+        } else if (this.mServiceCache.containsKey(key)) {
+            sServiceCacheHitCount++;
+            return this.mServiceCache.get(key);
+        }
+        sServiceCacheMissCount++;
+
+        Object value = null;
+        Scope scope = this.mParentScope;
+        while (scope != null) {
+            sServiceLookupChainLength++;
+            value = scope.mServices.get(key);
+            if (value != null) {
+                break;
+            }
+            if (scope.mServiceCache != null && scope.mServiceCache.containsKey(key)) {
+                value = scope.mServiceCache.get(key);
+                break;
+            }
+            scope = scope.mParentScope;
+        }
+        this.mServiceCache.put(key, value);
+        return value;
+    }
+
+    /**
+     * @return count of Scope.getService calls answered by the service cache,
+     * only counted when {@link SceneGlobalConfig#scopeServiceCacheEnabled} is true
+     */
+    public static long getServiceCacheHitCount() {
+        return sServiceCacheHitCount;
+    }
+
+    /**
+     * @return count of Scope.getService calls that walked the ancestor Scopes
+     */
+    public static long getServiceCacheMissCount() {
+        return sServiceCacheMissCount;
+    }
+
+    /**
+     * @return total count of ancestor Scopes visited by cache misses
+     */
+    public static long getServiceLookupChainLength() {
+        return sServiceLookupChainLength;
+    }
+
+    public static void resetServiceCacheStatistics() {
+        sServiceCacheHitCount = 0;
+        sServiceCacheMissCount = 0;
+        sServiceLookupChainLength = 0;
+    }
+
     public static String getOrGenerateScopeKey(@Nullable Scene scene, @Nullable Bundle bundle) {
         String scopeKey = null;
         if (bundle != null) {
@@ -151,11 +252,8 @@ public class Scope {
     }
 
     private static String generateScopeKey(@Nullable Scene scene) {
-        if (scene == null) {
-            return "Scene_" + UUID.randomUUID();
-        } else {
-            return scene.getClass().getName() + "_" + UUID.randomUUID();
-        }
+        String prefix = scene == null ? "Scene" : scene.getClass().getName();
+        return prefix + "_" + SCOPE_KEY_PROCESS_SALT + "_" + SCOPE_KEY_COUNTER.incrementAndGet();
     }
 
     private static String getScopeKeyFromBundle(@NonNull Bundle bundle) {
@@ -179,5 +277,6 @@ public class Scope {
         }
         mServices.clear();
         mChildrenScopes.clear();
+        mServiceCache = null;
     }
 }
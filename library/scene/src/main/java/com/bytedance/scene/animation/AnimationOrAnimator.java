@@ -35,6 +35,7 @@ import androidx.annotation.AnimatorRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.RestrictTo;
 
+import com.bytedance.scene.SceneGlobalConfig;
 import com.bytedance.scene.utlity.AnimationUtilityKt;
 import com.bytedance.scene.utlity.DurationScaleType;
 
@@ -47,6 +48,13 @@ public class AnimationOrAnimator {
     private OneShotEndAction mEndAction;
 
     public static AnimationOrAnimator loadAnimation(Activity activity, @AnimatorRes @AnimRes int nextAnim) {
+        if (SceneGlobalConfig.animationResourceCacheEnabled) {
+            return AnimationOrAnimatorCache.loadAnimation(activity, nextAnim);
+        }
+        return parseAnimation(activity, nextAnim);
+    }
+
+    static AnimationOrAnimator parseAnimation(Activity activity, @AnimatorRes @AnimRes int nextAnim) {
         String dir = activity.getResources().getResourceTypeName(nextAnim);
         boolean isAnim = "anim".equals(dir);
         boolean successfulLoad = false;
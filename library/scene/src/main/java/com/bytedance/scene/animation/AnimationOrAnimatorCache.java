@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.animation;
+
+import android.animation.Animator;
+import android.app.Activity;
+import android.content.res.Configuration;
+import android.util.SparseArray;
+import android.view.animation.Animation;
+
+import androidx.annotation.AnimRes;
+import androidx.annotation.AnimatorRes;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.SceneGlobalConfig;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Parsed animation resources of every Activity, {@link AnimationOrAnimator#loadAnimation(Activity, int)} hands out
+ * clones of them when {@link SceneGlobalConfig#animationResourceCacheEnabled} is true, so repeated pushes with the
+ * same resource parse no XML.
+ * <p>
+ * Resources are resolved with the Activity theme, so prototypes are kept per Activity and dropped when the Activity
+ * is collected or its Configuration changes.
+ */
+@MainThread
+public final class AnimationOrAnimatorCache {
+    private static final Map<Activity, ActivityCache> sActivityCacheMap = new WeakHashMap<>();
+    private static Method sAnimationCloneMethod;
+    private static boolean sAnimationCloneMethodFailed;
+
+    private static class ActivityCache {
+        private final Configuration mConfiguration;
+        private final SparseArray<Object> mPrototypes = new SparseArray<>();
+
+        private ActivityCache(@NonNull Configuration configuration) {
+            this.mConfiguration = new Configuration(configuration);
+        }
+    }
+
+    private AnimationOrAnimatorCache() {
+    }
+
+    /**
+     * Parse resources ahead of the first navigation, for example in Activity.onCreate
+     */
+    public static void warm(@NonNull Activity activity, @AnimatorRes @AnimRes int... resIds) {
+        ActivityCache cache = getActivityCache(activity);
+        for (int resId : resIds) {
+            if (resId != 0 && cache.mPrototypes.get(resId) == null) {
+                putPrototype(cache, resId, AnimationOrAnimator.parseAnimation(activity, resId));
+            }
+        }
+    }
+
+    public static void evict(@NonNull Activity activity) {
+        sActivityCacheMap.remove(activity);
+    }
+
+    public static void clear() {
+        sActivityCacheMap.clear();
+    }
+
+    @NonNull
+    static AnimationOrAnimator loadAnimation(@NonNull Activity activity, @AnimatorRes @AnimRes int resId) {
+        ActivityCache cache = getActivityCache(activity);
+        Object prototype = cache.mPrototypes.get(resId);
+        if (prototype instanceof Animator) {
+            return new AnimationOrAnimator(((Animator) prototype).clone());
+        } else if (prototype instanceof Animation) {
+            Animation animation = cloneAnimation((Animation) prototype);
+            if (animation != null) {
+                return new AnimationOrAnimator(animation);
+            }
+        }
+
+        AnimationOrAnimator animationOrAnimator = AnimationOrAnimator.parseAnimation(activity, resId);
+        // the first result is handed out, so a clone becomes the prototype
+        AnimationOrAnimator prototypeAnimation = animationOrAnimator.animator != null
+                ? new AnimationOrAnimator(animationOrAnimator.animator.clone())
+                : cloneAnimationOrNull(animationOrAnimator.animation);
+        if (prototypeAnimation != null) {
+            putPrototype(cache, resId, prototypeAnimation);
+        }
+        return animationOrAnimator;
+    }
+
+    private static void putPrototype(@NonNull ActivityCache cache, int resId, @NonNull AnimationOrAnimator animationOrAnimator) {
+        cache.mPrototypes.put(resId, animationOrAnimator.animator != null ? animationOrAnimator.animator : animationOrAnimator.animation);
+    }
+
+    @NonNull
+    private static ActivityCache getActivityCache(@NonNull Activity activity) {
+        Configuration configuration = activity.getResources().getConfiguration();
+        ActivityCache cache = sActivityCacheMap.get(activity);
+        if (cache == null || cache.mConfiguration.diff(configuration) != 0) {
+            cache = new ActivityCache(configuration);
+            sActivityCacheMap.put(activity, cache);
+        }
+        return cache;
+    }
+
+    @Nullable
+    private static AnimationOrAnimator cloneAnimationOrNull(@NonNull Animation animation) {
+        Animation clone = cloneAnimation(animation);
+        return clone != null ? new AnimationOrAnimator(clone) : null;
+    }
+
+    /**
+     * Animation.clone() is protected, it deep copies AnimationSet children and resets the transformation state
+     */
+    @Nullable
+    private static Animation cloneAnimation(@NonNull Animation animation) {
+        if (sAnimationCloneMethodFailed) {
+            return null;
+        }
+        try {
+            if (sAnimationCloneMethod == null) {
+                Method method = Animation.class.getDeclaredMethod("clone");
+                method.setAccessible(true);
+                sAnimationCloneMethod = method;
+            }
+            return (Animation) sAnimationCloneMethod.invoke(animation);
+        } catch (Exception e) {
+            // fall back to parse the resource every time
+            sAnimationCloneMethodFailed = true;
+            return null;
+        }
+    }
+}
@@ -35,6 +35,8 @@ import com.bytedance.scene.State;
 public abstract class AsyncLayoutGroupScene extends UserVisibleHintGroupScene {
     private boolean mAsyncLayoutEnabled = false;
     private boolean mViewAsyncCreated = false;
+    @Nullable
+    private SceneAsyncLayoutInflater mAsyncLayoutInflater;
 
     @NonNull
     @Override
@@ -42,9 +44,12 @@ public abstract class AsyncLayoutGroupScene extends UserVisibleHintGroupScene {
         if (this.mAsyncLayoutEnabled) {
             final FrameLayout frameLayout = new FrameLayout(requireSceneContext());
             SceneAsyncLayoutInflater asyncLayoutInflater = new SceneAsyncLayoutInflater(requireSceneContext());
-            asyncLayoutInflater.inflate(getLayoutId(), container, new SceneAsyncLayoutInflater.OnInflateFinishedListener() {
+            this.mAsyncLayoutInflater = asyncLayoutInflater;
+            int priority = getUserVisibleHint() ? SceneAsyncInflateExecutor.PRIORITY_HIGH : SceneAsyncInflateExecutor.PRIORITY_NORMAL;
+            asyncLayoutInflater.inflate(getLayoutId(), container, priority, new SceneAsyncLayoutInflater.OnInflateFinishedListener() {
                 @Override
                 public void onInflateFinished(@NonNull View view, int resid, @Nullable ViewGroup parent) {
+                    mAsyncLayoutInflater = null;
                     State state = getState();
                     if (state == State.NONE) {
                         return;
@@ -100,11 +105,25 @@ public abstract class AsyncLayoutGroupScene extends UserVisibleHintGroupScene {
         super.setUserVisibleHint(isVisibleToUser);
         if (isVisibleToUser) {
             setAsyncLayoutEnabled(false);
+            // the page becomes visible while its layout is still queued, inflate it before the others
+            if (this.mAsyncLayoutInflater != null) {
+                this.mAsyncLayoutInflater.setPriority(SceneAsyncInflateExecutor.PRIORITY_HIGH);
+            }
         } else {
             setAsyncLayoutEnabled(true);
         }
     }
 
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        // Scene is going to be destroyed, drop the queued inflation
+        if (this.mAsyncLayoutInflater != null) {
+            this.mAsyncLayoutInflater.cancel();
+            this.mAsyncLayoutInflater = null;
+        }
+    }
+
     @Override
     public final void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
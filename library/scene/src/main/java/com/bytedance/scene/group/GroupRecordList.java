@@ -22,6 +22,7 @@ import android.view.View;
 
 import androidx.annotation.NonNull;
 
+import com.bytedance.scene.R;
 import com.bytedance.scene.Scene;
 import com.bytedance.scene.parcel.ParcelConstants;
 import com.bytedance.scene.utlity.SceneInstanceUtility;
@@ -42,17 +43,23 @@ class GroupRecordList {
     private List<GroupRecord> mSceneList = new ArrayList<>();
     private final Map<Scene, GroupRecord> mSceneMap = new HashMap<>();
     private final Map<String, GroupRecord> mTagMap = new HashMap<>();
+    /**
+     * immutable snapshot of child Scenes, rebuilt lazily after the list is changed
+     */
+    private List<Scene> mChildSceneList;
 
     public void add(GroupRecord record) {
         this.mSceneList.add(record);
         this.mSceneMap.put(record.scene, record);
         this.mTagMap.put(record.tag, record);
+        this.mChildSceneList = null;
     }
 
     public void remove(GroupRecord record) {
         this.mSceneList.remove(record);
         this.mSceneMap.remove(record.scene);
         this.mTagMap.remove(record.tag);
+        this.mChildSceneList = null;
     }
 
     public GroupRecord findByScene(Scene scene) {
@@ -64,22 +71,30 @@ class GroupRecordList {
     }
 
     public GroupRecord findByView(View view) {
-        GroupRecord groupRecord = null;
-        for (GroupRecord record : mSceneList) {
-            if (view.equals(record.scene.getView())) {
-                groupRecord = record;
-                break;
-            }
+        // Scene tags its view with itself, so the view is resolved through the Scene index,
+        // which stays in sync with add/remove/restore even though the view is created after add
+        Object tag = view.getTag(R.id.bytedance_scene_view_scene_tag);
+        if (!(tag instanceof Scene)) {
+            return null;
+        }
+        GroupRecord record = this.mSceneMap.get(tag);
+        if (record == null || record.scene.getView() != view) {
+            return null;
         }
-        return groupRecord;
+        return record;
     }
 
     public List<Scene> getChildSceneList() {
-        List<Scene> sceneList = new ArrayList<>();
-        for (GroupRecord record : mSceneList) {
-            sceneList.add(record.scene);
+        List<Scene> childSceneList = this.mChildSceneList;
+        if (childSceneList == null) {
+            List<Scene> sceneList = new ArrayList<>(mSceneList.size());
+            for (GroupRecord record : mSceneList) {
+                sceneList.add(record.scene);
+            }
+            childSceneList = Collections.unmodifiableList(sceneList);
+            this.mChildSceneList = childSceneList;
         }
-        return Collections.unmodifiableList(sceneList);
+        return childSceneList;
     }
 
     public List<GroupRecord> getChildSceneRecordList() {
@@ -109,11 +124,13 @@ class GroupRecordList {
             this.mSceneMap.put(record.scene, record);
             this.mTagMap.put(record.tag, record);
         }
+        this.mChildSceneList = null;
     }
 
     public void clear() {
         this.mSceneList.clear();
         this.mSceneMap.clear();
         this.mTagMap.clear();
+        this.mChildSceneList = null;
     }
 }
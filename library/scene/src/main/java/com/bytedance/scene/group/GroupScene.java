@@ -36,6 +36,7 @@ import com.bytedance.scene.utlity.ThreadUtility;
 import com.bytedance.scene.utlity.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY;
@@ -105,10 +106,14 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @NonNull
     private final GroupSceneManager mGroupSceneManager;
     @NonNull
-    private final List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> mLifecycleCallbacks = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private static final NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] EMPTY_LIFECYCLE_CALLBACKS = new NonNullPair[0];
+    /**
+     * Copy-on-write, it is replaced on register and unregister so lifecycle dispatch iterates it without copying
+     */
+    private NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] mLifecycleCallbacks = EMPTY_LIFECYCLE_CALLBACKS;
     private boolean mSupportRestore = true;
 
-    private final boolean mSceneLifecycleCallbackObjectCreationOpt = SceneGlobalConfig.sceneLifecycleCallbackObjectCreationOpt;
 
     public GroupScene() {
         this.mGroupSceneManager = new GroupSceneManager(this);
@@ -655,21 +660,33 @@ public abstract class GroupScene extends Scene implements SceneParent {
 
     public final void registerChildSceneLifecycleCallbacks(@NonNull ChildSceneLifecycleCallbacks cb, boolean recursive) {
         ThreadUtility.checkUIThread();
-        this.mLifecycleCallbacks.add(NonNullPair.create(cb, recursive));
+        NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] callbacks = Arrays.copyOf(this.mLifecycleCallbacks, this.mLifecycleCallbacks.length + 1);
+        callbacks[callbacks.length - 1] = NonNullPair.create(cb, recursive);
+        setLifecycleCallbacks(callbacks);
     }
 
     public final void unregisterChildSceneLifecycleCallbacks(@NonNull ChildSceneLifecycleCallbacks cb) {
         ThreadUtility.checkUIThread();
-        NonNullPair<ChildSceneLifecycleCallbacks, Boolean> target = null;
-        for (int i = 0, N = this.mLifecycleCallbacks.size(); i < N; i++) {
-            if (this.mLifecycleCallbacks.get(i).first == cb) {
-                target = this.mLifecycleCallbacks.get(i);
+        NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] callbacks = this.mLifecycleCallbacks;
+        for (int i = 0; i < callbacks.length; i++) {
+            if (callbacks[i].first == cb) {
+                NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] newCallbacks = Arrays.copyOf(callbacks, callbacks.length - 1);
+                System.arraycopy(callbacks, i + 1, newCallbacks, i, callbacks.length - i - 1);
+                setLifecycleCallbacks(newCallbacks);
                 break;
             }
         }
-        if (target != null) {
-            this.mLifecycleCallbacks.remove(target);
+    }
+
+    private void setLifecycleCallbacks(@NonNull NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] callbacks) {
+        this.mLifecycleCallbacks = callbacks;
+        int recursiveCount = 0;
+        for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : callbacks) {
+            if (pair.second) {
+                recursiveCount++;
+            }
         }
+        setChildSceneLifecycleCallbacksCount(callbacks.length, recursiveCount);
     }
 
     @Override
@@ -699,14 +716,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -720,14 +732,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneViewCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneViewCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -741,14 +748,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneActivityCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneActivityCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -762,14 +764,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneStarted(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneStarted(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneStarted(scene);
                 }
             }
         }
@@ -783,14 +780,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneResumed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneResumed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneResumed(scene);
                 }
             }
         }
@@ -804,14 +796,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreScenePaused(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreScenePaused(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreScenePaused(scene);
                 }
             }
         }
@@ -825,14 +812,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneStopped(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneStopped(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneStopped(scene);
                 }
             }
         }
@@ -846,14 +828,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneViewDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneViewDestroyed(scene);
                 }
             }
         }
@@ -867,14 +844,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneDestroyed(scene);
                 }
             }
         }
@@ -888,14 +860,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnPreSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneSaveInstanceState(scene, outState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneSaveInstanceState(scene, outState);
                 }
             }
         }
@@ -909,14 +876,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -930,14 +892,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneViewCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneViewCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -951,14 +908,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneActivityCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneActivityCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -972,14 +924,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneStarted(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneStarted(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneStarted(scene);
                 }
             }
         }
@@ -993,14 +940,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneResumed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneResumed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneResumed(scene);
                 }
             }
         }
@@ -1014,14 +956,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperScenePaused(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperScenePaused(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperScenePaused(scene);
                 }
             }
         }
@@ -1035,14 +972,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneStopped(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneStopped(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneStopped(scene);
                 }
             }
         }
@@ -1056,14 +988,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneViewDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneViewDestroyed(scene);
                 }
             }
         }
@@ -1077,14 +1004,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneDestroyed(scene);
                 }
             }
         }
@@ -1098,14 +1020,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public void dispatchOnSuperSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneSaveInstanceState(scene, outState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneSaveInstanceState(scene, outState);
                 }
             }
         }
@@ -1119,14 +1036,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1141,14 +1053,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneViewCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneViewCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1163,14 +1070,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneActivityCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneActivityCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1185,14 +1087,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneStarted(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneStarted(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneStarted(scene);
                 }
             }
         }
@@ -1207,14 +1104,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneResumed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneResumed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneResumed(scene);
                 }
             }
         }
@@ -1229,14 +1121,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneStopped(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneStopped(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneStopped(scene);
                 }
             }
         }
@@ -1251,14 +1138,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnScenePaused(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onScenePaused(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onScenePaused(scene);
                 }
             }
         }
@@ -1273,14 +1155,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneSaveInstanceState(scene, outState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneSaveInstanceState(scene, outState);
                 }
             }
         }
@@ -1295,14 +1172,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneViewDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneViewDestroyed(scene);
                 }
             }
         }
@@ -1317,14 +1189,9 @@ public abstract class GroupScene extends Scene implements SceneParent {
     @Override
     public final void dispatchOnSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneDestroyed(scene);
                 }
             }
         }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.group;
+
+import androidx.annotation.NonNull;
+
+import com.bytedance.scene.SceneGlobalConfig;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker pool of {@link SceneAsyncLayoutInflater}.
+ * <p>
+ * Requests are ordered by priority then by submission order, a request can be promoted or cancelled while it is still queued.
+ * Submission never blocks, when more than {@link SceneGlobalConfig#asyncLayoutInflateMaxPendingCount} requests are queued
+ * the new one is rejected and the caller inflates it on the main thread.
+ * <p>
+ * There is one worker by default. LayoutInflater caches View constructors in a static HashMap which createView reads and
+ * writes without synchronization, for all inflaters, so concurrent inflation can corrupt the map or return a wrong
+ * constructor. {@link SceneGlobalConfig#asyncLayoutInflateThreadCount} above 1 is an opt-in which is only safe when every
+ * View class of the inflated layouts was already inflated once before the workers start.
+ */
+public final class SceneAsyncInflateExecutor {
+    public static final int PRIORITY_NORMAL = 0;
+    public static final int PRIORITY_HIGH = 1;
+
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+    private static volatile SceneAsyncInflateExecutor sInstance;
+
+    @NonNull
+    public static SceneAsyncInflateExecutor getInstance() {
+        if (sInstance == null) {
+            synchronized (SceneAsyncInflateExecutor.class) {
+                if (sInstance == null) {
+                    int threadCount = Math.max(1, SceneGlobalConfig.asyncLayoutInflateThreadCount);
+                    sInstance = new SceneAsyncInflateExecutor(threadCount, SceneGlobalConfig.asyncLayoutInflateMaxPendingCount);
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    private final ThreadPoolExecutor mExecutor;
+    private final int mThreadCount;
+    private final int mMaxPendingCount;
+    private final AtomicLong mSequence = new AtomicLong();
+    private volatile int mThreadPriority = Thread.NORM_PRIORITY;
+
+    private final AtomicInteger mMaxQueueDepth = new AtomicInteger();
+    private final AtomicLong mSubmittedCount = new AtomicLong();
+    private final AtomicLong mCompletedCount = new AtomicLong();
+    private final AtomicLong mRejectedCount = new AtomicLong();
+    private final AtomicLong mCancelledCount = new AtomicLong();
+    private final AtomicLong mTotalWaitTimeNanos = new AtomicLong();
+    private final AtomicLong mTotalRunTimeNanos = new AtomicLong();
+
+    SceneAsyncInflateExecutor(int threadCount, int maxPendingCount) {
+        this.mThreadCount = threadCount;
+        this.mMaxPendingCount = maxPendingCount;
+        this.mExecutor = new ThreadPoolExecutor(threadCount, threadCount, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger mThreadIndex = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                Thread thread = new Thread(runnable, "SceneAsyncInflate-" + mThreadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(mThreadPriority);
+                return thread;
+            }
+        });
+        this.mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return false if the queue is full, the task is not executed and the caller should run it by itself
+     */
+    boolean submit(@NonNull Task task) {
+        if (this.mExecutor.getQueue().size() >= this.mMaxPendingCount) {
+            this.mRejectedCount.incrementAndGet();
+            return false;
+        }
+        task.mExecutor = this;
+        task.mSequence = this.mSequence.incrementAndGet();
+        task.mSubmitTimeNanos = System.nanoTime();
+        this.mSubmittedCount.incrementAndGet();
+        this.mExecutor.execute(task);
+
+        int queueDepth = this.mExecutor.getQueue().size();
+        int maxQueueDepth;
+        while (queueDepth > (maxQueueDepth = this.mMaxQueueDepth.get())) {
+            if (this.mMaxQueueDepth.compareAndSet(maxQueueDepth, queueDepth)) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    public int getThreadCount() {
+        return this.mThreadCount;
+    }
+
+    public void setThreadPriority(int newPriority) {
+        this.mThreadPriority = newPriority;
+    }
+
+    public int getThreadPriority() {
+        return this.mThreadPriority;
+    }
+
+    /**
+     * @return count of requests waiting for a worker
+     */
+    public int getQueueDepth() {
+        return this.mExecutor.getQueue().size();
+    }
+
+    public int getMaxQueueDepth() {
+        return this.mMaxQueueDepth.get();
+    }
+
+    public long getSubmittedCount() {
+        return this.mSubmittedCount.get();
+    }
+
+    public long getCompletedCount() {
+        return this.mCompletedCount.get();
+    }
+
+    /**
+     * @return count of requests inflated on the main thread because the queue was full
+     */
+    public long getRejectedCount() {
+        return this.mRejectedCount.get();
+    }
+
+    /**
+     * @return count of requests removed from the queue before a worker picked them up
+     */
+    public long getCancelledCount() {
+        return this.mCancelledCount.get();
+    }
+
+    /**
+     * @return average time from submission to a worker picking the request up
+     */
+    public long getAverageWaitTimeMillis() {
+        long count = this.mCompletedCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.mTotalWaitTimeNanos.get() / count);
+    }
+
+    /**
+     * @return average time a worker spends inflating a request
+     */
+    public long getAverageInflateTimeMillis() {
+        long count = this.mCompletedCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.mTotalRunTimeNanos.get() / count);
+    }
+
+    abstract static class Task implements Runnable, Comparable<Task> {
+        private SceneAsyncInflateExecutor mExecutor;
+        private volatile int mPriority;
+        private volatile boolean mCancelled;
+        private long mSequence;
+        private long mSubmitTimeNanos;
+
+        Task(int priority) {
+            this.mPriority = priority;
+        }
+
+        abstract void runInBackground();
+
+        @Override
+        public final void run() {
+            if (this.mCancelled) {
+                return;
+            }
+            SceneAsyncInflateExecutor executor = this.mExecutor;
+            Thread thread = Thread.currentThread();
+            if (thread.getPriority() != executor.mThreadPriority) {
+                thread.setPriority(executor.mThreadPriority);
+            }
+            long startTimeNanos = System.nanoTime();
+            try {
+                runInBackground();
+            } finally {
+                long endTimeNanos = System.nanoTime();
+                executor.mTotalWaitTimeNanos.addAndGet(startTimeNanos - this.mSubmitTimeNanos);
+                executor.mTotalRunTimeNanos.addAndGet(endTimeNanos - startTimeNanos);
+                executor.mCompletedCount.incrementAndGet();
+            }
+        }
+
+        @Override
+        public int compareTo(@NonNull Task other) {
+            if (this.mPriority != other.mPriority) {
+                return this.mPriority > other.mPriority ? -1 : 1;
+            }
+            return Long.compare(this.mSequence, other.mSequence);
+        }
+
+        /**
+         * Raise the priority of a task which is still queued
+         */
+        void promote(int priority) {
+            SceneAsyncInflateExecutor executor = this.mExecutor;
+            if (priority <= this.mPriority || this.mCancelled) {
+                return;
+            }
+            if (executor == null) {
+                this.mPriority = priority;
+                return;
+            }
+            // priority is part of the queue order, so the task must leave the queue before it changes
+            if (executor.mExecutor.remove(this)) {
+                this.mPriority = priority;
+                executor.mExecutor.execute(this);
+            }
+        }
+
+        /**
+         * @return true if the task was still queued and will never run
+         */
+        boolean cancel() {
+            this.mCancelled = true;
+            SceneAsyncInflateExecutor executor = this.mExecutor;
+            if (executor != null && executor.mExecutor.remove(this)) {
+                executor.mCancelledCount.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        boolean isCancelled() {
+            return this.mCancelled;
+        }
+    }
+}
@@ -31,11 +31,11 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 import androidx.annotation.UiThread;
-import androidx.core.util.Pools;
 
 import com.bytedance.scene.view.SceneContextThemeWrapper;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 
 /** @hide */
 @RestrictTo(LIBRARY_GROUP)
@@ -44,7 +44,8 @@ public final class SceneAsyncLayoutInflater {
 
     LayoutInflater mInflater;
     Handler mHandler;
-    InflateThread mInflateThread;
+    SceneAsyncInflateExecutor mInflateExecutor;
+    private final List<InflateRequest> mPendingRequestList = new ArrayList<>();
 
     public SceneAsyncLayoutInflater(@NonNull Context sceneContext) {
         Context contextThemeWrapper = new SceneContextThemeWrapper(sceneContext, sceneContext.getTheme()) {
@@ -58,34 +59,69 @@ public final class SceneAsyncLayoutInflater {
         };
         mInflater = new BasicInflater(LayoutInflater.from(sceneContext), contextThemeWrapper);
         mHandler = new Handler(mHandlerCallback);
-        mInflateThread = InflateThread.getInstance();
+        mInflateExecutor = SceneAsyncInflateExecutor.getInstance();
     }
 
     @UiThread
     public void inflate(@LayoutRes int resid, @Nullable ViewGroup parent,
                         @NonNull OnInflateFinishedListener callback) {
+        inflate(resid, parent, SceneAsyncInflateExecutor.PRIORITY_NORMAL, callback);
+    }
+
+    @UiThread
+    public void inflate(@LayoutRes int resid, @Nullable ViewGroup parent, int priority,
+                        @NonNull OnInflateFinishedListener callback) {
         if (callback == null) {
             throw new NullPointerException("callback argument may not be null!");
         }
-        InflateRequest request = mInflateThread.obtainRequest();
+        InflateRequest request = new InflateRequest(priority);
         request.inflater = this;
         request.resid = resid;
         request.parent = parent;
         request.callback = callback;
-        mInflateThread.enqueue(request);
+        mPendingRequestList.add(request);
+        if (!mInflateExecutor.submit(request)) {
+            // queue is full, inflate it on the UI thread later instead of blocking now
+            Message.obtain(mHandler, 0, request).sendToTarget();
+        }
+    }
+
+    /**
+     * Raise the priority of pending requests, for example when the Scene becomes visible
+     */
+    @UiThread
+    public void setPriority(int priority) {
+        for (int i = 0; i < mPendingRequestList.size(); i++) {
+            mPendingRequestList.get(i).promote(priority);
+        }
+    }
+
+    /**
+     * Cancel pending requests, their callbacks will not be invoked
+     */
+    @UiThread
+    public void cancel() {
+        for (int i = 0; i < mPendingRequestList.size(); i++) {
+            mPendingRequestList.get(i).cancel();
+        }
+        mPendingRequestList.clear();
+        mHandler.removeCallbacksAndMessages(null);
     }
 
     private Handler.Callback mHandlerCallback = new Handler.Callback() {
         @Override
         public boolean handleMessage(Message msg) {
             InflateRequest request = (InflateRequest) msg.obj;
+            mPendingRequestList.remove(request);
+            if (request.isCancelled()) {
+                return true;
+            }
             if (request.view == null) {
                 request.view = mInflater.inflate(
                         request.resid, request.parent, false);
             }
             request.callback.onInflateFinished(
                     request.view, request.resid, request.parent);
-            mInflateThread.releaseRequest(request);
             return true;
         }
     };
@@ -95,14 +131,32 @@ public final class SceneAsyncLayoutInflater {
                                @Nullable ViewGroup parent);
     }
 
-    private static class InflateRequest {
+    private static class InflateRequest extends SceneAsyncInflateExecutor.Task {
         SceneAsyncLayoutInflater inflater;
         ViewGroup parent;
         int resid;
         View view;
         OnInflateFinishedListener callback;
 
-        InflateRequest() {
+        InflateRequest(int priority) {
+            super(priority);
+        }
+
+        @Override
+        void runInBackground() {
+            try {
+                // one LayoutInflater is not safe to be used by several workers at the same time, this does not
+                // protect the static constructor cache shared by all inflaters, see SceneAsyncInflateExecutor
+                synchronized (this.inflater.mInflater) {
+                    this.view = this.inflater.mInflater.inflate(this.resid, this.parent, false);
+                }
+            } catch (RuntimeException ex) {
+                // Probably a Looper failure, retry on the UI thread
+                Log.w(TAG, "Failed to inflate resource in the background! Retrying on the UI"
+                        + " thread", ex);
+            }
+            Message.obtain(this.inflater.mHandler, 0, this)
+                    .sendToTarget();
         }
     }
 
@@ -141,84 +195,10 @@ public final class SceneAsyncLayoutInflater {
     }
 
     public void setThreadPriority(int newPriority) {
-        InflateThread.getInstance().setPriority(newPriority);
+        mInflateExecutor.setThreadPriority(newPriority);
     }
 
     public int getThreadPriority() {
-        return InflateThread.getInstance().getPriority();
-    }
-
-    private static class InflateThread extends Thread {
-        private static final InflateThread sInstance;
-
-        static {
-            sInstance = new InflateThread();
-            sInstance.start();
-        }
-
-        public static InflateThread getInstance() {
-            return sInstance;
-        }
-
-        private ArrayBlockingQueue<InflateRequest> mQueue = new ArrayBlockingQueue<>(10);
-        private Pools.SynchronizedPool<InflateRequest> mRequestPool = new Pools.SynchronizedPool<>(10);
-
-        // Extracted to its own method to ensure locals have a constrained liveness
-        // scope by the GC. This is needed to avoid keeping previous request references
-        // alive for an indeterminate amount of time, see b/33158143 for details
-        public void runInner() {
-            InflateRequest request;
-            try {
-                request = mQueue.take();
-            } catch (InterruptedException ex) {
-                // Odd, just continue
-                Log.w(TAG, ex);
-                return;
-            }
-
-            try {
-                request.view = request.inflater.mInflater.inflate(
-                        request.resid, request.parent, false);
-            } catch (RuntimeException ex) {
-                // Probably a Looper failure, retry on the UI thread
-                Log.w(TAG, "Failed to inflate resource in the background! Retrying on the UI"
-                        + " thread", ex);
-            }
-            Message.obtain(request.inflater.mHandler, 0, request)
-                    .sendToTarget();
-        }
-
-        @Override
-        public void run() {
-            while (true) {
-                runInner();
-            }
-        }
-
-        public InflateRequest obtainRequest() {
-            InflateRequest obj = mRequestPool.acquire();
-            if (obj == null) {
-                obj = new InflateRequest();
-            }
-            return obj;
-        }
-
-        public void releaseRequest(InflateRequest obj) {
-            obj.callback = null;
-            obj.inflater = null;
-            obj.parent = null;
-            obj.resid = 0;
-            obj.view = null;
-            mRequestPool.release(obj);
-        }
-
-        public void enqueue(InflateRequest request) {
-            try {
-                mQueue.put(request);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(
-                        "Failed to enqueue async inflate request", e);
-            }
-        }
+        return mInflateExecutor.getThreadPriority();
     }
-}
\ No newline at end of file
+}
@@ -17,12 +17,19 @@ package com.bytedance.scene.logger;
 
 import android.util.Log;
 
+import androidx.annotation.NonNull;
+
 /**
  * Created by jiangqi on 2023/11/5
  *
  * @author jiangqi@bytedance.com
  */
-public class DefaultLogger implements Logger {
+public class DefaultLogger implements TagLogger {
+    @Override
+    public void log(int level, @NonNull String tag, @NonNull String msg) {
+        Log.println(level, tag, msg);
+    }
+
     @Override
     public void v(String tag, String msg) {
         Log.v(tag, msg);
@@ -30,16 +37,16 @@ public class DefaultLogger implements Logger {
 
     @Override
     public void d(String tag, String msg) {
-        Log.v(tag, msg);
+        Log.d(tag, msg);
     }
 
     @Override
     public void i(String tag, String msg) {
-        Log.v(tag, msg);
+        Log.i(tag, msg);
     }
 
     @Override
     public void e(String tag, String msg) {
-        Log.v(tag, msg);
+        Log.e(tag, msg);
     }
 }
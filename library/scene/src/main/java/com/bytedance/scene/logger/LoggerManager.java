@@ -15,17 +15,38 @@
  */
 package com.bytedance.scene.logger;
 
+import android.util.Log;
+
 import androidx.annotation.NonNull;
 
+import java.util.Locale;
+
 /**
  * Created by jiangqi on 2023/11/5
  *
  * @author jiangqi@bytedance.com
  */
 public class LoggerManager {
+    public static final int VERBOSE = Log.VERBOSE;
+    public static final int DEBUG = Log.DEBUG;
+    public static final int INFO = Log.INFO;
+    public static final int ERROR = Log.ERROR;
+    /**
+     * Disable all logs, every log method returns before building any message
+     */
+    public static final int NONE = Integer.MAX_VALUE;
+
     private static final LoggerManager sInstance = new LoggerManager();
     private static final String TAG = "Scene Framework";
 
+    /**
+     * Build log message lazily, it will only be invoked when the level is loggable
+     */
+    public interface MessageSupplier {
+        @NonNull
+        String get();
+    }
+
     private LoggerManager() {
 
     }
@@ -34,25 +55,152 @@ public class LoggerManager {
         return sInstance;
     }
 
-    private Logger mLogger = new DefaultLogger();
+    private volatile Logger mLogger = new DefaultLogger();
+    private volatile int mLogLevel = VERBOSE;
 
     public void setLogger(@NonNull Logger logger) {
         this.mLogger = logger;
     }
 
+    /**
+     * Set minimum log level, messages below this level are dropped before they are formatted,
+     * use {@link #NONE} to disable all logs
+     */
+    public void setLogLevel(int level) {
+        this.mLogLevel = level;
+    }
+
+    public int getLogLevel() {
+        return this.mLogLevel;
+    }
+
+    public boolean isLoggable(int level) {
+        return level >= this.mLogLevel;
+    }
+
     public void v(String tag, String msg) {
-        this.mLogger.v(TAG, tag + " " + msg);
+        if (isLoggable(VERBOSE)) {
+            log(VERBOSE, tag, msg);
+        }
+    }
+
+    public void v(String tag, String format, Object arg) {
+        if (isLoggable(VERBOSE)) {
+            log(VERBOSE, tag, format(format, arg));
+        }
+    }
+
+    public void v(String tag, String format, Object arg1, Object arg2) {
+        if (isLoggable(VERBOSE)) {
+            log(VERBOSE, tag, format(format, arg1, arg2));
+        }
+    }
+
+    public void v(String tag, @NonNull MessageSupplier supplier) {
+        if (isLoggable(VERBOSE)) {
+            log(VERBOSE, tag, supplier.get());
+        }
     }
 
     public void d(String tag, String msg) {
-        this.mLogger.v(TAG, tag + " " + msg);
+        if (isLoggable(DEBUG)) {
+            log(DEBUG, tag, msg);
+        }
+    }
+
+    public void d(String tag, String format, Object arg) {
+        if (isLoggable(DEBUG)) {
+            log(DEBUG, tag, format(format, arg));
+        }
+    }
+
+    public void d(String tag, String format, Object arg1, Object arg2) {
+        if (isLoggable(DEBUG)) {
+            log(DEBUG, tag, format(format, arg1, arg2));
+        }
+    }
+
+    public void d(String tag, @NonNull MessageSupplier supplier) {
+        if (isLoggable(DEBUG)) {
+            log(DEBUG, tag, supplier.get());
+        }
     }
 
     public void i(String tag, String msg) {
-        this.mLogger.v(TAG, tag + " " + msg);
+        if (isLoggable(INFO)) {
+            log(INFO, tag, msg);
+        }
+    }
+
+    public void i(String tag, String format, Object arg) {
+        if (isLoggable(INFO)) {
+            log(INFO, tag, format(format, arg));
+        }
+    }
+
+    public void i(String tag, String format, Object arg1, Object arg2) {
+        if (isLoggable(INFO)) {
+            log(INFO, tag, format(format, arg1, arg2));
+        }
+    }
+
+    public void i(String tag, @NonNull MessageSupplier supplier) {
+        if (isLoggable(INFO)) {
+            log(INFO, tag, supplier.get());
+        }
     }
 
     public void e(String tag, String msg) {
-        this.mLogger.v(TAG, tag + " " + msg);
+        if (isLoggable(ERROR)) {
+            log(ERROR, tag, msg);
+        }
+    }
+
+    public void e(String tag, String format, Object arg) {
+        if (isLoggable(ERROR)) {
+            log(ERROR, tag, format(format, arg));
+        }
+    }
+
+    public void e(String tag, String format, Object arg1, Object arg2) {
+        if (isLoggable(ERROR)) {
+            log(ERROR, tag, format(format, arg1, arg2));
+        }
+    }
+
+    public void e(String tag, @NonNull MessageSupplier supplier) {
+        if (isLoggable(ERROR)) {
+            log(ERROR, tag, supplier.get());
+        }
+    }
+
+    /**
+     * A {@link TagLogger} gets the tag as is, other Loggers get the tag prefixed to the message under {@link #TAG}
+     */
+    private void log(int level, String tag, String msg) {
+        Logger logger = this.mLogger;
+        if (logger instanceof TagLogger) {
+            ((TagLogger) logger).log(level, tag, msg);
+            return;
+        }
+        String message = tag + " " + msg;
+        switch (level) {
+            case VERBOSE:
+                logger.v(TAG, message);
+                break;
+            case DEBUG:
+                logger.d(TAG, message);
+                break;
+            case INFO:
+                logger.i(TAG, message);
+                break;
+            default:
+                logger.e(TAG, message);
+                break;
+        }
+    }
+
+    private static String format(String format, Object... args) {
+        return String.format(Locale.US, format, args);
     }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.logger;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Logger which receives the tag of the calling class as is, LoggerManager hands the message over
+ * without prefixing the tag to it
+ */
+public interface TagLogger extends Logger {
+    /**
+     * @param level one of {@link LoggerManager#VERBOSE}, {@link LoggerManager#DEBUG}, {@link LoggerManager#INFO}
+     *              and {@link LoggerManager#ERROR}
+     */
+    void log(int level, @NonNull String tag, @NonNull String msg);
+}
@@ -21,13 +21,14 @@ import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
-import androidx.collection.SimpleArrayMap;
 
 import com.bytedance.scene.Scene;
+import com.bytedance.scene.SceneFactoryRegistry;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 
@@ -40,11 +41,16 @@ import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
  */
 @RestrictTo(LIBRARY_GROUP)
 public class SceneInstanceUtility {
-    private static final SimpleArrayMap<String, Class<?>> sClassMap =
-            new SimpleArrayMap<String, Class<?>>();
+    // restore may run off the main thread, for example in async inflation, so both caches are thread safe
+    private static final ConcurrentHashMap<String, Class<?>> sClassMap = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, Constructor<?>> sConstructorMap = new ConcurrentHashMap<>();
 
     @NonNull
     public static Scene getInstanceFromClassName(Context context, String clazzName, Bundle arguments) {
+        SceneFactoryRegistry.Factory<?> factory = SceneFactoryRegistry.getFactory(clazzName);
+        if (factory != null) {
+            return setArguments(factory.newInstance(), arguments);
+        }
         Class<?> clazz = sClassMap.get(clazzName);
         try {
             if (clazz == null) {
@@ -61,13 +67,17 @@ public class SceneInstanceUtility {
 
     @NonNull
     public static Scene getInstanceFromClass(@NonNull Class<?> clazz, @Nullable Bundle arguments) {
+        SceneFactoryRegistry.Factory<?> factory = SceneFactoryRegistry.getFactory(clazz.getName());
+        if (factory != null) {
+            return setArguments(factory.newInstance(), arguments);
+        }
         try {
-            Scene scene = (Scene) clazz.getConstructor().newInstance();
-            if (arguments != null) {
-                arguments.setClassLoader(scene.getClass().getClassLoader());
-                scene.setArguments(arguments);
+            Constructor<?> constructor = sConstructorMap.get(clazz);
+            if (constructor == null) {
+                constructor = clazz.getConstructor();
+                sConstructorMap.put(clazz, constructor);
             }
-            return scene;
+            return setArguments((Scene) constructor.newInstance(), arguments);
         } catch (java.lang.InstantiationException e) {
             throw new InstantiationException("Unable to instantiate scene " + clazz
                     + ": make sure class name exists, is public, and has an"
@@ -85,6 +95,15 @@ public class SceneInstanceUtility {
         }
     }
 
+    @NonNull
+    private static Scene setArguments(@NonNull Scene scene, @Nullable Bundle arguments) {
+        if (arguments != null) {
+            arguments.setClassLoader(scene.getClass().getClassLoader());
+            scene.setArguments(arguments);
+        }
+        return scene;
+    }
+
     public static boolean isConstructorMethodSupportRestore(Scene scene) {
         Class<? extends Scene> clazz = scene.getClass();
         if (clazz.isAnonymousClass() || clazz.isLocalClass()) {
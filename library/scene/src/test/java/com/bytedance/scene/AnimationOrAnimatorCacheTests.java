@@ -0,0 +1,73 @@
+package com.bytedance.scene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import android.app.Activity;
+import android.view.animation.Interpolator;
+
+import com.bytedance.scene.animation.AnimationOrAnimator;
+import com.bytedance.scene.animation.AnimationOrAnimatorCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class AnimationOrAnimatorCacheTests {
+    @Before
+    public void setUp() {
+        SceneGlobalConfig.animationResourceCacheEnabled = true;
+        AnimationOrAnimatorCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        SceneGlobalConfig.animationResourceCacheEnabled = false;
+        AnimationOrAnimatorCache.clear();
+    }
+
+    @Test
+    public void testAnimationIsCloned() {
+        Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        AnimationOrAnimator first = AnimationOrAnimator.loadAnimation(activity, android.R.anim.fade_in);
+        AnimationOrAnimator second = AnimationOrAnimator.loadAnimation(activity, android.R.anim.fade_in);
+        assertNotNull(first.animation);
+        assertNotNull(second.animation);
+        assertNotSame(first.animation, second.animation);
+        assertEquals(first.animation.getDuration(), second.animation.getDuration());
+
+        // a handed out animation is never shared, reverse() must not leak into the next one
+        Interpolator interpolator = second.animation.getInterpolator();
+        first.reverse();
+        AnimationOrAnimator third = AnimationOrAnimator.loadAnimation(activity, android.R.anim.fade_in);
+        assertSame(interpolator.getClass(), third.animation.getInterpolator().getClass());
+    }
+
+    @Test
+    public void testAnimatorIsCloned() {
+        Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        AnimationOrAnimatorCache.warm(activity, android.R.animator.fade_in, 0);
+        AnimationOrAnimator first = AnimationOrAnimator.loadAnimation(activity, android.R.animator.fade_in);
+        AnimationOrAnimator second = AnimationOrAnimator.loadAnimation(activity, android.R.animator.fade_in);
+        assertNotNull(first.animator);
+        assertNotSame(first.animator, second.animator);
+        assertEquals(first.animator.getDuration(), second.animator.getDuration());
+    }
+
+    @Test
+    public void testDisabled() {
+        SceneGlobalConfig.animationResourceCacheEnabled = false;
+        Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        AnimationOrAnimator first = AnimationOrAnimator.loadAnimation(activity, android.R.anim.fade_out);
+        AnimationOrAnimator second = AnimationOrAnimator.loadAnimation(activity, android.R.anim.fade_out);
+        assertNotSame(first.animation, second.animation);
+    }
+}
@@ -19,6 +19,8 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
@@ -630,6 +632,61 @@ public class ChildSceneLifecycleCallbacksTests {
         groupScene.unregisterChildSceneLifecycleCallbacks(callbacks);
     }
 
+    @Test
+    public void testRecursiveCallbacksChangedAfterChildrenAdded() {
+        final NavigationSourceUtility.TestGroupScene middleScene = new NavigationSourceUtility.TestGroupScene();
+        final GroupScene rootScene = NavigationSourceUtility.createFromSceneLifecycleManager(middleScene);
+        final Scene firstChildScene = new PublicClassScene();
+        middleScene.add(middleScene.mId, firstChildScene, "first");
+
+        final List<Scene> createdSceneList = new ArrayList<>();
+        final List<Scene> destroyedSceneList = new ArrayList<>();
+        final ChildSceneLifecycleCallbacks lateCallbacks = new ChildSceneLifecycleAdapterCallbacks() {
+            @Override
+            public void onSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState) {
+                createdSceneList.add(scene);
+            }
+        };
+        ChildSceneLifecycleCallbacks callbacks = new ChildSceneLifecycleAdapterCallbacks() {
+            @Override
+            public void onSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState) {
+                createdSceneList.add(scene);
+                //register while dispatching, it only receives the following events
+                rootScene.registerChildSceneLifecycleCallbacks(lateCallbacks, true);
+            }
+
+            @Override
+            public void onSceneDestroyed(@NonNull Scene scene) {
+                destroyedSceneList.add(scene);
+            }
+        };
+        //registered after the Scenes below are attached, they must not keep skipping the ancestors
+        rootScene.registerChildSceneLifecycleCallbacks(callbacks, true);
+
+        Scene secondChildScene = new PublicClassScene();
+        middleScene.add(middleScene.mId, secondChildScene, "second");
+        assertEquals(1, createdSceneList.size());
+        assertSame(secondChildScene, createdSceneList.get(0));
+
+        middleScene.remove(firstChildScene);
+        assertEquals(1, destroyedSceneList.size());
+        assertSame(firstChildScene, destroyedSceneList.get(0));
+
+        rootScene.unregisterChildSceneLifecycleCallbacks(callbacks);
+        rootScene.unregisterChildSceneLifecycleCallbacks(lateCallbacks);
+        rootScene.unregisterChildSceneLifecycleCallbacks(lateCallbacks);
+        createdSceneList.clear();
+        middleScene.add(middleScene.mId, new PublicClassScene(), "third");
+        assertTrue(createdSceneList.isEmpty());
+
+        //not recursive, only direct children of middleScene
+        middleScene.registerChildSceneLifecycleCallbacks(lateCallbacks, false);
+        Scene fourthChildScene = new PublicClassScene();
+        middleScene.add(middleScene.mId, fourthChildScene, "fourth");
+        assertEquals(1, createdSceneList.size());
+        assertSame(fourthChildScene, createdSceneList.get(0));
+    }
+
     public static class TestActivity extends Activity {
         public FrameLayout mFrameLayout;
 
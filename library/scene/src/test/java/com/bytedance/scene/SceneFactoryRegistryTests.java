@@ -0,0 +1,104 @@
+package com.bytedance.scene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.utlity.SceneInstanceUtility;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class SceneFactoryRegistryTests {
+
+    /**
+     * No public empty constructor, can only be created by a registered factory
+     */
+    public static class FactoryOnlyScene extends Scene {
+        final String value;
+
+        FactoryOnlyScene(String value) {
+            this.value = value;
+        }
+
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+    }
+
+    @After
+    public void tearDown() {
+        SceneFactoryRegistry.clear();
+    }
+
+    private static void registerFactoryOnlyScene() {
+        SceneFactoryRegistry.register(FactoryOnlyScene.class, new SceneFactoryRegistry.Factory<FactoryOnlyScene>() {
+            @NonNull
+            @Override
+            public FactoryOnlyScene newInstance() {
+                return new FactoryOnlyScene("factory");
+            }
+        });
+    }
+
+    @Test
+    public void testInstanceFromClass() {
+        registerFactoryOnlyScene();
+        Bundle arguments = new Bundle();
+        arguments.putString("key", "value");
+        Scene scene = SceneInstanceUtility.getInstanceFromClass(FactoryOnlyScene.class, arguments);
+        assertEquals("factory", ((FactoryOnlyScene) scene).value);
+        assertSame(arguments, scene.getArguments());
+    }
+
+    @Test
+    public void testInstanceFromClassName() {
+        registerFactoryOnlyScene();
+        Scene scene = SceneInstanceUtility.getInstanceFromClassName(RuntimeEnvironment.getApplication(), FactoryOnlyScene.class.getName(), null);
+        assertEquals("factory", ((FactoryOnlyScene) scene).value);
+        assertNull(scene.getArguments());
+    }
+
+    @Test
+    public void testComponentFactory() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        assertNull(SceneFactoryRegistry.COMPONENT_FACTORY.instantiateScene(classLoader, FactoryOnlyScene.class.getName(), null));
+        registerFactoryOnlyScene();
+        Scene scene = SceneFactoryRegistry.COMPONENT_FACTORY.instantiateScene(classLoader, FactoryOnlyScene.class.getName(), null);
+        assertTrue(scene instanceof FactoryOnlyScene);
+    }
+
+    @Test(expected = SceneInstanceUtility.InstantiationException.class)
+    public void testUnregister() {
+        registerFactoryOnlyScene();
+        SceneFactoryRegistry.unregister(FactoryOnlyScene.class);
+        SceneInstanceUtility.getInstanceFromClass(FactoryOnlyScene.class, null);
+    }
+
+    @Test
+    public void testReflectionFallback() {
+        Scene scene = SceneInstanceUtility.getInstanceFromClassName(RuntimeEnvironment.getApplication(), PublicClassScene.class.getName(), null);
+        assertTrue(scene instanceof PublicClassScene);
+        //constructor is cached
+        Scene second = SceneInstanceUtility.getInstanceFromClass(PublicClassScene.class, null);
+        assertTrue(second instanceof PublicClassScene);
+        assertTrue(scene != second);
+    }
+}
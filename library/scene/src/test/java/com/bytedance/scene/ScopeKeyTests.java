@@ -0,0 +1,91 @@
+package com.bytedance.scene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Bundle;
+
+import com.bytedance.scene.parcel.ParcelConstants;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Format, uniqueness and restore of counter based scope keys, the creation time comparison with UUID based keys
+ * lives in the demo benchmark
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class ScopeKeyTests {
+    private static final int COUNT = 20000;
+
+    @Test
+    public void testScopeKeyUnique() {
+        Scope rootScope = Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope();
+        PublicClassScene scene = new PublicClassScene();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < COUNT; i++) {
+            String key = Scope.getOrGenerateScopeKey(scene, null);
+            assertTrue(key.startsWith(PublicClassScene.class.getName() + "_"));
+            assertTrue(keys.add(key));
+        }
+
+        Scope scope = rootScope.buildScope(scene, null);
+        Bundle bundle = new Bundle();
+        scope.saveInstance(bundle);
+        assertSame(scope, rootScope.buildScope(scene, bundle));
+        assertNotEquals(scope, rootScope.buildScope(scene, null));
+    }
+
+    @Test
+    public void testRestoreLegacyScopeKey() {
+        Scope rootScope = Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope();
+        PublicClassScene scene = new PublicClassScene();
+        String legacyKey = PublicClassScene.class.getName() + "_" + UUID.randomUUID();
+        Bundle bundle = new Bundle();
+        bundle.putString(ParcelConstants.KEY_SCENE_SCOPE_KEY_TAG, legacyKey);
+        assertEquals(legacyKey, Scope.getOrGenerateScopeKey(scene, bundle));
+
+        Scope legacyScope = rootScope.buildScope(scene, bundle);
+        for (int i = 0; i < 100; i++) {
+            assertNotEquals(legacyScope, rootScope.buildScope(scene, null));
+        }
+    }
+
+    @Test
+    public void testScopeKeyFormatAcrossScopes() {
+        Set<String> keys = new HashSet<>();
+        String salt = null;
+        long previousCounter = 0;
+        PublicClassScene scene = new PublicClassScene();
+        for (int i = 0; i < COUNT; i++) {
+            //every Scope has its own root, keys must be unique across the process, not only among siblings
+            Scope scope = Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope().buildScope(scene, null);
+            Bundle bundle = new Bundle();
+            scope.saveInstance(bundle);
+            String key = bundle.getString(ParcelConstants.KEY_SCENE_SCOPE_KEY_TAG);
+            assertTrue(keys.add(key));
+
+            //<scene class>_<process salt>_<counter>
+            String prefix = PublicClassScene.class.getName() + "_";
+            assertTrue(key, key.startsWith(prefix));
+            String[] parts = key.substring(prefix.length()).split("_");
+            assertEquals(key, 2, parts.length);
+            if (salt == null) {
+                salt = parts[0];
+            }
+            assertEquals(salt, parts[0]);
+            long counter = Long.parseLong(parts[1]);
+            assertTrue(counter > previousCounter);
+            previousCounter = counter;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.bytedance.scene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * Scope.getService with {@link SceneGlobalConfig#scopeServiceCacheEnabled}, ancestor lookups are memoized
+ * and invalidated when any ancestor registers or unregisters a service or the Scope is re-parented
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class ScopeServiceCacheTests {
+    private static final int DEPTH = 20;
+
+    @Before
+    public void setUp() {
+        SceneGlobalConfig.scopeServiceCacheEnabled = true;
+        Scope.resetServiceCacheStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        SceneGlobalConfig.scopeServiceCacheEnabled = false;
+        Scope.resetServiceCacheStatistics();
+    }
+
+    private static Scope[] buildScopeChain(int depth) {
+        Scope[] scopes = new Scope[depth];
+        scopes[0] = Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope();
+        for (int i = 1; i < depth; i++) {
+            scopes[i] = scopes[i - 1].buildScope(new PublicClassScene(), null);
+        }
+        return scopes;
+    }
+
+    @Test
+    public void testCacheHit() {
+        Scope[] scopes = buildScopeChain(DEPTH);
+        Scope root = scopes[0];
+        Scope leaf = scopes[DEPTH - 1];
+        Object service = new Object();
+        root.register(String.class, service);
+
+        assertSame(service, leaf.getService(String.class));
+        assertEquals(0, Scope.getServiceCacheHitCount());
+        assertEquals(1, Scope.getServiceCacheMissCount());
+        assertEquals(DEPTH - 1, Scope.getServiceLookupChainLength());
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(service, leaf.getService(String.class));
+        }
+        assertEquals(100, Scope.getServiceCacheHitCount());
+        assertEquals(1, Scope.getServiceCacheMissCount());
+        assertEquals(DEPTH - 1, Scope.getServiceLookupChainLength());
+
+        //a miss is cached too
+        assertNull(leaf.getService(Integer.class));
+        assertNull(leaf.getService(Integer.class));
+        assertEquals(101, Scope.getServiceCacheHitCount());
+    }
+
+    @Test
+    public void testInvalidateWhenAncestorRegister() {
+        Scope[] scopes = buildScopeChain(DEPTH);
+        Scope leaf = scopes[DEPTH - 1];
+        Object rootService = new Object();
+        scopes[0].register(String.class, rootService);
+        assertSame(rootService, leaf.getService(String.class));
+
+        //a nearer ancestor shadows the root service
+        Object middleService = new Object();
+        scopes[DEPTH / 2].register(String.class, middleService);
+        assertSame(middleService, leaf.getService(String.class));
+
+        scopes[DEPTH / 2].unRegister(String.class);
+        assertSame(rootService, leaf.getService(String.class));
+
+        scopes[0].unRegister(String.class);
+        assertNull(leaf.getService(String.class));
+
+        Object inMyScopeService = new Object();
+        scopes[1].registerInMyScope(String.class, inMyScopeService);
+        assertSame(inMyScopeService, leaf.getService(String.class));
+    }
+
+    @Test
+    public void testInvalidateWhenReplaceParentScope() {
+        Scope[] scopes = buildScopeChain(3);
+        Scope otherParent = scopes[0].buildScope(new PublicClassScene(), null);
+        Object service = new Object();
+        Object otherService = new Object();
+        scopes[1].register(String.class, service);
+        otherParent.register(String.class, otherService);
+
+        Scope leaf = scopes[2];
+        assertSame(service, leaf.getService(String.class));
+        leaf.replaceParentScope(otherParent);
+        assertSame(otherService, leaf.getService(String.class));
+
+        //scopes[1] no longer invalidates the leaf, otherParent does
+        scopes[1].unRegister(String.class);
+        assertSame(otherService, leaf.getService(String.class));
+        otherParent.unRegister(String.class);
+        assertNull(leaf.getService(String.class));
+    }
+
+    @Test
+    public void testDisabled() {
+        SceneGlobalConfig.scopeServiceCacheEnabled = false;
+        Scope[] scopes = buildScopeChain(DEPTH);
+        Object service = new Object();
+        scopes[0].register(String.class, service);
+        for (int i = 0; i < 10; i++) {
+            assertSame(service, scopes[DEPTH - 1].getService(String.class));
+        }
+        assertEquals(0, Scope.getServiceCacheHitCount());
+        assertEquals(0, Scope.getServiceCacheMissCount());
+    }
+
+    @Test
+    public void testRepeatedLookupHitsCache() {
+        final int count = 100000;
+        SceneGlobalConfig.scopeServiceCacheEnabled = false;
+        Scope[] uncachedScopes = buildScopeChain(DEPTH);
+        Object uncachedService = new Object();
+        uncachedScopes[0].register(String.class, uncachedService);
+        SceneGlobalConfig.scopeServiceCacheEnabled = true;
+        Scope[] cachedScopes = buildScopeChain(DEPTH);
+        Object cachedService = new Object();
+        cachedScopes[0].register(String.class, cachedService);
+
+        for (int i = 0; i < count; i++) {
+            assertSame(uncachedService, uncachedScopes[DEPTH - 1].getService(String.class));
+        }
+        assertEquals(0, Scope.getServiceCacheHitCount());
+
+        for (int i = 0; i < count; i++) {
+            assertSame(cachedService, cachedScopes[DEPTH - 1].getService(String.class));
+        }
+        assertTrue(Scope.getServiceCacheHitCount() >= count - 1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.bytedance.scene.group;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import android.os.Bundle;
+import android.view.View;
+
+import com.bytedance.scene.NavigationSourceUtility;
+import com.bytedance.scene.PublicClassScene;
+import com.bytedance.scene.Scene;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class GroupRecordListTests {
+    @Test
+    public void testChildSceneListSnapshot() {
+        GroupRecordList recordList = new GroupRecordList();
+        List<Scene> empty = recordList.getChildSceneList();
+        assertSame(empty, recordList.getChildSceneList());
+
+        Scene scene = new PublicClassScene();
+        GroupRecord record = GroupRecord.newInstance(View.NO_ID, scene, "scene");
+        recordList.add(record);
+        List<Scene> snapshot = recordList.getChildSceneList();
+        assertNotSame(empty, snapshot);
+        assertSame(snapshot, recordList.getChildSceneList());
+        assertEquals(1, snapshot.size());
+        assertSame(scene, snapshot.get(0));
+
+        recordList.remove(record);
+        //previous snapshot is immutable and not affected by later changes
+        assertEquals(1, snapshot.size());
+        assertEquals(0, recordList.getChildSceneList().size());
+
+        recordList.add(record);
+        recordList.clear();
+        assertEquals(0, recordList.getChildSceneList().size());
+    }
+
+    @Test
+    public void testFindByView() {
+        GroupScene groupScene = NavigationSourceUtility.createFromSceneLifecycleManager(new PublicClassScene());
+        int viewId = ((NavigationSourceUtility.TestGroupScene) groupScene).mId;
+        PublicClassScene[] scenes = new PublicClassScene[50];
+        GroupRecordList recordList = new GroupRecordList();
+        for (int i = 0; i < scenes.length; i++) {
+            scenes[i] = new PublicClassScene();
+            groupScene.add(viewId, scenes[i], "child" + i);
+            recordList.add(GroupRecord.newInstance(viewId, scenes[i], "child" + i));
+        }
+        for (PublicClassScene scene : scenes) {
+            GroupRecord record = recordList.findByView(scene.getView());
+            assertSame(scene, record.scene);
+        }
+        assertNull(recordList.findByView(new View(groupScene.requireSceneContext())));
+        //a Scene that is not in this list
+        assertNull(recordList.findByView(groupScene.getView()));
+
+        View removedView = scenes[10].getView();
+        recordList.remove(recordList.findByScene(scenes[10]));
+        assertNull(recordList.findByView(removedView));
+    }
+
+    @Test
+    public void testRestoreFromBundle() {
+        GroupRecordList recordList = new GroupRecordList();
+        recordList.add(GroupRecord.newInstance(View.NO_ID, new PublicClassScene(), "a"));
+        recordList.add(GroupRecord.newInstance(View.NO_ID, new PublicClassScene(), "b"));
+        Bundle bundle = new Bundle();
+        recordList.saveToBundle(bundle);
+
+        GroupRecordList restoredList = new GroupRecordList();
+        List<Scene> before = restoredList.getChildSceneList();
+        restoredList.restoreFromBundle(NavigationSourceUtility.createFromSceneLifecycleManager(new PublicClassScene()).requireSceneContext(), bundle);
+        List<Scene> after = restoredList.getChildSceneList();
+        assertNotSame(before, after);
+        assertEquals(2, after.size());
+        assertSame(restoredList.findByTag("a").scene, after.get(0));
+    }
+}
@@ -0,0 +1,110 @@
+package com.bytedance.scene.group;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class SceneAsyncInflateExecutorTests {
+    private static class TestTask extends SceneAsyncInflateExecutor.Task {
+        private final String mName;
+        private final List<String> mOrder;
+        private final CountDownLatch mStartLatch;
+        private final CountDownLatch mFinishLatch;
+
+        TestTask(String name, int priority, List<String> order, CountDownLatch startLatch, CountDownLatch finishLatch) {
+            super(priority);
+            this.mName = name;
+            this.mOrder = order;
+            this.mStartLatch = startLatch;
+            this.mFinishLatch = finishLatch;
+        }
+
+        @Override
+        void runInBackground() {
+            try {
+                if (this.mStartLatch != null) {
+                    this.mStartLatch.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException ignored) {
+            }
+            this.mOrder.add(this.mName);
+            this.mFinishLatch.countDown();
+        }
+    }
+
+    @Test
+    public void testPriorityAndCancel() throws InterruptedException {
+        SceneAsyncInflateExecutor executor = new SceneAsyncInflateExecutor(1, 10);
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        CountDownLatch finishLatch = new CountDownLatch(5);
+
+        //occupy the only worker so the others are queued
+        assertTrue(executor.submit(new TestTask("block", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, blockLatch, finishLatch)));
+        TestTask first = new TestTask("first", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, null, finishLatch);
+        TestTask second = new TestTask("second", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, null, finishLatch);
+        TestTask visible = new TestTask("visible", SceneAsyncInflateExecutor.PRIORITY_HIGH, order, null, finishLatch);
+        TestTask promoted = new TestTask("promoted", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, null, finishLatch);
+        TestTask cancelled = new TestTask("cancelled", SceneAsyncInflateExecutor.PRIORITY_HIGH, order, null, finishLatch);
+        executor.submit(first);
+        executor.submit(second);
+        executor.submit(visible);
+        executor.submit(promoted);
+        executor.submit(cancelled);
+        assertEquals(5, executor.getQueueDepth());
+
+        promoted.promote(SceneAsyncInflateExecutor.PRIORITY_HIGH);
+        assertTrue(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertEquals(4, executor.getQueueDepth());
+
+        blockLatch.countDown();
+        assertTrue(finishLatch.await(5, TimeUnit.SECONDS));
+        //completed count is updated right after the task body returns
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getCompletedCount() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(5, executor.getCompletedCount());
+        assertEquals(1, executor.getCancelledCount());
+        assertEquals(6, executor.getSubmittedCount());
+        assertEquals(5, executor.getMaxQueueDepth());
+        assertEquals(0, executor.getQueueDepth());
+        List<String> expected = new ArrayList<>();
+        Collections.addAll(expected, "block", "visible", "promoted", "first", "second");
+        assertEquals(expected, order);
+    }
+
+    @Test
+    public void testRejectWhenQueueIsFull() throws InterruptedException {
+        SceneAsyncInflateExecutor executor = new SceneAsyncInflateExecutor(1, 2);
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        CountDownLatch finishLatch = new CountDownLatch(3);
+        assertTrue(executor.submit(new TestTask("block", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, blockLatch, finishLatch)));
+        assertTrue(executor.submit(new TestTask("a", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, null, finishLatch)));
+        assertTrue(executor.submit(new TestTask("b", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, null, finishLatch)));
+
+        //submit never blocks, the caller falls back to the main thread
+        assertFalse(executor.submit(new TestTask("c", SceneAsyncInflateExecutor.PRIORITY_NORMAL, order, null, finishLatch)));
+        assertEquals(1, executor.getRejectedCount());
+
+        blockLatch.countDown();
+        assertTrue(finishLatch.await(5, TimeUnit.SECONDS));
+        assertFalse(order.contains("c"));
+    }
+}
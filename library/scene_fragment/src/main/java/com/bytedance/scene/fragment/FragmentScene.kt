@@ -44,6 +44,7 @@ import com.bytedance.scene.ActivityCompatibilityUtility
 import com.bytedance.scene.Scene
 import com.bytedance.scene.interfaces.ActivityCompatibleBehavior
 import com.bytedance.scene.ktx.navigationScene
+import java.util.concurrent.ConcurrentHashMap
 
 internal class FragmentScene : Scene(), ActivityCompatibleBehavior {
 
@@ -53,9 +54,24 @@ internal class FragmentScene : Scene(), ActivityCompatibleBehavior {
         private const val ROOT_FRAGMENT_CLASS_NAME_TAG = "root_fragment_class_name"
         private const val ROOT_FRAGMENT_ARGUMENT_NAME_TAG = "root_fragment_arguments"
 
+        private val fragmentClassCache = ConcurrentHashMap<String, Class<out Fragment>>()
+
+        /**
+         * Fragment callbacks only post to the main thread, so all FragmentScenes share one Handler
+         */
+        private val mainHandler by lazy { Handler(Looper.getMainLooper()) }
+
+        @Suppress("UNCHECKED_CAST")
+        internal fun resolveFragmentClass(className: String): Class<out Fragment> {
+            return fragmentClassCache.getOrPut(className) {
+                Class.forName(className) as Class<out Fragment>
+            }
+        }
+
         fun newInstance(
             fragmentClass: Class<out Fragment>, fragmentArguments: Bundle? = null
         ): FragmentScene {
+            fragmentClassCache.putIfAbsent(fragmentClass.name, fragmentClass)
             val scene = FragmentScene()
             val sceneArgument = Bundle()
             sceneArgument.putString(ROOT_FRAGMENT_CLASS_NAME_TAG, fragmentClass.name)
@@ -65,17 +81,16 @@ internal class FragmentScene : Scene(), ActivityCompatibleBehavior {
         }
     }
 
-    private val fragmentClass: Class<in Fragment>
-        get() {
-            return Class.forName(requireArguments().getString(ROOT_FRAGMENT_CLASS_NAME_TAG)) as Class<in Fragment>
-        }
+    private val fragmentClass: Class<out Fragment> by lazy {
+        resolveFragmentClass(requireNotNull(requireArguments().getString(ROOT_FRAGMENT_CLASS_NAME_TAG)))
+    }
 
     internal var rootFragment: Fragment? = null
 
     private val fragmentLifecycleRegistry = LifecycleRegistry(this)
 
     private val fragmentController: FragmentController by lazy {
-        FragmentController.createController(SceneHostCallBacks(requireActivity(), Handler(), 0))
+        FragmentController.createController(SceneHostCallBacks(requireActivity(), mainHandler, 0))
     }
 
     private val fragmentManager: FragmentManager by lazy {
@@ -107,6 +122,10 @@ internal class FragmentScene : Scene(), ActivityCompatibleBehavior {
             return !this@FragmentScene.isViewDestroyed
         }
 
+        /**
+         * Can't be cached, every Fragment sets its child FragmentManager as the Factory2 of the returned inflater
+         * and a LayoutInflater only accepts one Factory2
+         */
         override fun onGetLayoutInflater(): LayoutInflater {
             return requireFragmentActivity().layoutInflater.cloneInContext(requireFragmentActivity())
         }
@@ -136,9 +155,8 @@ internal class FragmentScene : Scene(), ActivityCompatibleBehavior {
                     )
                 }
             } else {
-                val handler = Handler(Looper.getMainLooper())
                 val activity = requireFragmentActivity()
-                handler.post {
+                mainHandler.post {
                     val grantResults = IntArray(permissions.size)
                     val packageManager = activity.packageManager
                     val packageName = activity.packageName
@@ -208,7 +226,7 @@ internal class FragmentScene : Scene(), ActivityCompatibleBehavior {
         }
 
         if (rootFragment == null) {
-            rootFragment = fragmentClass.newInstance() as Fragment
+            rootFragment = fragmentClass.newInstance()
             rootFragment?.arguments =
                 this.requireArguments().getBundle(ROOT_FRAGMENT_ARGUMENT_NAME_TAG)
         }
@@ -0,0 +1,99 @@
+package com.bytedance.scene.fragment
+
+import android.os.Bundle
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import androidx.fragment.app.Fragment
+import androidx.fragment.app.FragmentActivity
+import com.bytedance.scene.Scene
+import com.bytedance.scene.SceneComponentFactory
+import com.bytedance.scene.SceneLifecycleManager
+import com.bytedance.scene.Scope
+import com.bytedance.scene.State
+import com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor
+import com.bytedance.scene.navigation.NavigationScene
+import com.bytedance.scene.navigation.NavigationSceneOptions
+import org.junit.Assert
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+/**
+ * Fragment class lookup cache and batched FragmentScene push, the push time comparison with a plain Scene
+ * lives in the demo benchmark
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(manifest = Config.NONE)
+class FragmentScenePerformanceTests {
+    companion object {
+        private const val COUNT = 30
+    }
+
+    class TestActivity : FragmentActivity() {
+        lateinit var frameLayout: FrameLayout
+
+        override fun onCreate(savedInstanceState: Bundle?) {
+            super.onCreate(savedInstanceState)
+            frameLayout = FrameLayout(this)
+            setContentView(frameLayout)
+        }
+    }
+
+    class TestFragment : Fragment() {
+        override fun onCreateView(inflater: LayoutInflater, container: ViewGroup?, savedInstanceState: Bundle?): View {
+            return FrameLayout(requireContext())
+        }
+    }
+
+    class TestScene : Scene() {
+        override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+            return FrameLayout(requireSceneContext())
+        }
+    }
+
+    @Test
+    fun testFragmentClassResolvedOnce() {
+        val className = TestFragment::class.java.name
+        Assert.assertSame(FragmentScene.resolveFragmentClass(className), FragmentScene.resolveFragmentClass(className))
+        Assert.assertSame(TestFragment::class.java, FragmentScene.resolveFragmentClass(className))
+    }
+
+    @Test
+    fun testPushFragmentScenes() {
+        val navigationScene = createNavigationScene()
+        for (i in 0 until COUNT) {
+            navigationScene.push(TestFragment::class.java)
+        }
+        navigationScene.forceExecutePendingNavigationOperation()
+
+        Assert.assertEquals(COUNT + 1, navigationScene.sceneList.size)
+        val currentScene = navigationScene.currentScene!!
+        Assert.assertEquals(State.RESUMED, currentScene.state)
+        Assert.assertTrue(currentScene is FragmentScene)
+        Assert.assertTrue((currentScene as FragmentScene).rootFragment!!.isResumed)
+        for (scene in navigationScene.sceneList.subList(1, COUNT)) {
+            Assert.assertTrue(scene is FragmentScene)
+            Assert.assertNotEquals(State.RESUMED, scene.state)
+        }
+    }
+
+    private fun createNavigationScene(): NavigationScene {
+        val activity = Robolectric.buildActivity(TestActivity::class.java).create().start().resume().get()
+        val rootScene = TestScene()
+        val navigationScene = NavigationScene()
+        navigationScene.setArguments(NavigationSceneOptions(TestScene::class.java).toBundle())
+        navigationScene.setDefaultNavigationAnimationExecutor(NoAnimationExecutor())
+        navigationScene.setRootSceneComponentFactory(SceneComponentFactory { _, _, _ -> rootScene })
+
+        val sceneLifecycleManager = SceneLifecycleManager<NavigationScene>()
+        sceneLifecycleManager.onActivityCreated(activity, activity.frameLayout, navigationScene,
+            Scope.RootScopeFactory { Scope.DEFAULT_ROOT_SCOPE_FACTORY.rootScope }, false, null)
+        sceneLifecycleManager.onStart()
+        sceneLifecycleManager.onResume()
+        return navigationScene
+    }
+}
@@ -0,0 +1,73 @@
+# Keep the names of the classes loaded by NavigationScene.preloadClasses(), they are loaded by name.
+# Renaming is disabled only, unused classes can still be removed. Keep in sync with ScenePreloadClasses.
+-keepnames class com.bytedance.scene.NavigationSceneUtility
+-keepnames class com.bytedance.scene.NavigationSceneUtility$Builder
+-keepnames class com.bytedance.scene.SceneDelegate
+-keepnames class com.bytedance.scene.LifeCycleFrameLayout
+-keepnames class com.bytedance.scene.LifeCycleFragmentSceneDelegate
+-keepnames class com.bytedance.scene.NavigationSceneAvailableCallback
+-keepnames class com.bytedance.scene.navigation.NavigationScene
+-keepnames class com.bytedance.scene.navigation.NavigationSceneOptions
+-keepnames class com.bytedance.scene.navigation.NavigationSceneManager
+-keepnames class com.bytedance.scene.navigation.INavigationManager
+-keepnames class com.bytedance.scene.navigation.NavigationManagerAbility
+-keepnames class com.bytedance.scene.navigation.Record
+-keepnames class com.bytedance.scene.navigation.RecordStack
+-keepnames class com.bytedance.scene.navigation.Operation
+-keepnames class com.bytedance.scene.navigation.NavigationListener
+-keepnames class com.bytedance.scene.navigation.NavigationSceneGetter
+-keepnames class com.bytedance.scene.navigation.ActivityCompatibleInfoCollector
+-keepnames class com.bytedance.scene.navigation.ActivityCompatibleInfoCollector$Holder
+-keepnames class com.bytedance.scene.navigation.ActivityStatusRecord
+-keepnames class com.bytedance.scene.navigation.SceneLifecycleStateScheduler
+-keepnames class com.bytedance.scene.navigation.SceneTranslucent
+-keepnames class com.bytedance.scene.navigation.NavigationAnimationCallback
+-keepnames class com.bytedance.scene.navigation.OnBackPressedListener
+-keepnames class com.bytedance.scene.navigation.ConfigurationChangedListener
+-keepnames class com.bytedance.scene.navigation.NavigationTraceListener
+-keepnames class com.bytedance.scene.navigation.NavigationOperationTrace
+-keepnames class com.bytedance.scene.navigation.push.CoordinatePushOptionOperation
+-keepnames class com.bytedance.scene.navigation.push.PushPauseOperation
+-keepnames class com.bytedance.scene.navigation.push.PushCreateOperation
+-keepnames class com.bytedance.scene.navigation.push.PushStopOperation
+-keepnames class com.bytedance.scene.navigation.push.PushAnimationOperation
+-keepnames class com.bytedance.scene.navigation.pop.CoordinatePopOptionOperation
+-keepnames class com.bytedance.scene.navigation.pop.CoordinatePopCountOperation
+-keepnames class com.bytedance.scene.navigation.pop.CoordinatePopOperation
+-keepnames class com.bytedance.scene.navigation.pop.PopPauseOperation
+-keepnames class com.bytedance.scene.navigation.pop.PopResumeOperation
+-keepnames class com.bytedance.scene.navigation.pop.PopDestroyOperation
+-keepnames class com.bytedance.scene.navigation.pop.idle.PopAnimationOperationV2
+-keepnames class com.bytedance.scene.navigation.pop.idle.PopDestroyOperationV2
+-keepnames class com.bytedance.scene.navigation.pop.idle.PopDestroyMiddlePageOperationV2
+-keepnames class com.bytedance.scene.navigation.reuse.NavigationReuseManager
+-keepnames class com.bytedance.scene.navigation.reuse.DefaultReuseBehavior
+-keepnames class com.bytedance.scene.navigation.reuse.ReuseState
+-keepnames class com.bytedance.scene.queue.NavigationMessageQueue
+-keepnames class com.bytedance.scene.queue.NavigationRunnable
+-keepnames class com.bytedance.scene.queue.NavigationTaskList
+-keepnames class com.bytedance.scene.queue.SceneMainRunnable
+-keepnames class com.bytedance.scene.queue.IdleRunnable
+-keepnames class com.bytedance.scene.interfaces.PushOptions
+-keepnames class com.bytedance.scene.interfaces.PushOptions$Builder
+-keepnames class com.bytedance.scene.interfaces.PopOptions
+-keepnames class com.bytedance.scene.interfaces.PopOptions$Builder
+-keepnames class com.bytedance.scene.interfaces.ActivityCompatibleBehavior
+-keepnames class com.bytedance.scene.interfaces.PushResultCallback
+-keepnames class com.bytedance.scene.launchmode.LaunchModeBehavior
+-keepnames class com.bytedance.scene.animation.NavigationAnimationExecutor
+-keepnames class com.bytedance.scene.animation.NavigationAnimatorExecutor
+-keepnames class com.bytedance.scene.animation.AnimationInfo
+-keepnames class com.bytedance.scene.animation.animatorexecutor.Android8DefaultSceneAnimatorExecutor
+-keepnames class com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor
+-keepnames class com.bytedance.scene.animation.animatorexecutor.HorizontalTransitionAnimatorExecutor
+-keepnames class com.bytedance.scene.utlity.AnimatorUtility
+-keepnames class com.bytedance.scene.utlity.CancellationSignalManager
+-keepnames class com.bytedance.scene.utlity.DispatchWindowInsetsListener
+-keepnames class com.bytedance.scene.utlity.NavigationSceneViewUtility
+-keepnames class com.bytedance.scene.utlity.SoftInputUtility
+-keepnames class com.bytedance.scene.utlity.SystemBarFlagUtility
+-keepnames class com.bytedance.scene.utlity.Predicate
+-keepnames class com.bytedance.scene.view.NavigationFrameLayout
+-keepnames class com.bytedance.scene.view.AnimationContainerLayout
+-keepnames class com.bytedance.scene.view.BlockGestureView
@@ -106,9 +106,11 @@ public abstract class NavigationAnimationExecutor {
         suppressRecycleAction.execute(true);
         final View fromView = fromInfo.mSceneView;
         final View toView = toInfo.mSceneView;
-        // In the case of pushAndClear, it is possible that the Scene come from has been destroyed.
+        // In the case of pushAndClear, it is possible that the Scene come from has been destroyed,
+        // in detachInvisibleSceneView mode the view of the stopped Scene may have been removed from the view tree.
+        final boolean isFromViewRemoved = fromInfo.mSceneState.value < State.VIEW_CREATED.value || fromView.getParent() == null;
         if (!mDisableRemoveView) {
-            if (fromInfo.mSceneState.value < State.VIEW_CREATED.value) {
+            if (isFromViewRemoved) {
                 if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
                     mAnimationViewGroup.getOverlay().add(fromView);
                 } else {
@@ -125,7 +127,7 @@ public abstract class NavigationAnimationExecutor {
                 suppressRecycleAction.execute(false);
 
                 if (!mDisableRemoveView) {
-                    if (fromInfo.mSceneState.value < State.VIEW_CREATED.value) {
+                    if (isFromViewRemoved) {
                         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
                             mAnimationViewGroup.getOverlay().remove(fromView);
                         } else {
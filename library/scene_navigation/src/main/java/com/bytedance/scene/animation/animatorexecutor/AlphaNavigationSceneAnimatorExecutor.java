@@ -16,8 +16,9 @@
 package com.bytedance.scene.animation.animatorexecutor;
 
 import android.animation.Animator;
-import android.animation.ValueAnimator;
+import android.animation.ObjectAnimator;
 import androidx.annotation.NonNull;
+import android.view.View;
 
 import com.bytedance.scene.Scene;
 import com.bytedance.scene.animation.AnimationInfo;
@@ -35,26 +36,12 @@ public class AlphaNavigationSceneAnimatorExecutor extends NavigationAnimatorExec
     @NonNull
     @Override
     protected Animator onPushAnimator(AnimationInfo from, final AnimationInfo to) {
-        ValueAnimator valueAnimator = ValueAnimator.ofFloat(0.0f, 1.0f);
-        valueAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                to.mSceneView.setAlpha((float) animation.getAnimatedValue());
-            }
-        });
-        return valueAnimator;
+        return ObjectAnimator.ofFloat(to.mSceneView, View.ALPHA, 0.0f, 1.0f);
     }
 
     @NonNull
     @Override
     protected Animator onPopAnimator(final AnimationInfo fromInfo, final AnimationInfo toInfo) {
-        ValueAnimator valueAnimator = ValueAnimator.ofFloat(1.0f, 0.0f);
-        valueAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                fromInfo.mSceneView.setAlpha((float) animation.getAnimatedValue());
-            }
-        });
-        return valueAnimator;
+        return ObjectAnimator.ofFloat(fromInfo.mSceneView, View.ALPHA, 1.0f, 0.0f);
     }
 }
@@ -21,6 +21,7 @@ import android.animation.ValueAnimator;
 import android.view.View;
 import android.view.animation.AccelerateInterpolator;
 import android.view.animation.DecelerateInterpolator;
+import android.view.animation.Interpolator;
 import android.view.animation.LinearInterpolator;
 
 import androidx.annotation.NonNull;
@@ -36,6 +37,14 @@ import com.bytedance.scene.animation.TransitionUtils;
  * Created by JiangQi on 8/3/18.
  */
 public class Android8DefaultSceneAnimatorExecutor extends NavigationAnimatorExecutor {
+    // interpolators keep no state, they are shared by every navigation
+    private static final Interpolator FAST_OUT_SLOW_IN_INTERPOLATOR = new FastOutSlowInInterpolator();
+    private static final Interpolator DECELERATE_INTERPOLATOR = new DecelerateInterpolator(2);
+    private static final Interpolator TRANSLATE_DECELERATE_INTERPOLATOR = new DecelerateInterpolator(2.5f);
+    private static final Interpolator LINEAR_INTERPOLATOR = new LinearInterpolator();
+    private static final Interpolator ACCELERATE_INTERPOLATOR = new AccelerateInterpolator(2);
+    private static final Interpolator LINEAR_OUT_SLOW_IN_INTERPOLATOR = new LinearOutSlowInInterpolator();
+
     private DialogSceneAnimatorExecutor mDialogSceneAnimatorExecutor = new DialogSceneAnimatorExecutor();
 
     @Override
@@ -58,15 +67,15 @@ public class Android8DefaultSceneAnimatorExecutor extends NavigationAnimatorExec
         final View toView = to.mSceneView;
 
         ValueAnimator fromAlphaAnimator = ObjectAnimator.ofFloat(fromView, View.ALPHA, 1.0f, 1.0f);//之前是0.7，但是动画后面会露出NavigationScene的背景色白色很怪异
-        fromAlphaAnimator.setInterpolator(new FastOutSlowInInterpolator());
+        fromAlphaAnimator.setInterpolator(FAST_OUT_SLOW_IN_INTERPOLATOR);
         fromAlphaAnimator.setDuration(120);
 
         ValueAnimator toAlphaAnimator = ObjectAnimator.ofFloat(toView, View.ALPHA, 0.0f, 1.0f);
-        toAlphaAnimator.setInterpolator(new DecelerateInterpolator(2));
+        toAlphaAnimator.setInterpolator(DECELERATE_INTERPOLATOR);
         toAlphaAnimator.setDuration(120);
 
         ValueAnimator toTranslateAnimator = ObjectAnimator.ofFloat(toView, View.TRANSLATION_Y, 0.08f * toView.getHeight(), 0);
-        toTranslateAnimator.setInterpolator(new DecelerateInterpolator(2.5f));
+        toTranslateAnimator.setInterpolator(TRANSLATE_DECELERATE_INTERPOLATOR);
         toTranslateAnimator.setDuration(200);
         return TransitionUtils.mergeAnimators(fromAlphaAnimator, toAlphaAnimator, toTranslateAnimator);
     }
@@ -81,16 +90,16 @@ public class Android8DefaultSceneAnimatorExecutor extends NavigationAnimatorExec
         final View fromView = fromInfo.mSceneView;
 
         ValueAnimator fromAlphaAnimator = ObjectAnimator.ofFloat(fromView, View.ALPHA, 1.0f, 0.0f);
-        fromAlphaAnimator.setInterpolator(new LinearInterpolator());
+        fromAlphaAnimator.setInterpolator(LINEAR_INTERPOLATOR);
         fromAlphaAnimator.setDuration(150);
         fromAlphaAnimator.setStartDelay(50);
 
         ValueAnimator fromTranslateAnimator = ObjectAnimator.ofFloat(fromView, View.TRANSLATION_Y, 0, 0.08f * toView.getHeight());
-        fromTranslateAnimator.setInterpolator(new AccelerateInterpolator(2));
+        fromTranslateAnimator.setInterpolator(ACCELERATE_INTERPOLATOR);
         fromTranslateAnimator.setDuration(200);
 
         ValueAnimator toAlphaAnimator = ObjectAnimator.ofFloat(toView, View.ALPHA, 0.7f, 1.0f);
-        toAlphaAnimator.setInterpolator(new LinearOutSlowInInterpolator());
+        toAlphaAnimator.setInterpolator(LINEAR_OUT_SLOW_IN_INTERPOLATOR);
         toAlphaAnimator.setDuration(200);
         return TransitionUtils.mergeAnimators(fromAlphaAnimator, fromTranslateAnimator, toAlphaAnimator);
     }
@@ -16,10 +16,11 @@
 package com.bytedance.scene.animation.animatorexecutor;
 
 import android.animation.Animator;
-import android.animation.ValueAnimator;
+import android.animation.ObjectAnimator;
 import androidx.annotation.NonNull;
 import android.view.View;
 import android.view.animation.DecelerateInterpolator;
+import android.view.animation.Interpolator;
 
 import com.bytedance.scene.Scene;
 import com.bytedance.scene.animation.AnimationInfo;
@@ -30,6 +31,7 @@ import com.bytedance.scene.animation.NavigationAnimatorExecutor;
  */
 public class DialogSceneAnimatorExecutor extends NavigationAnimatorExecutor {
     private static final long ANIMATION_DURATION = 150;
+    private static final Interpolator INTERPOLATOR = new DecelerateInterpolator();
 
     @Override
     public boolean isSupport(@NonNull Class<? extends Scene> from, @NonNull Class<? extends Scene> to) {
@@ -46,14 +48,8 @@ public class DialogSceneAnimatorExecutor extends NavigationAnimatorExecutor {
     protected Animator onPushAnimator(AnimationInfo from, final AnimationInfo to) {
         final View toView = to.mSceneView;
         float toViewAlpha = toView.getAlpha();
-        ValueAnimator valueAnimator = ValueAnimator.ofFloat(0.0f, toViewAlpha);
-        valueAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                toView.setAlpha((float) animation.getAnimatedValue());
-            }
-        });
-        valueAnimator.setInterpolator(new DecelerateInterpolator());
+        Animator valueAnimator = ObjectAnimator.ofFloat(toView, View.ALPHA, 0.0f, toViewAlpha);
+        valueAnimator.setInterpolator(INTERPOLATOR);
         valueAnimator.setDuration(ANIMATION_DURATION);
         return valueAnimator;
     }
@@ -61,14 +57,9 @@ public class DialogSceneAnimatorExecutor extends NavigationAnimatorExecutor {
     @NonNull
     @Override
     protected Animator onPopAnimator(final AnimationInfo fromInfo, final AnimationInfo toInfo) {
-        ValueAnimator valueAnimator = ValueAnimator.ofFloat(fromInfo.mSceneView.getAlpha(), 0.0f);
-        valueAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                fromInfo.mSceneView.setAlpha((float) animation.getAnimatedValue());
-            }
-        });
-        valueAnimator.setInterpolator(new DecelerateInterpolator());
+        View fromView = fromInfo.mSceneView;
+        Animator valueAnimator = ObjectAnimator.ofFloat(fromView, View.ALPHA, fromView.getAlpha(), 0.0f);
+        valueAnimator.setInterpolator(INTERPOLATOR);
         valueAnimator.setDuration(ANIMATION_DURATION);
         return valueAnimator;
     }
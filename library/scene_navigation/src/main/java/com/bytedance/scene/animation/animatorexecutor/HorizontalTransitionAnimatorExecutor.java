@@ -16,7 +16,7 @@
 package com.bytedance.scene.animation.animatorexecutor;
 
 import android.animation.Animator;
-import android.animation.ValueAnimator;
+import android.animation.ObjectAnimator;
 import androidx.annotation.NonNull;
 import android.view.View;
 
@@ -37,21 +37,9 @@ public class HorizontalTransitionAnimatorExecutor extends NavigationAnimatorExec
     @NonNull
     @Override
     protected Animator onPushAnimator(final AnimationInfo from, final AnimationInfo to) {
-        ValueAnimator fromViewAnimator = ValueAnimator.ofInt(0, -from.mSceneView.getWidth());
-        fromViewAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                from.mSceneView.setTranslationX((int) animation.getAnimatedValue());
-            }
-        });
-
-        ValueAnimator toViewAnimator = ValueAnimator.ofInt(to.mSceneView.getWidth(), 0);
-        toViewAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                to.mSceneView.setTranslationX((int) animation.getAnimatedValue());
-            }
-        });
+        // View.TRANSLATION_X is a FloatProperty, frames are applied without boxing the animated value
+        Animator fromViewAnimator = ObjectAnimator.ofFloat(from.mSceneView, View.TRANSLATION_X, 0, -from.mSceneView.getWidth());
+        Animator toViewAnimator = ObjectAnimator.ofFloat(to.mSceneView, View.TRANSLATION_X, to.mSceneView.getWidth(), 0);
         return TransitionUtils.mergeAnimators(fromViewAnimator, toViewAnimator);
     }
 
@@ -60,21 +48,8 @@ public class HorizontalTransitionAnimatorExecutor extends NavigationAnimatorExec
     protected Animator onPopAnimator(final AnimationInfo fromInfo, final AnimationInfo toInfo) {
         final View fromView = fromInfo.mSceneView;
         final View toView = toInfo.mSceneView;
-        ValueAnimator fromViewAnimator = ValueAnimator.ofInt(0, fromView.getWidth());
-        fromViewAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                fromView.setTranslationX((int) animation.getAnimatedValue());
-            }
-        });
-
-        ValueAnimator toViewAnimator = ValueAnimator.ofInt(-toView.getWidth(), 0);
-        toViewAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                toView.setTranslationX((int) animation.getAnimatedValue());
-            }
-        });
+        Animator fromViewAnimator = ObjectAnimator.ofFloat(fromView, View.TRANSLATION_X, 0, fromView.getWidth());
+        Animator toViewAnimator = ObjectAnimator.ofFloat(toView, View.TRANSLATION_X, -toView.getWidth(), 0);
         return TransitionUtils.mergeAnimators(fromViewAnimator, toViewAnimator);
     }
 }
@@ -42,7 +42,7 @@ class MutableAnimationExecutor(
         }
         set(value) {
             LoggerManager.getInstance()
-                .i(TAG, "change delegated NavigationAnimationExecutor $_delegated -> $value")
+                .i(TAG, "change delegated NavigationAnimationExecutor %s -> %s", _delegated, value)
             //todo reset previous NavigationAnimationExecutor?
             //make sure the latest NavigationAnimationExecutor properties is correct
             value.setDisableRemoveView(this.mDisableRemoveView)
@@ -54,20 +54,20 @@ class MutableAnimationExecutor(
 
     override fun setDisableRemoveView(disableRemoveView: Boolean) {
         super.setDisableRemoveView(disableRemoveView)
-        LoggerManager.getInstance().i(TAG, "setDisableRemoveView $_delegated")
+        LoggerManager.getInstance().i(TAG, "setDisableRemoveView %s", _delegated)
         _delegated.setDisableRemoveView(disableRemoveView)
     }
 
     @Deprecated("use addAnimationEndAction/removeAnimationEndAction instead")
     override fun setAnimationEndAction(endAction: Runnable?) {
         super.setAnimationEndAction(endAction)
-        LoggerManager.getInstance().i(TAG, "setAnimationEndAction $_delegated")
+        LoggerManager.getInstance().i(TAG, "setAnimationEndAction %s", _delegated)
         _delegated.setAnimationEndAction(endAction)
     }
 
     override fun setAnimationViewGroup(viewGroup: ViewGroup) {
         super.setAnimationViewGroup(viewGroup)
-        LoggerManager.getInstance().i(TAG, "setAnimationViewGroup $_delegated")
+        LoggerManager.getInstance().i(TAG, "setAnimationViewGroup %s", _delegated)
         _delegated.setAnimationViewGroup(viewGroup)
     }
 
@@ -92,7 +92,7 @@ class MutableAnimationExecutor(
         endAction: Runnable,
         cancellationSignal: CancellationSignal
     ) {
-        LoggerManager.getInstance().i(TAG, "executePopChangeCancelable $_delegated")
+        LoggerManager.getInstance().i(TAG, "executePopChangeCancelable %s", _delegated)
         _delegated.executePopChangeCancelable(fromInfo, toInfo, endAction, cancellationSignal)
     }
 
@@ -102,7 +102,7 @@ class MutableAnimationExecutor(
         endAction: Runnable,
         cancellationSignal: CancellationSignal
     ) {
-        LoggerManager.getInstance().i(TAG, "executePushChangeCancelable $_delegated")
+        LoggerManager.getInstance().i(TAG, "executePushChangeCancelable %s", _delegated)
         _delegated.executePushChangeCancelable(fromInfo, toInfo, endAction, cancellationSignal)
     }
 
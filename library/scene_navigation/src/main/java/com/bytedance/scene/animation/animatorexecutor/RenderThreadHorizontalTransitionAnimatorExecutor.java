@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.animation.animatorexecutor;
+
+import android.animation.Animator;
+import android.os.Build;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import com.bytedance.scene.animation.AnimationInfo;
+import com.bytedance.scene.animation.TransitionUtils;
+import com.bytedance.scene.animation.interaction.RenderNodeAnimatorWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Same animation as {@link HorizontalTransitionAnimatorExecutor}, but the translation runs on RenderThread,
+ * so a busy main thread during the first frames of the new Scene does not drop animation frames.
+ * <p>
+ * Falls back to {@link HorizontalTransitionAnimatorExecutor} when RenderNodeAnimator is not accessible
+ * or the Scene views are not hardware accelerated.
+ */
+public class RenderThreadHorizontalTransitionAnimatorExecutor extends HorizontalTransitionAnimatorExecutor {
+    @NonNull
+    @Override
+    protected Animator onPushAnimator(final AnimationInfo from, final AnimationInfo to) {
+        View fromView = from.mSceneView;
+        View toView = to.mSceneView;
+        Animator animator = buildRenderThreadAnimator(fromView, 0, -fromView.getWidth(), toView, toView.getWidth(), 0);
+        return animator != null ? animator : super.onPushAnimator(from, to);
+    }
+
+    @NonNull
+    @Override
+    protected Animator onPopAnimator(final AnimationInfo fromInfo, final AnimationInfo toInfo) {
+        View fromView = fromInfo.mSceneView;
+        View toView = toInfo.mSceneView;
+        Animator animator = buildRenderThreadAnimator(fromView, 0, fromView.getWidth(), toView, -toView.getWidth(), 0);
+        return animator != null ? animator : super.onPopAnimator(fromInfo, toInfo);
+    }
+
+    private static Animator buildRenderThreadAnimator(View fromView, float fromViewStart, float fromViewEnd,
+                                                      View toView, float toViewStart, float toViewEnd) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP
+                || !fromView.isHardwareAccelerated()
+                || !toView.isHardwareAccelerated()
+                || !RenderNodeAnimatorWrapper.isSupported()) {
+            return null;
+        }
+        // RenderNodeAnimator animates from the current property value
+        fromView.setTranslationX(fromViewStart);
+        toView.setTranslationX(toViewStart);
+        List<Animator> animatorList = new ArrayList<>(2);
+        animatorList.addAll(RenderNodeAnimatorWrapper.of(fromView).translationX(fromViewEnd).build());
+        animatorList.addAll(RenderNodeAnimatorWrapper.of(toView).translationX(toViewEnd).build());
+        if (animatorList.size() != 2) {
+            return null;
+        }
+        return TransitionUtils.mergeAnimators(animatorList);
+    }
+}
@@ -93,21 +93,35 @@ public class RenderNodeAnimatorWrapper {
         return sViewPropertyAnimatorMap.get(viewProperty);
     }
 
-    public List<Animator> build() {
-        Constructor constructor = null;
-        Method method = null;
-        try {
-            Class clazz = Class.forName("android.view.RenderNodeAnimator");
-            constructor = clazz.getConstructor(Integer.TYPE, Float.TYPE);
-            constructor.setAccessible(true);
-            method = clazz.getMethod("setTarget", View.class);
-        } catch (Throwable throwable) {
-            throwable.printStackTrace();
+    private static Constructor sRenderNodeAnimatorConstructor;
+    private static Method sSetTargetMethod;
+    private static boolean sReflectionFailed;
+
+    /**
+     * @return false if RenderNodeAnimator is not accessible, {@link #build()} always returns an empty list then
+     */
+    public static boolean isSupported() {
+        if (sRenderNodeAnimatorConstructor == null && !sReflectionFailed) {
+            try {
+                Class clazz = Class.forName("android.view.RenderNodeAnimator");
+                Constructor constructor = clazz.getConstructor(Integer.TYPE, Float.TYPE);
+                constructor.setAccessible(true);
+                sSetTargetMethod = clazz.getMethod("setTarget", View.class);
+                sRenderNodeAnimatorConstructor = constructor;
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+                sReflectionFailed = true;
+            }
         }
+        return sRenderNodeAnimatorConstructor != null;
+    }
 
-        if (constructor == null || method == null) {
+    public List<Animator> build() {
+        if (!isSupported()) {
             return new ArrayList<>();
         }
+        Constructor constructor = sRenderNodeAnimatorConstructor;
+        Method method = sSetTargetMethod;
 
         List<Animator> animatorList = new ArrayList<>();
         AnimatorEventListener animatorEventListener = new AnimatorEventListener();
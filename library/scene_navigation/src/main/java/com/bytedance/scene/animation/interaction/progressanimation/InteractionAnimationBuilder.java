@@ -15,56 +15,25 @@
  */
 package com.bytedance.scene.animation.interaction.progressanimation;
 
-import android.annotation.SuppressLint;
-import android.os.Build;
-import android.util.Property;
 import android.view.View;
 
-import androidx.collection.SparseArrayCompat;
-import androidx.core.util.Pair;
-
-import java.util.HashMap;
-import java.util.Set;
-
 public class InteractionAnimationBuilder {
     public static InteractionAnimationBuilder with(View view) {
         return new InteractionAnimationBuilder(view);
     }
 
-    static final int NONE = 0x0000;
-    private static final int TRANSLATION_X = 0x0001;
-    private static final int TRANSLATION_Y = 0x0002;
-    private static final int TRANSLATION_Z = 0x0004;
-    private static final int SCALE_X = 0x0008;
-    private static final int SCALE_Y = 0x0010;
-    private static final int ROTATION = 0x0020;
-    private static final int ROTATION_X = 0x0040;
-    private static final int ROTATION_Y = 0x0080;
-    private static final int X = 0x0100;
-    private static final int Y = 0x0200;
-    private static final int Z = 0x0400;
-    private static final int ALPHA = 0x0800;
-
-    private static SparseArrayCompat<Property<View, Float>> propertySparseArrayCompat = new SparseArrayCompat<>();
-
-    static {
-        propertySparseArrayCompat.put(TRANSLATION_X, View.TRANSLATION_X);
-        propertySparseArrayCompat.put(TRANSLATION_Y, View.TRANSLATION_Y);
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            propertySparseArrayCompat.put(TRANSLATION_Z, View.TRANSLATION_Z);
-        }
-        propertySparseArrayCompat.put(SCALE_X, View.SCALE_X);
-        propertySparseArrayCompat.put(SCALE_Y, View.SCALE_Y);
-        propertySparseArrayCompat.put(ROTATION, View.ROTATION);
-        propertySparseArrayCompat.put(ROTATION_X, View.ROTATION_X);
-        propertySparseArrayCompat.put(ROTATION_Y, View.ROTATION_Y);
-        propertySparseArrayCompat.put(X, View.X);
-        propertySparseArrayCompat.put(Y, View.Y);
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            propertySparseArrayCompat.put(Z, View.Z);
-        }
-        propertySparseArrayCompat.put(ALPHA, View.ALPHA);
-    }
+    private static final int TRANSLATION_X = ViewPropertyValues.TRANSLATION_X;
+    private static final int TRANSLATION_Y = ViewPropertyValues.TRANSLATION_Y;
+    private static final int TRANSLATION_Z = ViewPropertyValues.TRANSLATION_Z;
+    private static final int SCALE_X = ViewPropertyValues.SCALE_X;
+    private static final int SCALE_Y = ViewPropertyValues.SCALE_Y;
+    private static final int ROTATION = ViewPropertyValues.ROTATION;
+    private static final int ROTATION_X = ViewPropertyValues.ROTATION_X;
+    private static final int ROTATION_Y = ViewPropertyValues.ROTATION_Y;
+    private static final int X = ViewPropertyValues.X;
+    private static final int Y = ViewPropertyValues.Y;
+    private static final int Z = ViewPropertyValues.Z;
+    private static final int ALPHA = ViewPropertyValues.ALPHA;
 
     private View mView;
     private float mEndProgress = 1.0f;
@@ -253,35 +222,8 @@ public class InteractionAnimationBuilder {
         return this;
     }
 
-    @SuppressLint("NewApi")
     private float getValue(int propertyConstant) {
-        switch (propertyConstant) {
-            case TRANSLATION_X:
-                return mView.getTranslationX();
-            case TRANSLATION_Y:
-                return mView.getTranslationY();
-            case TRANSLATION_Z:
-                return mView.getTranslationZ();
-            case ROTATION:
-                return mView.getRotation();
-            case ROTATION_X:
-                return mView.getRotationX();
-            case ROTATION_Y:
-                return mView.getRotationY();
-            case SCALE_X:
-                return mView.getScaleX();
-            case SCALE_Y:
-                return mView.getScaleY();
-            case X:
-                return mView.getLeft() + mView.getTranslationX();
-            case Y:
-                return mView.getTop() + mView.getTranslationY();
-            case Z:
-                return mView.getElevation() + mView.getTranslationZ();
-            case ALPHA:
-                return mView.getAlpha();
-        }
-        return 0;
+        return ViewPropertyValues.getValue(mView, propertyConstant);
     }
 
     private void animateProperty(int constantName, float toValue) {
@@ -290,15 +232,10 @@ public class InteractionAnimationBuilder {
         animatePropertyBy(constantName, fromValue, deltaValue);
     }
 
-    private HashMap<Property<View, Float>, Pair<Float, Float>> hashMap = new HashMap<>();
+    private final ViewPropertyValues mPropertyValues = new ViewPropertyValues();
 
     private void animatePropertyBy(int constantName, float fromValue, float deltaValue) {
-        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
-            if (constantName == TRANSLATION_Z || constantName == Z) {
-                return;
-            }
-        }
-        hashMap.put(propertySparseArrayCompat.get(constantName), new Pair<>(fromValue, deltaValue));
+        mPropertyValues.put(constantName, fromValue, deltaValue);
     }
 
     public InteractionAnimationBuilder endProgress(float endProgress) {
@@ -310,11 +247,7 @@ public class InteractionAnimationBuilder {
         return new InteractionAnimation(mEndProgress) {
             @Override
             public void onProgress(float progress) {
-                Set<Property<View, Float>> set = hashMap.keySet();
-                for (Property<View, Float> property : set) {
-                    Pair<Float, Float> value = hashMap.get(property);
-                    property.set(mView, value.first + (value.second * progress));
-                }
+                mPropertyValues.apply(mView, progress);
             }
         };
     }
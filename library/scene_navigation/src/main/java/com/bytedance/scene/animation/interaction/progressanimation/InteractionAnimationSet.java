@@ -32,8 +32,9 @@ public class InteractionAnimationSet extends InteractionAnimation {
 
     @Override
     public void onProgress(float progress) {
-        for (InteractionAnimation animation : list) {
-            animation.onProgress(progress);
+        //called on every frame, avoid the Iterator allocation
+        for (int i = 0, size = list.size(); i < size; i++) {
+            list.get(i).onProgress(progress);
         }
     }
 }
@@ -30,7 +30,7 @@ import androidx.annotation.RequiresApi;
 import com.bytedance.scene.animation.interaction.evaluator.RectEvaluator;
 
 import java.util.HashMap;
-import java.util.Set;
+import java.util.Map;
 
 public class ViewOtherAnimationBuilder<T> extends ViewAnimationBuilder<T> {
     private static final Property<View, Rect> CLIP = new Property<View, Rect>(Rect.class, "clip") {
@@ -219,10 +219,12 @@ public class ViewOtherAnimationBuilder<T> extends ViewAnimationBuilder<T> {
     protected void onProgress(float progress) {
         super.onProgress(progress);
 
-        Set<Property> set = hashMap.keySet();
-        for (Property property : set) {
-            Holder value = hashMap.get(property);
-            property.set(mView, value.typeEvaluator.evaluate(progress, value.fromValue, value.toValue));
+        if (hashMap.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Property, Holder> entry : hashMap.entrySet()) {
+            Holder value = entry.getValue();
+            entry.getKey().set(mView, value.typeEvaluator.evaluate(progress, value.fromValue, value.toValue));
         }
     }
 }
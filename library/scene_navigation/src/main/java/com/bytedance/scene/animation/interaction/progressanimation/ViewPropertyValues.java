@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.animation.interaction.progressanimation;
+
+import android.annotation.SuppressLint;
+import android.os.Build;
+import android.view.View;
+
+/**
+ * Start and delta values of the View properties animated by {@link InteractionAnimationBuilder} and {@link ViewAnimationBuilder}.
+ * They are kept in primitive arrays indexed by property and applied by direct setters,
+ * so {@link #apply(View, float)} allocates nothing on each progress frame.
+ */
+final class ViewPropertyValues {
+    static final int TRANSLATION_X = 0;
+    static final int TRANSLATION_Y = 1;
+    static final int TRANSLATION_Z = 2;
+    static final int SCALE_X = 3;
+    static final int SCALE_Y = 4;
+    static final int ROTATION = 5;
+    static final int ROTATION_X = 6;
+    static final int ROTATION_Y = 7;
+    static final int X = 8;
+    static final int Y = 9;
+    static final int Z = 10;
+    static final int ALPHA = 11;
+    private static final int PROPERTY_COUNT = 12;
+
+    private final float[] mFromValues = new float[PROPERTY_COUNT];
+    private final float[] mDeltaValues = new float[PROPERTY_COUNT];
+    /**
+     * Animated properties in the order they were first set
+     */
+    private final int[] mProperties = new int[PROPERTY_COUNT];
+    private int mPropertyCount = 0;
+    private int mPropertyMask = 0;
+
+    void put(int property, float fromValue, float deltaValue) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+            if (property == TRANSLATION_Z || property == Z) {
+                return;
+            }
+        }
+        int bit = 1 << property;
+        if ((this.mPropertyMask & bit) == 0) {
+            this.mPropertyMask |= bit;
+            this.mProperties[this.mPropertyCount++] = property;
+        }
+        this.mFromValues[property] = fromValue;
+        this.mDeltaValues[property] = deltaValue;
+    }
+
+    void apply(View view, float progress) {
+        for (int i = 0; i < this.mPropertyCount; i++) {
+            int property = this.mProperties[i];
+            setValue(view, property, this.mFromValues[property] + (this.mDeltaValues[property] * progress));
+        }
+    }
+
+    @SuppressLint("NewApi")
+    static float getValue(View view, int property) {
+        switch (property) {
+            case TRANSLATION_X:
+                return view.getTranslationX();
+            case TRANSLATION_Y:
+                return view.getTranslationY();
+            case TRANSLATION_Z:
+                return view.getTranslationZ();
+            case ROTATION:
+                return view.getRotation();
+            case ROTATION_X:
+                return view.getRotationX();
+            case ROTATION_Y:
+                return view.getRotationY();
+            case SCALE_X:
+                return view.getScaleX();
+            case SCALE_Y:
+                return view.getScaleY();
+            case X:
+                return view.getLeft() + view.getTranslationX();
+            case Y:
+                return view.getTop() + view.getTranslationY();
+            case Z:
+                return view.getElevation() + view.getTranslationZ();
+            case ALPHA:
+                return view.getAlpha();
+        }
+        return 0;
+    }
+
+    @SuppressLint("NewApi")
+    private static void setValue(View view, int property, float value) {
+        switch (property) {
+            case TRANSLATION_X:
+                view.setTranslationX(value);
+                break;
+            case TRANSLATION_Y:
+                view.setTranslationY(value);
+                break;
+            case TRANSLATION_Z:
+                view.setTranslationZ(value);
+                break;
+            case ROTATION:
+                view.setRotation(value);
+                break;
+            case ROTATION_X:
+                view.setRotationX(value);
+                break;
+            case ROTATION_Y:
+                view.setRotationY(value);
+                break;
+            case SCALE_X:
+                view.setScaleX(value);
+                break;
+            case SCALE_Y:
+                view.setScaleY(value);
+                break;
+            case X:
+                view.setX(value);
+                break;
+            case Y:
+                view.setY(value);
+                break;
+            case Z:
+                view.setZ(value);
+                break;
+            case ALPHA:
+                view.setAlpha(value);
+                break;
+        }
+    }
+}
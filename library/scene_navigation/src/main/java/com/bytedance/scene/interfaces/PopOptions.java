@@ -86,6 +86,10 @@ public class PopOptions {
             return this;
         }
 
+        /**
+         * A Scene which is not created yet after restore is created to be checked, unless the predicate
+         * implements {@link SceneClassNamePredicate}
+         */
         public PopOptions.Builder setPopUtilPredicate(Predicate<Scene> predicate) {
             this.mPopUtilPredicate = predicate;
             return this;
@@ -115,7 +119,7 @@ public class PopOptions {
         }
     }
 
-    public static class CountUtilPredicate implements Predicate<Scene> {
+    public static class CountUtilPredicate implements Predicate<Scene>, SceneClassNamePredicate {
         private int mCount;
 
         public CountUtilPredicate(int count) {
@@ -124,6 +128,11 @@ public class PopOptions {
 
         @Override
         public boolean apply(Scene scene) {
+            return applyClassName(scene.getClass().getName());
+        }
+
+        @Override
+        public boolean applyClassName(@NonNull String sceneClassName) {
             if (mCount <= 0) {
                 return true;
             }
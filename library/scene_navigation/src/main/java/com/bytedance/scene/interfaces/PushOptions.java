@@ -253,6 +253,10 @@ public class PushOptions {
             return this;
         }
 
+        /**
+         * A Scene which is not created yet after restore is created to be checked, unless the predicate
+         * implements {@link SceneClassNamePredicate}, it stays in State.NONE if it is not removed
+         */
         public Builder setRemovePredicate(Predicate<Scene> predicate) {
             this.mRemovePredicate = predicate;
             return this;
@@ -287,7 +291,7 @@ public class PushOptions {
      * For example, after choose pictures and return to the timeline page,
      * the original pages should be killed.
      */
-    public static class CountPredicate implements Predicate<Scene> {
+    public static class CountPredicate implements Predicate<Scene>, SceneClassNamePredicate {
         private int mCount;
 
         public CountPredicate(int count) {
@@ -296,6 +300,11 @@ public class PushOptions {
 
         @Override
         public boolean apply(Scene scene) {
+            return applyClassName(scene.getClass().getName());
+        }
+
+        @Override
+        public boolean applyClassName(@NonNull String sceneClassName) {
             if (mCount <= 0) {
                 return false;
             }
@@ -308,11 +317,16 @@ public class PushOptions {
      * For example: Splash jumps to the homepage,
      * or jumps to the homepage after completing the registration/login process
      */
-    public static class ClearTaskPredicate implements Predicate<Scene> {
+    public static class ClearTaskPredicate implements Predicate<Scene>, SceneClassNamePredicate {
         @Override
         public boolean apply(Scene scene) {
             return true;
         }
+
+        @Override
+        public boolean applyClassName(@NonNull String sceneClassName) {
+            return true;
+        }
     }
 
     public static class ReplacePredicate extends CountPredicate {
@@ -321,7 +335,7 @@ public class PushOptions {
         }
     }
 
-    public static class SingleTopPredicate implements Predicate<Scene> {
+    public static class SingleTopPredicate implements Predicate<Scene>, SceneClassNamePredicate {
         private Class<? extends Scene> clazz;
         private boolean finish = false;
 
@@ -331,7 +345,12 @@ public class PushOptions {
 
         @Override
         public boolean apply(Scene scene) {
-            if (!finish && scene.getClass() == clazz) {
+            return applyClassName(scene.getClass().getName());
+        }
+
+        @Override
+        public boolean applyClassName(@NonNull String sceneClassName) {
+            if (!finish && clazz.getName().equals(sceneClassName)) {
                 finish = true;
                 return true;
             } else {
@@ -341,7 +360,7 @@ public class PushOptions {
         }
     }
 
-    public static class SingleTaskPredicate implements Predicate<Scene> {
+    public static class SingleTaskPredicate implements Predicate<Scene>, SceneClassNamePredicate {
         private Class<? extends Scene> clazz;
 
         public SingleTaskPredicate(Class<? extends Scene> clazz) {
@@ -352,5 +371,10 @@ public class PushOptions {
         public boolean apply(Scene scene) {
             return scene.getClass() == clazz;
         }
+
+        @Override
+        public boolean applyClassName(@NonNull String sceneClassName) {
+            return clazz.getName().equals(sceneClassName);
+        }
     }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.interfaces;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Implemented by a Predicate&lt;Scene&gt; which only needs the Scene class,
+ * NavigationScene uses it to check a Scene which is not created yet after restore without creating it.
+ * <p>
+ * Both methods must return the same result and update the same state for the same Scene.
+ */
+public interface SceneClassNamePredicate {
+    boolean applyClassName(@NonNull String sceneClassName);
+}
@@ -72,6 +72,12 @@ public interface INavigationManager {
 
     public void pushRoot(@NonNull final Scene scene);
 
+    public void beginTransaction();
+
+    public void commitTransaction();
+
+    public boolean isInTransaction();
+
     public void push(@NonNull final Scene scene, @NonNull PushOptions pushOptions);
 
     public void recreate(@NonNull Scene scene, int reason);
@@ -88,6 +94,16 @@ public interface INavigationManager {
 
     public Record findRecordByScene(Scene scene);
 
+    /**
+     * @return a copy of the back stack, a Scene which is not created yet is not created by this call
+     */
+    public List<Record> getCurrentRecordList();
+
+    /**
+     * @return a read-only live view of the back stack without copying, it must not be iterated across stack changes
+     */
+    public List<Record> getCurrentRecordListView();
+
     public Record getCurrentRecord();
 
     public void addOnBackPressedListener(@NonNull LifecycleOwner lifecycleOwner, @NonNull OnBackPressedListener onBackPressedListener);
@@ -104,7 +120,10 @@ public interface INavigationManager {
 
     public void forceExecutePendingNavigationOperation();
 
-    public void recycleInvisibleScenes();
+    /**
+     * @return count of Scenes recycled
+     */
+    public int recycleInvisibleScenes();
 
     public void suppressRecycle(boolean suppress);
 
@@ -114,5 +133,7 @@ public interface INavigationManager {
 
     public void saveActivityCompatibleInfo(Record record);
 
+    public void createReuseCache(IReuseScene reuseScene);
+
     public void destroyReuseCache(List<IReuseScene> reuseScenes);
 }
@@ -75,7 +75,7 @@ class NavigationResultActionHandler(private val managerAbility: NavigationManage
 
         if (originalCallerScene.parentScene == null) {
             LoggerManager.getInstance()
-                .e(TAG, "This scene is not created or already destroyed, $originalCallerScene")
+                .e(TAG, "This scene is not created or already destroyed, %s", originalCallerScene)
             return
         }
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Receives the result of invisible Scenes recycled by {@link NavigationSceneOptions#setAutoRecycleInvisibleScenesThreshold(float)}.
+ * <p>
+ * Install it with {@link #setListener(MemoryPressureListener)} at any time. Callbacks are invoked on the main thread.
+ */
+public abstract class MemoryPressureListener {
+    /**
+     * Heap usage above the threshold, sampled after a GC
+     */
+    public static final int SOURCE_GC = 0;
+    /**
+     * ComponentCallbacks2.onTrimMemory or onLowMemory
+     */
+    public static final int SOURCE_TRIM_MEMORY = 1;
+    /**
+     * Heap usage above the threshold, sampled every SceneGlobalConfig.memoryPressureSampleIntervalMillis
+     */
+    public static final int SOURCE_SAMPLING = 2;
+
+    private static volatile MemoryPressureListener sListener;
+
+    public static void setListener(@Nullable MemoryPressureListener listener) {
+        sListener = listener;
+    }
+
+    @Nullable
+    public static MemoryPressureListener getListener() {
+        return sListener;
+    }
+
+    /**
+     * @param recycledSceneCount count of Scenes released, they will be restored when they become visible again
+     * @param reclaimedBytes     heap usage drop measured at the first GC after recycling, 0 if nothing is recycled
+     */
+    public abstract void onInvisibleScenesRecycled(@NonNull NavigationScene navigationScene, int source, int recycledSceneCount, long reclaimedBytes);
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Timings of one navigation operation, all durations are in nanoseconds.
+ * <p>
+ * Operations deferred until the NavigationScene is ready, for example pushes while the Activity is stopped,
+ * are not traced.
+ */
+public final class NavigationOperationTrace {
+    @NonNull
+    private final String mOperationName;
+    private final long mEnqueueTimeNanos;
+    private long mSceneInstantiateNanos;
+    private long mExecuteStartTimeNanos;
+    private long mExecuteEndTimeNanos;
+    private long mEndTimeNanos;
+    private long mCreateNanos;
+    private long mCreateViewNanos;
+    private long mLifecycleNanos;
+    @Nullable
+    private String mSceneClassName;
+    private boolean mReported;
+
+    NavigationOperationTrace(@NonNull Operation operation) {
+        this.mOperationName = operation.getClass().getSimpleName();
+        this.mEnqueueTimeNanos = System.nanoTime();
+    }
+
+    /**
+     * @return simple class name of the operation, for example PushOptionOperation
+     */
+    @NonNull
+    public String getOperationName() {
+        return this.mOperationName;
+    }
+
+    /**
+     * @return class name of the top Scene after the operation
+     */
+    @Nullable
+    public String getSceneClassName() {
+        return this.mSceneClassName;
+    }
+
+    /**
+     * @return time spent in NavigationMessageQueue before the operation started
+     */
+    public long getQueueDelayNanos() {
+        return this.mExecuteStartTimeNanos - this.mEnqueueTimeNanos;
+    }
+
+    /**
+     * @return time spent in the Scene constructor, only known for pushes by Scene class
+     */
+    public long getSceneInstantiateNanos() {
+        return this.mSceneInstantiateNanos;
+    }
+
+    /**
+     * @return time spent attaching Scenes and dispatching onCreate
+     */
+    public long getCreateNanos() {
+        return this.mCreateNanos;
+    }
+
+    /**
+     * @return time spent in onCreateView and adding the Scene view to the container
+     */
+    public long getCreateViewNanos() {
+        return this.mCreateViewNanos;
+    }
+
+    /**
+     * @return time spent dispatching the other lifecycle state transitions of all affected Scenes
+     */
+    public long getLifecycleNanos() {
+        return this.mLifecycleNanos;
+    }
+
+    /**
+     * @return time spent executing the operation synchronously, including create, view and lifecycle time
+     */
+    public long getExecuteNanos() {
+        return this.mExecuteEndTimeNanos - this.mExecuteStartTimeNanos;
+    }
+
+    /**
+     * @return time from the end of the synchronous part to the end of the operation, mostly the navigation animation
+     */
+    public long getAnimationNanos() {
+        return Math.max(0, this.mEndTimeNanos - this.mExecuteEndTimeNanos);
+    }
+
+    /**
+     * @return time from enqueue to the end of the operation
+     */
+    public long getTotalNanos() {
+        return Math.max(this.mEndTimeNanos, this.mExecuteEndTimeNanos) - this.mEnqueueTimeNanos;
+    }
+
+    void setSceneInstantiateNanos(long nanos) {
+        this.mSceneInstantiateNanos = nanos;
+    }
+
+    void addCreateNanos(long nanos) {
+        this.mCreateNanos += nanos;
+    }
+
+    void addCreateViewNanos(long nanos) {
+        this.mCreateViewNanos += nanos;
+    }
+
+    void addLifecycleNanos(long nanos) {
+        this.mLifecycleNanos += nanos;
+    }
+
+    void onExecuteStart() {
+        this.mExecuteStartTimeNanos = System.nanoTime();
+    }
+
+    void onExecuteEnd(@Nullable String sceneClassName) {
+        this.mExecuteEndTimeNanos = System.nanoTime();
+        this.mSceneClassName = sceneClassName;
+        reportIfFinished();
+    }
+
+    /**
+     * The end action of the operation, it may run before or after {@link #onExecuteEnd(String)}
+     */
+    @NonNull
+    Runnable wrapEndAction(@NonNull final Runnable endAction) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                mEndTimeNanos = System.nanoTime();
+                endAction.run();
+                reportIfFinished();
+            }
+        };
+    }
+
+    private void reportIfFinished() {
+        if (this.mReported || this.mEndTimeNanos == 0 || this.mExecuteEndTimeNanos == 0) {
+            return;
+        }
+        this.mReported = true;
+        NavigationTraceListener listener = NavigationTraceListener.getListener();
+        if (listener != null) {
+            listener.onOperationFinished(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NavigationOperationTrace{" + this.mOperationName
+                + ", scene=" + this.mSceneClassName
+                + ", queueDelay=" + getQueueDelayNanos() / 1000 + "us"
+                + ", instantiate=" + this.mSceneInstantiateNanos / 1000 + "us"
+                + ", create=" + this.mCreateNanos / 1000 + "us"
+                + ", createView=" + this.mCreateViewNanos / 1000 + "us"
+                + ", lifecycle=" + this.mLifecycleNanos / 1000 + "us"
+                + ", execute=" + getExecuteNanos() / 1000 + "us"
+                + ", animation=" + getAnimationNanos() / 1000 + "us}";
+    }
+}
@@ -20,19 +20,21 @@ import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 import static androidx.lifecycle.Lifecycle.State.DESTROYED;
 
 import android.app.Activity;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.content.Intent;
 import android.content.res.Configuration;
 import android.os.Build;
 import android.os.Bundle;
-import android.os.Handler;
 import android.os.Looper;
+import android.os.MessageQueue;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewTreeObserver;
 import android.widget.FrameLayout;
 
+import androidx.annotation.AnyThread;
 import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -57,6 +59,7 @@ import com.bytedance.scene.SuppressOperationAware;
 import com.bytedance.scene.animation.NavigationAnimationExecutor;
 import com.bytedance.scene.animation.animatorexecutor.Android8DefaultSceneAnimatorExecutor;
 import com.bytedance.scene.animation.interaction.InteractionNavigationPopAnimationFactory;
+import com.bytedance.scene.group.AsyncLayoutGroupScene;
 import com.bytedance.scene.group.ReuseGroupScene;
 import com.bytedance.scene.interfaces.ActivityCompatibleBehavior;
 import com.bytedance.scene.interfaces.ActivityResultCallback;
@@ -71,14 +74,12 @@ import com.bytedance.scene.navigation.reuse.DefaultReuseBehavior;
 import com.bytedance.scene.navigation.reuse.IReusePool;
 import com.bytedance.scene.navigation.reuse.NavigationReuseManager;
 import com.bytedance.scene.navigation.reuse.ReuseBehavior;
-import com.bytedance.scene.queue.NavigationMessageQueue;
-import com.bytedance.scene.queue.NavigationRunnable;
 import com.bytedance.scene.navigation.reuse.IReuseScene;
 import com.bytedance.scene.navigation.reuse.ReuseState;
 import com.bytedance.scene.utlity.AnimatorUtility;
 import com.bytedance.scene.utlity.DispatchWindowInsetsListener;
 import com.bytedance.scene.utlity.Experimental;
-import com.bytedance.scene.utlity.MemoryMonitor;
+import com.bytedance.scene.utlity.MemoryPressureMonitor;
 import com.bytedance.scene.utlity.NonNullPair;
 import com.bytedance.scene.utlity.SceneInstanceUtility;
 import com.bytedance.scene.utlity.SceneInternalException;
@@ -90,6 +91,7 @@ import com.bytedance.scene.view.BlockGestureView;
 import com.bytedance.scene.view.NavigationFrameLayout;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -144,7 +146,6 @@ public final class NavigationScene extends Scene implements NavigationListener,
     private BlockGestureView mBlockGestureView;
     private FrameLayout mOutsideView = null;
     private boolean mViewOwnedByOutside = false;
-    private final Handler mHandler = new Handler(Looper.getMainLooper());
     @Nullable
     private NavigationAnimationExecutor mDefaultNavigationAnimationExecutor = null;
     private boolean mDefaultNavigationAnimatorSetByUser = false;
@@ -155,21 +156,58 @@ public final class NavigationScene extends Scene implements NavigationListener,
     private IReusePool mReusePool = null;
 
     private final List<NavigationListener> mNavigationListenerList = new ArrayList<>();
-    private final List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> mLifecycleCallbacks = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private static final NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] EMPTY_LIFECYCLE_CALLBACKS = new NonNullPair[0];
+    /**
+     * Copy-on-write, it is replaced on register and unregister so lifecycle dispatch iterates it without copying
+     */
+    private NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] mLifecycleCallbacks = EMPTY_LIFECYCLE_CALLBACKS;
     private final List<NavigationAnimationCallback> mNavigationAnimationCallbackList = new ArrayList<>();
 
     @Nullable
-    private MemoryMonitor mMemoryMonitor;
-    private final Runnable mRecycleInvisibleScenesJob = new Runnable() {
+    private MemoryPressureMonitor mMemoryMonitor;
+    private final MemoryPressureMonitor.Callback mMemoryPressureCallback = new MemoryPressureMonitor.Callback() {
+        @Override
+        public int onMemoryPressure(int source) {
+            if (mReuseManager != null) {
+                mReuseManager.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+            }
+            return mNavigationSceneManager.recycleInvisibleScenes();
+        }
+
+        @Override
+        public void onMemoryReclaimed(int source, int sceneCount, long reclaimedBytes) {
+            MemoryPressureListener listener = MemoryPressureListener.getListener();
+            if (listener != null) {
+                listener.onInvisibleScenesRecycled(NavigationScene.this, source, sceneCount, reclaimedBytes);
+            }
+        }
+    };
+
+    private Context mTrimMemoryContext = null;
+    private final ComponentCallbacks2 mTrimMemoryCallbacks = new ComponentCallbacks2() {
         @Override
-        public void run() {
-            recycleInvisibleScenes();
+        public void onTrimMemory(int level) {
+            if (mReuseManager != null) {
+                mReuseManager.trimMemory(level);
+            }
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {
+
+        }
+
+        @Override
+        public void onLowMemory() {
+            if (mReuseManager != null) {
+                mReuseManager.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+            }
         }
     };
 
     private boolean mIsInitRootSceneOnCreate = false;
 
-    private final boolean mSceneLifecycleCallbackObjectCreationOpt = SceneGlobalConfig.sceneLifecycleCallbackObjectCreationOpt;
     private boolean mWindowFocusChangedInstalled = false;
     private SceneWindowFocusChangedDispatcher mSceneWindowFocusChangedDispatcher = null;
     private boolean mLifecycleAndSavedStateRegistryEnabled = true;
@@ -250,12 +288,31 @@ public final class NavigationScene extends Scene implements NavigationListener,
         return this.mNavigationSceneManager.getCurrentScene();
     }
 
+    /**
+     * Scenes below the visible top which are not created yet after restore are created by this call,
+     * they stay in State.NONE until they become visible
+     */
     @NonNull
     @Override
     public List<Scene> getSceneList() {
         return mNavigationSceneManager.getCurrentSceneList();
     }
 
+    /**
+     * @hide
+     * Same as {@link #getSceneList()}, but a Scene which is not created yet is null instead of being created
+     */
+    @RestrictTo(LIBRARY_GROUP)
+    @NonNull
+    public List<Scene> getCreatedSceneList() {
+        List<Record> recordList = mNavigationSceneManager.getCurrentRecordList();
+        List<Scene> sceneList = new ArrayList<>(recordList.size());
+        for (int i = 0; i < recordList.size(); i++) {
+            sceneList.add(recordList.get(i).mScene);
+        }
+        return sceneList;
+    }
+
     public void setDefaultNavigationAnimationExecutor(@Nullable NavigationAnimationExecutor defaultNavigationAnimationExecutor) {
         this.mDefaultNavigationAnimatorSetByUser = true;
         this.mDefaultNavigationAnimationExecutor = defaultNavigationAnimationExecutor;
@@ -347,10 +404,88 @@ public final class NavigationScene extends Scene implements NavigationListener,
 
         if (this.mReuseManager == null) {
             this.mReuseManager = new NavigationReuseManager(this.mNavigationSceneManager, mReusePool);
+            // Let the reuse pool shrink itself under memory pressure
+            this.mTrimMemoryContext = requireActivity().getApplicationContext();
+            this.mTrimMemoryContext.registerComponentCallbacks(this.mTrimMemoryCallbacks);
         }
         return this.mReuseManager;
     }
 
+    /**
+     * Create scenes of the given class during main thread idle time and park them in the reuse pool,
+     * one instance per idle callback, so a later push with {@link PushOptions.Builder#setUseSceneFromReusePool(boolean)}
+     * gets a warm hit instead of paying for construction and view creation on the critical path.
+     * AsyncLayoutGroupScene inflates its layout on the async inflate thread.
+     *
+     * @param clazz the Scene class to prewarm, it must implement {@link IReuseScene}
+     * @param count how many instances to create
+     */
+    @MainThread
+    public void prewarmReuseScenes(@NonNull final Class<? extends Scene> clazz, final int count) {
+        ThreadUtility.checkUIThread();
+        if (!IReuseScene.class.isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException("Scene " + clazz.getName() + " must implement IReuseScene");
+        }
+        if (ActivityCompatibleBehavior.class.isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException("ActivityCompatibleBehavior Scene " + clazz.getName() + " can't be prewarmed");
+        }
+        if (count <= 0) {
+            return;
+        }
+        Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+            private int mRemainingCount = count;
+
+            @Override
+            public boolean queueIdle() {
+                State state = getState();
+                if (state == State.NONE) {
+                    return false;
+                }
+                if (state.value < State.ACTIVITY_CREATED.value) {
+                    // wait for the next idle
+                    return true;
+                }
+                NavigationReuseManager reuseManager = obtainReuseManager();
+                if (reuseManager == null || !prewarmReuseScene(reuseManager, clazz)) {
+                    return false;
+                }
+                mRemainingCount--;
+                return mRemainingCount > 0;
+            }
+        });
+    }
+
+    private boolean prewarmReuseScene(@NonNull NavigationReuseManager reuseManager, @NonNull Class<? extends Scene> clazz) {
+        Scene scene = null;
+        if (this.mRootSceneComponentFactory != null) {
+            scene = this.mRootSceneComponentFactory.instantiateScene(requireActivity().getClassLoader(), clazz.getName(), null);
+            if (scene != null && scene.getParentScene() != null) {
+                throw new IllegalArgumentException("SceneComponentFactory instantiateScene return Scene already has a parent");
+            }
+        }
+        if (scene == null) {
+            scene = SceneInstanceUtility.getInstanceFromClass(clazz, null);
+        }
+        if (scene instanceof AsyncLayoutGroupScene) {
+            ((AsyncLayoutGroupScene) scene).setAsyncLayoutEnabled(true);
+        }
+        return reuseManager.prewarm((IReuseScene) scene);
+    }
+
+    /**
+     * @return count of pushes that got a Scene from the reuse pool
+     */
+    public int getReusePoolHitCount() {
+        return mReuseManager != null ? mReuseManager.getHitCount() : 0;
+    }
+
+    /**
+     * @return count of pushes that asked the reuse pool but found nothing
+     */
+    public int getReusePoolMissCount() {
+        return mReuseManager != null ? mReuseManager.getMissCount() : 0;
+    }
+
     /**
      * Add a scene to the reuse cache
      *
@@ -570,7 +705,11 @@ public final class NavigationScene extends Scene implements NavigationListener,
         }
 
         if (scene == null) {
+            long startTimeNanos = NavigationTraceListener.getListener() != null ? System.nanoTime() : 0L;
             scene = SceneInstanceUtility.getInstanceFromClass(clazz, argument);
+            if (startTimeNanos != 0L && mNavigationSceneManager instanceof NavigationSceneManager) {
+                ((NavigationSceneManager) mNavigationSceneManager).setSceneInstantiateNanos(System.nanoTime() - startTimeNanos);
+            }
         } else {
             if (argument != null) {
                 scene.setArguments(argument);
@@ -797,6 +936,27 @@ public final class NavigationScene extends Scene implements NavigationListener,
         mNavigationSceneManager.remove(scene);
     }
 
+    /**
+     * Collect the following push/pop/popTo/popToRoot/remove calls until {@link #commitTransaction()},
+     * then execute them as one navigation operation. Only the final top Scene is created and animated,
+     * the other pushed Scenes are created when they are navigated back to or seen through a translucent top Scene.
+     * The launch mode of the final top Scene is checked against the final stack, if it intercepts the push
+     * an IllegalStateException is thrown when the transaction is executed.
+     */
+    public void beginTransaction() {
+        ThreadUtility.checkUIThread();
+        mNavigationSceneManager.beginTransaction();
+    }
+
+    public void commitTransaction() {
+        ThreadUtility.checkUIThread();
+        mNavigationSceneManager.commitTransaction();
+    }
+
+    public boolean isInTransaction() {
+        return mNavigationSceneManager.isInTransaction();
+    }
+
     public void requestDisableTouchEvent(boolean disable) {
         if (this.mBlockGestureView == null && disable && this.mNavigationSceneOptions.getUseExtraViewToBlockGesture()) {
             this.mBlockGestureView = new BlockGestureView(requireSceneContext());
@@ -814,7 +974,7 @@ public final class NavigationScene extends Scene implements NavigationListener,
         }
 
         if (this.mNavigationSceneOptions.getOptimizedViewLayer()) {
-            LoggerManager.getInstance().v(TAG, "optimizedViewLayer don't support requestDisableTouchEvent disable: " + disable);
+            LoggerManager.getInstance().v(TAG, "optimizedViewLayer don't support requestDisableTouchEvent disable: %s", disable);
             return;
         }
         ((NavigationFrameLayout) getView()).setTouchEnabled(!disable);
@@ -1028,12 +1188,8 @@ public final class NavigationScene extends Scene implements NavigationListener,
 
         float autoRecycleInvisibleSceneThreshold = this.mNavigationSceneOptions.getAutoRecycleInvisibleSceneThreshold();
         if (autoRecycleInvisibleSceneThreshold > 0F && autoRecycleInvisibleSceneThreshold < 1F) {
-            mMemoryMonitor = new MemoryMonitor(autoRecycleInvisibleSceneThreshold, new Runnable() {
-                @Override
-                public void run() {
-                    mHandler.post(mRecycleInvisibleScenesJob);
-                }
-            });
+            mMemoryMonitor = new MemoryPressureMonitor(requireActivity(), autoRecycleInvisibleSceneThreshold,
+                    SceneGlobalConfig.memoryPressureSampleIntervalMillis, mMemoryPressureCallback);
             mMemoryMonitor.start();
         }
     }
@@ -1254,13 +1410,16 @@ public final class NavigationScene extends Scene implements NavigationListener,
     public void onDestroyView() {
         if (mMemoryMonitor != null) {
             mMemoryMonitor.stop();
-            mHandler.removeCallbacks(mRecycleInvisibleScenesJob);
         }
 
         this.mOutsideView = null;
         this.mViewOwnedByOutside = false;
 
         // CleanUp reuse related resources
+        if (mTrimMemoryContext != null) {
+            mTrimMemoryContext.unregisterComponentCallbacks(mTrimMemoryCallbacks);
+            mTrimMemoryContext = null;
+        }
         if (mReuseManager != null) {
             mReuseManager.clear();
             mReuseManager = null;
@@ -1451,47 +1610,43 @@ public final class NavigationScene extends Scene implements NavigationListener,
 
     public void registerChildSceneLifecycleCallbacks(@NonNull ChildSceneLifecycleCallbacks cb, boolean recursive) {
         ThreadUtility.checkUIThread();
-        this.mLifecycleCallbacks.add(NonNullPair.create(cb, recursive));
+        NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] callbacks = Arrays.copyOf(this.mLifecycleCallbacks, this.mLifecycleCallbacks.length + 1);
+        callbacks[callbacks.length - 1] = NonNullPair.create(cb, recursive);
+        setLifecycleCallbacks(callbacks);
     }
 
     public void unregisterChildSceneLifecycleCallbacks(@NonNull ChildSceneLifecycleCallbacks cb) {
         ThreadUtility.checkUIThread();
-        NonNullPair<ChildSceneLifecycleCallbacks, Boolean> target = null;
-        for (int i = 0, N = this.mLifecycleCallbacks.size(); i < N; i++) {
-            if (this.mLifecycleCallbacks.get(i).first == cb) {
-                target = this.mLifecycleCallbacks.get(i);
+        NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] callbacks = this.mLifecycleCallbacks;
+        for (int i = 0; i < callbacks.length; i++) {
+            if (callbacks[i].first == cb) {
+                NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] newCallbacks = Arrays.copyOf(callbacks, callbacks.length - 1);
+                System.arraycopy(callbacks, i + 1, newCallbacks, i, callbacks.length - i - 1);
+                setLifecycleCallbacks(newCallbacks);
                 break;
             }
         }
-        if (target != null) {
-            this.mLifecycleCallbacks.remove(target);
+    }
+
+    private void setLifecycleCallbacks(@NonNull NonNullPair<ChildSceneLifecycleCallbacks, Boolean>[] callbacks) {
+        this.mLifecycleCallbacks = callbacks;
+        int recursiveCount = 0;
+        for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : callbacks) {
+            if (pair.second) {
+                recursiveCount++;
+            }
         }
+        setChildSceneLifecycleCallbacksCount(callbacks.length, recursiveCount);
     }
 
+    /**
+     * Load the classes used by the cold start of a NavigationScene and its first push and pop, so class loading
+     * and verification is not paid on the main thread. It is thread safe, call it from a background thread
+     * as early as possible, for example in Application.onCreate().
+     */
+    @AnyThread
     public static void preloadClasses() {
-        LoggerManager.getInstance();
-        Object clazz = NavigationSceneOptions.class;
-        clazz = SceneInstanceUtility.class;
-        clazz = SceneComponentFactory.class;
-        clazz = NavigationFrameLayout.class;
-        clazz = DispatchWindowInsetsListener.class;
-        clazz = Record.class;
-        clazz = RecordStack.class;
-        clazz = NavigationMessageQueue.class;
-        clazz = NavigationRunnable.class;
-        clazz = INavigationManager.class;
-        clazz = NavigationManagerAbility.class;
-        clazz = NavigationSceneManager.class;
-        clazz = Operation.class;
-        clazz = NavigationListener.class;
-        clazz = ActivityCompatibleInfoCollector.class;
-        clazz = ActivityCompatibleInfoCollector.Holder.class;
-        clazz = AnimationContainerLayout.class;
-        clazz = NavigationSceneGetter.class;
-        clazz = ActivityCompatibleBehavior.class;
-        clazz = ReuseGroupScene.class;
-        clazz = NavigationReuseManager.class;
-        clazz = DefaultReuseBehavior.class;
+        ScenePreloadClasses.preload(NavigationScene.class.getClassLoader());
     }
 
     /**
@@ -1559,14 +1714,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1580,14 +1730,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneViewCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneViewCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1601,14 +1746,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneActivityCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneActivityCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1622,14 +1762,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneStarted(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneStarted(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneStarted(scene);
                 }
             }
         }
@@ -1643,14 +1778,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneResumed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneResumed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneResumed(scene);
                 }
             }
         }
@@ -1664,14 +1794,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreScenePaused(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreScenePaused(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreScenePaused(scene);
                 }
             }
         }
@@ -1685,14 +1810,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneStopped(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneStopped(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneStopped(scene);
                 }
             }
         }
@@ -1706,14 +1826,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneViewDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneViewDestroyed(scene);
                 }
             }
         }
@@ -1726,14 +1841,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneDestroyed(scene);
                 }
             }
         }
@@ -1747,14 +1857,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnPreSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onPreSceneSaveInstanceState(scene, outState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onPreSceneSaveInstanceState(scene, outState);
                 }
             }
         }
@@ -1768,14 +1873,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1789,14 +1889,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneViewCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneViewCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1810,14 +1905,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneActivityCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneActivityCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -1831,14 +1921,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneStarted(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneStarted(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneStarted(scene);
                 }
             }
         }
@@ -1852,14 +1937,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneResumed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneResumed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneResumed(scene);
                 }
             }
         }
@@ -1873,14 +1953,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperScenePaused(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperScenePaused(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperScenePaused(scene);
                 }
             }
         }
@@ -1894,14 +1969,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneStopped(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneStopped(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneStopped(scene);
                 }
             }
         }
@@ -1915,14 +1985,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneViewDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneViewDestroyed(scene);
                 }
             }
         }
@@ -1936,14 +2001,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneDestroyed(scene);
                 }
             }
         }
@@ -1957,14 +2017,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSuperSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSuperSceneSaveInstanceState(scene, outState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSuperSceneSaveInstanceState(scene, outState);
                 }
             }
         }
@@ -1978,14 +2033,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -2000,14 +2050,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public final void dispatchOnSceneViewCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneViewCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneViewCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -2022,14 +2067,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneActivityCreated(@NonNull Scene scene, @Nullable Bundle savedInstanceState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneActivityCreated(scene, savedInstanceState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneActivityCreated(scene, savedInstanceState);
                 }
             }
         }
@@ -2043,14 +2083,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneStarted(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneStarted(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneStarted(scene);
                 }
             }
         }
@@ -2065,14 +2100,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneResumed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneResumed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneResumed(scene);
                 }
             }
         }
@@ -2087,14 +2117,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneStopped(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneStopped(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneStopped(scene);
                 }
             }
         }
@@ -2108,14 +2133,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnScenePaused(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onScenePaused(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onScenePaused(scene);
                 }
             }
         }
@@ -2130,14 +2150,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneSaveInstanceState(@NonNull Scene scene, @NonNull Bundle outState, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneSaveInstanceState(scene, outState);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneSaveInstanceState(scene, outState);
                 }
             }
         }
@@ -2152,14 +2167,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public void dispatchOnSceneViewDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneViewDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneViewDestroyed(scene);
                 }
             }
         }
@@ -2174,14 +2184,9 @@ public final class NavigationScene extends Scene implements NavigationListener,
     @Override
     public final void dispatchOnSceneDestroyed(@NonNull Scene scene, boolean directChild) {
         if (scene != this) {
-            if (mSceneLifecycleCallbackObjectCreationOpt && mLifecycleCallbacks.size() == 0) {
-                //skip
-            } else {
-                List<NonNullPair<ChildSceneLifecycleCallbacks, Boolean>> list = new ArrayList<>(mLifecycleCallbacks);
-                for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : list) {
-                    if (directChild || pair.second) {
-                        pair.first.onSceneDestroyed(scene);
-                    }
+            for (NonNullPair<ChildSceneLifecycleCallbacks, Boolean> pair : this.mLifecycleCallbacks) {
+                if (directChild || pair.second) {
+                    pair.first.onSceneDestroyed(scene);
                 }
             }
         }
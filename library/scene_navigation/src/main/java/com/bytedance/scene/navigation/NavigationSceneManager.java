@@ -22,6 +22,7 @@ import android.content.Context;
 import android.content.res.Configuration;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Handler;
 import android.os.Looper;
 import android.text.TextUtils;
 import android.util.Log;
@@ -31,6 +32,7 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.util.Pair;
 import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleOwner;
@@ -58,6 +60,7 @@ import com.bytedance.scene.navigation.pop.CoordinatePopCountOperation;
 import com.bytedance.scene.navigation.pop.CoordinatePopOptionOperation;
 import com.bytedance.scene.navigation.push.CoordinatePushOptionOperation;
 import com.bytedance.scene.parcel.ParcelConstants;
+import com.bytedance.scene.queue.IdleRunnable;
 import com.bytedance.scene.queue.NavigationMessageQueue;
 import com.bytedance.scene.queue.NavigationRunnable;
 import com.bytedance.scene.navigation.reuse.IReuseScene;
@@ -74,9 +77,11 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @hide
@@ -86,6 +91,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     private static final String TAG = "NavigationSceneManager";
     public static final String TRACE_EXECUTE_OPERATION_TAG = "NavigationSceneManager#executeOperation";
     private static final String TRACE_EXECUTE_PENDING_OPERATION_TAG = "NavigationSceneManager#executePendingOperation";
+    private static final long RECYCLE_RESUME_TIMEOUT_MILLIS = 5000L;
 
     private final NavigationScene mNavigationScene;
     private final RecordStack mBackStackList = new RecordStack();
@@ -115,9 +121,25 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     private int mConfigurationChangesAllowList = 0;
     private Scene mCurrentSyncingStateScene = null;
     private boolean mSuppressRecycle = false;
+    private final long mRecycleBudgetMillis = SceneGlobalConfig.recycleInvisibleScenesBudgetMillis;
+    private final int mRecycleBudgetCount = SceneGlobalConfig.recycleInvisibleScenesBudgetCount;
+    @Nullable
+    private Handler mRecycleHandler;
+    @Nullable
+    private IdleRunnable mScheduledRecycle;
+    private final Runnable mScheduledRecycleTask = new Runnable() {
+        @Override
+        public void run() {
+            mScheduledRecycle = null;
+            recycleInvisibleScenes(true);
+        }
+    };
     private final boolean mStrictPublishResultCallbackEnabled;
     @Nullable
     private Throwable mLastException;
+    @Nullable
+    private NavigationOperationTrace mCurrentTrace;
+    private long mSceneInstantiateNanos;
 
     NavigationSceneManager(NavigationScene scene) {
         this.mNavigationScene = scene;
@@ -157,20 +179,29 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         this.mBackStackList.saveToBundle(bundle);
 
         ArrayList<Bundle> bundleList = new ArrayList<>();
-        List<Record> recordList = this.mBackStackList.getCurrentRecordList();
+        List<Record> recordList = this.mBackStackList.getCurrentRecordListView();
         for (Record record : recordList) {
-            Scene scene = record.mScene;
             if (mOnlyRestoreVisibleScene) {
                 //so some Scene are not created after restore, reuse previous saved state
-                if (record.mPreviousSavedState != null && scene.getState() == State.NONE) {
+                if (record.mPreviousSavedState != null && (!record.isSceneCreated() || record.mScene.getState() == State.NONE)) {
                     bundleList.add(record.mPreviousSavedState);
                     continue;
                 }
             }
+            Scene scene = record.getScene();
             if (scene.isSceneRestoreEnabled()) {
                 Bundle sceneBundle = new Bundle();
                 sceneBundle.putInt(SceneStateSaveReason.KEY_SCENE_SAVE_STATE_REASON, saveStateReason);
-                scene.dispatchSaveInstanceState(sceneBundle);
+                if (scene.getState() == State.NONE && record.mPreviousSavedState == null) {
+                    //Scene inserted by a navigation transaction has never started, only its arguments need to be saved
+                    Bundle arguments = scene.getArguments();
+                    sceneBundle.putBoolean(ParcelConstants.KEY_SCENE_HAS_ARGUMENT, arguments != null);
+                    if (arguments != null) {
+                        sceneBundle.putBundle(ParcelConstants.KEY_SCENE_ARGUMENT, arguments);
+                    }
+                } else {
+                    scene.dispatchSaveInstanceState(sceneBundle);
+                }
                 bundleList.add(sceneBundle);
             } else {
                 //skip because Scene disable restore
@@ -180,7 +211,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     }
 
     public void restoreFromBundle(Context context, Bundle bundle, SceneComponentFactory rootSceneComponentFactory, State targetState) {
-        this.mBackStackList.restoreFromBundle(context, bundle, rootSceneComponentFactory);
+        this.mBackStackList.restoreFromBundle(context, bundle, rootSceneComponentFactory, this.mOnlyRestoreVisibleScene);
         ArrayList<Bundle> bundleList = bundle.getParcelableArrayList(ParcelConstants.KEY_NAVIGATION_SCENE_MANAGER_TAG);
 
         List<Record> recordList = this.mBackStackList.getCurrentRecordList();
@@ -201,7 +232,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 Record record = recordList.get(i);
                 Bundle sceneBundle = bundleList.get(i);
                 // TODO should moveState to mNavigationScene.getState() ?
-                moveState(this.mNavigationScene, record.mScene, targetState, sceneBundle, false, null);
+                moveState(this.mNavigationScene, record.getScene(), targetState, sceneBundle, false, null);
 
                 if (i == recordList.size() - 1) {
                     restoreActivityStatus(record.mActivityStatusRecord);
@@ -209,7 +240,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 restoredSceneCount++;
             }
 
-            LoggerManager.getInstance().i(TAG, "restoreFromBundle has restored " + restoredSceneCount + " Scenes, total " + recordList.size() + " Scenes");
+            LoggerManager.getInstance().i(TAG, "restoreFromBundle has restored %s Scenes, total %s Scenes", restoredSceneCount, recordList.size());
 
             for (int i = 0; i < nonTranslucentIndex; i++) {
                 Record record = recordList.get(i);
@@ -222,7 +253,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 Record record = recordList.get(i);
                 Bundle sceneBundle = bundleList.get(i);
                 // TODO should moveState to mNavigationScene.getState() ?
-                moveState(this.mNavigationScene, record.mScene, targetState, sceneBundle, false, null);
+                moveState(this.mNavigationScene, record.getScene(), targetState, sceneBundle, false, null);
             }
         }
     }
@@ -246,7 +277,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         for (int i = index; i <= recordList.size() - 1; i++) {
             Record record = recordList.get(i);
             Bundle sceneBundle = bundleList.get(i);
-            moveState(this.mNavigationScene, record.mScene, targetState, sceneBundle, causeByActivityLifecycle, null);
+            moveState(this.mNavigationScene, record.getScene(), targetState, sceneBundle, causeByActivityLifecycle, null);
         }
     }
 
@@ -278,6 +309,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             throw new PreviousExceptionMistakenlyForceCaughtException("Cant navigate because previous navigation operation encounter error, last exception ", this.mLastException);
         }
 
+        final NavigationOperationTrace trace = createTrace(operation);
         if (canExecuteNavigationStackOperation()) {
             /**
              * when current Handler Message is executing a NavigationScene navigation stack operation or GroupScene operation,
@@ -298,7 +330,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                         if (canExecuteNavigationStackOperation()) {
                             SceneTrace.beginSection(TRACE_EXECUTE_OPERATION_TAG);
                             String suppressTag = beginSuppressStackOperation("NavigationManager execute operation by Handler.post()");
-                            executeOperationSafely(operation, EMPTY_RUNNABLE);
+                            executeOperationTraced(operation, trace);
                             endSuppressStackOperation(suppressTag);
                             mAnySceneStateChanged = true;
                             SceneTrace.endSection();
@@ -309,7 +341,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                     }
                 };
                 mCurrentScheduledStackOperationCount++;
-                LoggerManager.getInstance().i(TAG, "post " + operation + " async to message queue because previous tasks are not finished");
+                LoggerManager.getInstance().i(TAG, "post %s async to message queue because previous tasks are not finished", operation);
                 requireMessageQueue().postAsync(task);
             } else {
                 NavigationRunnable task = new NavigationRunnable() {
@@ -317,7 +349,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                     public void run() {
                         SceneTrace.beginSection(TRACE_EXECUTE_OPERATION_TAG);
                         String suppressTag = beginSuppressStackOperation("NavigationManager execute operation directly");
-                        executeOperationSafely(operation, EMPTY_RUNNABLE);
+                        executeOperationTraced(operation, trace);
                         endSuppressStackOperation(suppressTag);
                         mAnySceneStateChanged = true;
                         SceneTrace.endSection();
@@ -327,16 +359,16 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 if (async) {
                     NavigationMessageQueue navigationMessageQueue = requireMessageQueue();
                     if (hasAsyncUrgentHint && !navigationMessageQueue.hasPendingTasks()) {
-                        LoggerManager.getInstance().i(TAG, "post " + operation + " async to message queue head because of async and urgent argument");
+                        LoggerManager.getInstance().i(TAG, "post %s async to message queue head because of async and urgent argument", operation);
                         requireMessageQueue().postUrgentAtHead(task);
                     } else {
-                        LoggerManager.getInstance().i(TAG, "post " + operation + " async to message queue because of async argument");
+                        LoggerManager.getInstance().i(TAG, "post %s async to message queue because of async argument", operation);
                         requireMessageQueue().postAsync(task);
                     }
                 } else {
-                    LoggerManager.getInstance().i(TAG, "post " + operation + " sync to message queue start");
+                    LoggerManager.getInstance().i(TAG, "post %s sync to message queue start", operation);
                     requireMessageQueue().postSync(task);
-                    LoggerManager.getInstance().i(TAG, "post " + operation + " sync to message queue finish");
+                    LoggerManager.getInstance().i(TAG, "post %s sync to message queue finish", operation);
                 }
             }
         } else {
@@ -344,7 +376,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
              * navigation stack operation can't be executed before NavigationScene's state is State.ACTIVITY_CREATED, otherwise
              * animation can't be execute without view
              */
-            LoggerManager.getInstance().i(TAG, "add " + operation + " to pending list because of NavigationScene state is not ready");
+            LoggerManager.getInstance().i(TAG, "add %s to pending list because of NavigationScene state is not ready", operation);
             mPendingActionList.addLast(operation);
             mLastPendingActionListItemTimestamp = System.currentTimeMillis();
         }
@@ -352,6 +384,8 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
     @NonNull
     public String beginSuppressStackOperation(@NonNull String tagPrefix) {
+        //navigation resumes, the rest of a budgeted recycle pass may work on a stale stack
+        cancelScheduledRecycle();
         String value = tagPrefix + "_" + mSuppressStackOperationId++;
         if (!mIsNavigationStateChangeInProgress.add(value)) {
             throw new SceneInternalException("suppressTag already exists");
@@ -421,17 +455,59 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         }
     };
 
+    @Nullable
+    private NavigationTransaction mTransaction;
+
+    @Override
+    public void beginTransaction() {
+        if (this.mTransaction != null) {
+            throw new IllegalStateException("you must call commitTransaction before another beginTransaction");
+        }
+        this.mTransaction = new NavigationTransaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        NavigationTransaction transaction = this.mTransaction;
+        if (transaction == null) {
+            throw new IllegalStateException("you must call beginTransaction before commitTransaction");
+        }
+        this.mTransaction = null;
+        if (transaction.isEmpty()) {
+            return;
+        }
+        LoggerManager.getInstance().i(TAG, "commitTransaction");
+        scheduleToNextUIThreadLoop(new TransactionOperation(transaction));
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return this.mTransaction != null;
+    }
+
     public void remove(@NonNull Scene scene) {
-        LoggerManager.getInstance().i(TAG, "remove " + scene);
+        if (this.mTransaction != null) {
+            this.mTransaction.remove(scene);
+            return;
+        }
+        LoggerManager.getInstance().i(TAG, "remove %s", scene);
         scheduleToNextUIThreadLoop(new RemoveOperation(scene));
     }
 
     public void pop() {
+        if (this.mTransaction != null) {
+            this.mTransaction.pop(null, null);
+            return;
+        }
         LoggerManager.getInstance().i(TAG, "pop");
         scheduleToNextUIThreadLoop(new PopOperation(null));
     }
 
     public void pop(PopOptions popOptions) {
+        if (this.mTransaction != null) {
+            this.mTransaction.pop(popOptions.getPopUtilPredicate(), popOptions.getNavigationAnimationExecutor());
+            return;
+        }
         LoggerManager.getInstance().i(TAG, "pop with PopOptions");
         if (popOptions.isUsePost()) {
             scheduleToNextUIThreadLoop(new CoordinatePopOptionOperation(this, requireMessageQueue(), popOptions), popOptions.isUsePostWhenPause(), false);
@@ -441,11 +517,19 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     }
 
     public void popTo(Class<? extends Scene> clazz, NavigationAnimationExecutor animationFactory) {
-        LoggerManager.getInstance().i(TAG, "popTo " + clazz);
+        if (this.mTransaction != null) {
+            this.mTransaction.popTo(clazz, animationFactory);
+            return;
+        }
+        LoggerManager.getInstance().i(TAG, "popTo %s", clazz);
         scheduleToNextUIThreadLoop(new PopToOperation(clazz, animationFactory));
     }
 
     public void popToRoot(NavigationAnimationExecutor animationFactory) {
+        if (this.mTransaction != null) {
+            this.mTransaction.popToRoot(animationFactory);
+            return;
+        }
         LoggerManager.getInstance().i(TAG, "popToRoot");
         scheduleToNextUIThreadLoop(new PopToRootOperation(animationFactory));
     }
@@ -456,7 +540,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             throw new NullPointerException("rootScene can't be null");
         }
 
-        LoggerManager.getInstance().i(TAG, "pushRoot " + scene);
+        LoggerManager.getInstance().i(TAG, "pushRoot %s", scene);
         if (this.mReduceColdStartCallStack && getMessageQueue() == null) {
             SceneTrace.beginSection(TRACE_EXECUTE_OPERATION_TAG);
             String suppressTag = beginSuppressStackOperation("NavigationManager execute push root operation immediately");
@@ -469,12 +553,13 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     }
 
     private void executePushRootOperationImmediately(@NonNull final Operation operation) {
+        final NavigationOperationTrace trace = createTrace(operation);
         NavigationRunnable task = new NavigationRunnable() {
             @Override
             public void run() {
                 SceneTrace.beginSection(TRACE_EXECUTE_OPERATION_TAG);
                 String suppressTag = beginSuppressStackOperation("NavigationManager execute push root operation immediately");
-                executeOperationSafely(operation, EMPTY_RUNNABLE);
+                executeOperationTraced(operation, trace);
                 endSuppressStackOperation(suppressTag);
                 SceneTrace.endSection();
             }
@@ -486,11 +571,19 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (scene == null) {
             throw new NullPointerException("scene can't be null");
         }
+        if (this.mTransaction != null) {
+            if (this.mTransaction.containsPushedScene(scene)) {
+                throw new IllegalArgumentException("Scene is already pushed");
+            }
+            this.mTransaction.push(scene, pushOptions);
+            this.mSceneInstantiateNanos = 0;
+            return;
+        }
         if (pushOptions.isUsePost()) {
-            LoggerManager.getInstance().i(TAG, "push " + scene.toString() + " by post");
+            LoggerManager.getInstance().i(TAG, "push %s by post", scene);
             scheduleToNextUIThreadLoop(new CoordinatePushOptionOperation(this, requireMessageQueue(), scene, pushOptions), pushOptions.isUsePostWhenPause(), pushOptions.isUsePostWhenPauseUrgentHint());
         } else {
-            LoggerManager.getInstance().i(TAG, "push " + scene.toString());
+            LoggerManager.getInstance().i(TAG, "push %s", scene);
             scheduleToNextUIThreadLoop(new PushOptionOperation(scene, pushOptions));
         }
     }
@@ -500,7 +593,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (scene == null) {
             throw new NullPointerException("scene can't be null");
         }
-        LoggerManager.getInstance().i(TAG, "recreate " + scene.toString());
+        LoggerManager.getInstance().i(TAG, "recreate %s", scene);
         scheduleToNextUIThreadLoop(new RecreateOperation(this.mNavigationScene, NavigationSceneManager.this, this.mBackStackList, scene, reason));
     }
 
@@ -508,7 +601,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (scene == null) {
             throw new NullPointerException("scene can't be null");
         }
-        LoggerManager.getInstance().i(TAG, "changeTranslucent " + scene.toString());
+        LoggerManager.getInstance().i(TAG, "changeTranslucent %s", scene);
         scheduleToNextUIThreadLoop(new TranslucentOperation(scene, translucent));
     }
 
@@ -587,18 +680,23 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     public Scene getCurrentScene() {
         Record record = mBackStackList.getCurrentRecord();
         if (record != null) {
-            return record.mScene;
+            //the top Scene is always created, getScene() never creates it here
+            return record.getScene();
         } else {
             return null;
         }
     }
 
+    /**
+     * Scenes which are not created yet after restore are created by this call, they stay in State.NONE
+     * until they become visible, use {@link #getCurrentRecordList()} to avoid it
+     */
     @Override
     public List<Scene> getCurrentSceneList() {
-        List<Record> recordList = mBackStackList.getCurrentRecordList();
-        List<Scene> sceneList = new ArrayList<>();
+        List<Record> recordList = mBackStackList.getCurrentRecordListView();
+        List<Scene> sceneList = new ArrayList<>(recordList.size());
         for (Record record : recordList) {
-            sceneList.add(record.mScene);
+            sceneList.add(record.getScene());
         }
         return sceneList;
     }
@@ -661,14 +759,18 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                                  @Nullable LifecycleHooks lifecycleHooks,
                                  @Nullable Runnable endAction) {
         if (bundle != null) {
-            LoggerManager.getInstance().i(TAG, "Sync Scene " + scene.toString() + " Lifecycle [" + scene.getState().name + " -> " + to.name + "] with previous saved State");
+            if (LoggerManager.getInstance().isLoggable(LoggerManager.INFO)) {
+                LoggerManager.getInstance().i(TAG, "Sync Scene " + scene.toString() + " Lifecycle [" + scene.getState().name + " -> " + to.name + "] with previous saved State");
+            }
         } else {
-            LoggerManager.getInstance().i(TAG, "Sync Scene " + scene.toString() + " Lifecycle [" + scene.getState().name + " -> " + to.name + "] without saved State");
-            if (scene.getState() == State.NONE && to.value > State.NONE.value && scene.getArguments() == null) {
+            if (LoggerManager.getInstance().isLoggable(LoggerManager.INFO)) {
+                LoggerManager.getInstance().i(TAG, "Sync Scene " + scene.toString() + " Lifecycle [" + scene.getState().name + " -> " + to.name + "] without saved State");
+            }
+            if (scene.getState() == State.NONE && to.value > State.NONE.value && scene.getArguments() == null && LoggerManager.getInstance().isLoggable(LoggerManager.ERROR)) {
                 LoggerManager.getInstance().e(TAG, "Something error, Scene restore from State.NONE to " + to.name + " but without saved State \n" + Log.getStackTraceString(new Throwable()));
             }
         }
-        if (this.mCurrentSyncingStateScene != null) {
+        if (this.mCurrentSyncingStateScene != null && LoggerManager.getInstance().isLoggable(LoggerManager.ERROR)) {
             LoggerManager.getInstance().e(TAG, "Something error, previous Scene " + this.mCurrentSyncingStateScene.toString() + " sync lifecycle is not finished, it will throw exception in the future \n" + Log.getStackTraceString(new Throwable()));
         }
 
@@ -680,6 +782,53 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         }
     }
 
+    /**
+     * @return null unless a {@link NavigationTraceListener} is installed
+     */
+    @Nullable
+    private NavigationOperationTrace createTrace(@NonNull Operation operation) {
+        long sceneInstantiateNanos = this.mSceneInstantiateNanos;
+        this.mSceneInstantiateNanos = 0;
+        if (NavigationTraceListener.getListener() == null) {
+            return null;
+        }
+        NavigationOperationTrace trace = new NavigationOperationTrace(operation);
+        trace.setSceneInstantiateNanos(sceneInstantiateNanos);
+        return trace;
+    }
+
+    /**
+     * Record the constructor time of the Scene pushed next, see {@link NavigationOperationTrace#getSceneInstantiateNanos()}
+     */
+    void setSceneInstantiateNanos(long nanos) {
+        this.mSceneInstantiateNanos = nanos;
+    }
+
+    /**
+     * @return trace of the operation being executed, lifecycle state transitions add their time to it
+     */
+    @Nullable
+    NavigationOperationTrace getCurrentTrace() {
+        return this.mCurrentTrace;
+    }
+
+    private void executeOperationTraced(@NonNull Operation operation, @Nullable NavigationOperationTrace trace) {
+        if (trace == null) {
+            executeOperationSafely(operation, EMPTY_RUNNABLE);
+            return;
+        }
+        NavigationOperationTrace previousTrace = this.mCurrentTrace;
+        this.mCurrentTrace = trace;
+        trace.onExecuteStart();
+        try {
+            executeOperationSafely(operation, trace.wrapEndAction(EMPTY_RUNNABLE));
+        } finally {
+            this.mCurrentTrace = previousTrace;
+        }
+        Record record = this.mBackStackList.getCurrentRecord();
+        trace.onExecuteEnd(record != null ? record.mSceneClassName : null);
+    }
+
     //avoid exceptions being caught externally
     public void executeOperationSafely(final Operation operation, final Runnable operationEndAction) {
         try {
@@ -708,14 +857,14 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
         @Override
         public void execute(final Runnable operationEndAction) {
-            List<Record> recordList = mBackStackList.getCurrentRecordList();
+            List<Record> recordList = mBackStackList.getCurrentRecordListView();
 
             Predicate<Scene> popUtilPredicate = this.mPopOptions.getPopUtilPredicate();
             int count = 0;
             if (popUtilPredicate != null) {
                 for (int i = recordList.size() - 1; i >= 0; i--) {
                     Record record = recordList.get(i);
-                    if (popUtilPredicate.apply(record.mScene)) {
+                    if (record.applyPredicate(popUtilPredicate)) {
                         break;
                     }
                     count++;
@@ -781,7 +930,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
             final Record returnRecord = recordList.get(recordList.size() - this.popCount - 1);
             final Record currentRecord = mBackStackList.getCurrentRecord();
-            final Scene currentScene = currentRecord.mScene;
+            final Scene currentScene = currentRecord.getScene();
             final View currentSceneView = currentScene.getView();
 
             if (currentScene instanceof CoordinateScheduleScene) {
@@ -798,12 +947,12 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 destroyByRecord(record, currentRecord);
             }
 
-            Scene dstScene = returnRecord.mScene;
+            Scene dstScene = returnRecord.getScene();
             //When Scene has created View, compare its cached Configuration to the latest Configuration, if it is changed, recreate it
             boolean recreated = dispatchOnConfigurationChangedToRecord(returnRecord, dstScene);
             if (recreated) {
                 //new scene instance is created
-                dstScene = returnRecord.mScene;
+                dstScene = returnRecord.getScene();
             }
 
             final boolean isNavigationSceneInAnimationState = mNavigationScene.getState().value >= State.STARTED.value;
@@ -846,10 +995,10 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                     for (int i = currentRecordList.size() - 2; i >= 0; i--) {
                         Record record = currentRecordList.get(i);
                         if (mOnlyRestoreVisibleScene) {
-                            moveState(mNavigationScene, record.mScene, findMinState(mNavigationScene.getState(), State.STARTED), record.mPreviousSavedState, false, null);
+                            moveState(mNavigationScene, record.getScene(), findMinState(mNavigationScene.getState(), State.STARTED), record.mPreviousSavedState, false, null);
                             record.mPreviousSavedState = null;
                         } else {
-                            moveState(mNavigationScene, record.mScene, findMinState(mNavigationScene.getState(), State.STARTED), null, false, null);
+                            moveState(mNavigationScene, record.getScene(), findMinState(mNavigationScene.getState(), State.STARTED), null, false, null);
                         }
                         if (!record.mIsTranslucent) {
                             break;
@@ -859,15 +1008,15 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             }
 
             restoreActivityStatus(returnRecord.mActivityStatusRecord);
-            mNavigationListener.navigationChange(currentRecord.mScene, returnRecord.mScene, false);
+            mNavigationListener.navigationChange(currentRecord.getScene(), returnRecord.getScene(), false);
 
             NavigationAnimationExecutor navigationAnimationExecutor = null;
             // If Pop has a specified animation, the animation specified by Pop is preferred.
-            if (animationFactory != null && animationFactory.isSupport(currentRecord.mScene.getClass(), returnRecord.mScene.getClass())) {
+            if (animationFactory != null && animationFactory.isSupport(currentRecord.getScene().getClass(), returnRecord.getScene().getClass())) {
                 navigationAnimationExecutor = animationFactory;
             }
 
-            if (navigationAnimationExecutor == null && currentRecord.mNavigationAnimationExecutor != null && currentRecord.mNavigationAnimationExecutor.isSupport(currentRecord.mScene.getClass(), returnRecord.mScene.getClass())) {
+            if (navigationAnimationExecutor == null && currentRecord.mNavigationAnimationExecutor != null && currentRecord.mNavigationAnimationExecutor.isSupport(currentRecord.getScene().getClass(), returnRecord.getScene().getClass())) {
                 navigationAnimationExecutor = currentRecord.mNavigationAnimationExecutor;
             }
 
@@ -875,7 +1024,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 navigationAnimationExecutor = mNavigationScene.getDefaultNavigationAnimationExecutor();
             }
 
-            if (!mDisableNavigationAnimation && isNavigationSceneInAnimationState && navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(currentRecord.mScene.getClass(), returnRecord.mScene.getClass())) {
+            if (!mDisableNavigationAnimation && isNavigationSceneInAnimationState && navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(currentRecord.getScene().getClass(), returnRecord.getScene().getClass())) {
                 ViewGroup animationContainer = mNavigationScene.getAnimationContainer();
                 // Ensure that the Z-axis is correct
                 AnimatorUtility.bringAnimationViewToFrontIfNeeded(mNavigationScene);
@@ -886,14 +1035,14 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                     @Override
                     public void run() {
                         mCancellationSignalManager.remove(cancellationSignalList);
-                        mNavigationScene.addToReuseCache(currentRecord.mScene);
-                        notifyNavigationAnimationEnd(currentScene, returnRecord.mScene, false);
+                        mNavigationScene.addToReuseCache(currentRecord.getScene());
+                        notifyNavigationAnimationEnd(currentScene, returnRecord.getScene(), false);
                         operationEndAction.run();
                     }
                 };
 
                 final AnimationInfo fromInfo = new AnimationInfo(currentScene, currentSceneView, currentScene.getState(), currentRecord.mIsTranslucent);
-                final AnimationInfo toInfo = new AnimationInfo(returnRecord.mScene, returnRecord.mScene.getView(), returnRecord.mScene.getState(), returnRecord.mIsTranslucent);
+                final AnimationInfo toInfo = new AnimationInfo(returnRecord.getScene(), returnRecord.getScene().getView(), returnRecord.getScene().getState(), returnRecord.mIsTranslucent);
 
                 mCancellationSignalManager.add(cancellationSignalList);
                 /*
@@ -906,7 +1055,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                         mNavigationScene.getView().getRootView(),
                         fromInfo, toInfo, cancellationSignalList, NavigationSceneManager.this::suppressRecycle, endAction);
             } else {
-                mNavigationScene.addToReuseCache(currentRecord.mScene);
+                mNavigationScene.addToReuseCache(currentRecord.getScene());
                 operationEndAction.run();
             }
         }
@@ -979,16 +1128,16 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             if (needChangeStateSceneRecordList.size() > 1) {
                 Collections.reverse(needChangeStateSceneRecordList);
             }
-            State state = curRecord.mScene.getState();
+            State state = curRecord.getScene().getState();
             State dstState = findMinState(state, translucent ? State.STARTED : State.ACTIVITY_CREATED);
 
             for (int i = 0; i < needChangeStateSceneRecordList.size(); i++) {
                 Record tmpRecord = needChangeStateSceneRecordList.get(i);
-                if (mOnlyRestoreVisibleScene && tmpRecord.mScene.getView() == null) {
-                    moveState(mNavigationScene, tmpRecord.mScene, dstState, tmpRecord.mPreviousSavedState, false, null);
+                if (mOnlyRestoreVisibleScene && tmpRecord.getScene().getView() == null) {
+                    moveState(mNavigationScene, tmpRecord.getScene(), dstState, tmpRecord.mPreviousSavedState, false, null);
                     tmpRecord.mPreviousSavedState = null;
                 } else {
-                    moveState(mNavigationScene, tmpRecord.mScene, dstState, null, false, null);
+                    moveState(mNavigationScene, tmpRecord.getScene(), dstState, null, false, null);
                 }
             }
 
@@ -1001,6 +1150,108 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         InteractionNavigationPopAnimationFactory.cancelAllRunningInteractionAnimation();
     }
 
+    /**
+     * Execute a folded navigation transaction as one operation, Scenes pushed below the new top one are
+     * inserted by {@link RecordStack#insertLazy(int, Record, Scene)}, so they stay not created like Records restored
+     * in onlyRestoreVisibleScene mode until they become visible
+     */
+    private class TransactionOperation implements Operation {
+        private final NavigationTransaction mTransaction;
+
+        private TransactionOperation(NavigationTransaction transaction) {
+            this.mTransaction = transaction;
+        }
+
+        @Override
+        public void execute(final Runnable operationEndAction) {
+            cancelCurrentRunningAnimation();
+            if (!canExecuteNavigationStackOperation()) {
+                throw new IllegalArgumentException("Can't commit transaction, current NavigationScene state " + mNavigationScene.getState().name);
+            }
+
+            final List<Record> currentRecordList = mBackStackList.getCurrentRecordList();
+            List<NavigationTransaction.Entry> stack = this.mTransaction.fold(mBackStackList);
+            final Set<Record> keptRecordSet = Collections.newSetFromMap(new IdentityHashMap<Record, Boolean>());
+            final List<NavigationTransaction.Entry> pushedEntryList = new ArrayList<>();
+            for (int i = 0; i < stack.size(); i++) {
+                NavigationTransaction.Entry entry = stack.get(i);
+                if (entry.mRecord != null) {
+                    keptRecordSet.add(entry.mRecord);
+                } else {
+                    pushedEntryList.add(entry);
+                }
+            }
+
+            if (pushedEntryList.isEmpty()) {
+                //ends on a Scene already in the stack, remove the hidden ones silently then pop with one animation
+                Record topRecord = stack.get(stack.size() - 1).mRecord;
+                int topIndex = currentRecordList.indexOf(topRecord);
+                for (int i = 0; i < topIndex; i++) {
+                    Record record = currentRecordList.get(i);
+                    if (keptRecordSet.contains(record)) {
+                        continue;
+                    }
+                    if (record.isSceneCreated()) {
+                        new RemoveOperation(record.mScene).execute(EMPTY_RUNNABLE);
+                    } else {
+                        //never created, so there is no lifecycle to dispatch and the Scene below is not affected
+                        mBackStackList.remove(record);
+                    }
+                }
+                int popCount = currentRecordList.size() - 1 - topIndex;
+                if (popCount > 0) {
+                    new PopCountOperation(this.mTransaction.getPopAnimationExecutor(), popCount).execute(operationEndAction);
+                } else {
+                    operationEndAction.run();
+                }
+                return;
+            }
+
+            final NavigationTransaction.Entry topEntry = pushedEntryList.remove(pushedEntryList.size() - 1);
+            final Scene topScene = topEntry.getScene();
+            LaunchModeBehavior launchModeBehavior = topEntry.mPushOptions.provideLaunchModeBehavior(topScene.getClass());
+            if (launchModeBehavior != null) {
+                //checked against the final stack, intercepting would drop the other changes of this transaction
+                List<Pair<Scene, Bundle>> foldedSceneList = new ArrayList<>(stack.size() - 1);
+                for (int i = 0; i < stack.size() - 1; i++) {
+                    NavigationTransaction.Entry entry = stack.get(i);
+                    Scene scene = entry.getScene();
+                    Bundle arguments = scene.getArguments();
+                    if (arguments == null && entry.mRecord != null && entry.mRecord.mPreviousSavedState != null) {
+                        arguments = entry.mRecord.mPreviousSavedState.getBundle(ParcelConstants.KEY_SCENE_ARGUMENT);
+                    }
+                    foldedSceneList.add(Pair.create(scene, arguments));
+                }
+                if (launchModeBehavior.onInterceptPushOperation(foldedSceneList)) {
+                    throw new IllegalStateException("Top Scene " + topScene.getClass().getName() + " of a navigation transaction is intercepted by its launch mode " + launchModeBehavior.getClass().getName());
+                }
+            }
+
+            final List<Record> lazyRecordList = new ArrayList<>(pushedEntryList.size());
+            for (int i = 0; i < pushedEntryList.size(); i++) {
+                NavigationTransaction.Entry entry = pushedEntryList.get(i);
+                Scene scene = entry.getScene();
+                PushOptions pushOptions = entry.mPushOptions;
+                boolean isSceneTranslucent = pushOptions.isIsTranslucent() || scene instanceof SceneTranslucent;
+                Record record = Record.newInstance(scene, isSceneTranslucent, pushOptions.getNavigationAnimationFactory());
+                obtainNavigationResultActionHandler().saveCallback(record, pushOptions);
+                lazyRecordList.add(record);
+            }
+
+            Predicate<Record> removePredicate = null;
+            if (keptRecordSet.size() < currentRecordList.size()) {
+                removePredicate = new Predicate<Record>() {
+                    @Override
+                    public boolean apply(Record record) {
+                        return !keptRecordSet.contains(record);
+                    }
+                };
+            }
+            //Scenes between the kept ones and the new top one are inserted below it, they are not created until they are seen
+            new PushOptionOperation(topScene, topEntry.mPushOptions, removePredicate, lazyRecordList).execute(operationEndAction);
+        }
+    }
+
     /**
      *  1. If it is the top layer, then it is Pop.
      *  2. After removal, the following Scene will need to update the status if needed
@@ -1020,10 +1271,17 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 return;
             }
 
+            Record targetRecord = mBackStackList.getRecordByScene(mScene);
             List<Record> list = mBackStackList.getCurrentRecordList();
             for (int i = list.size() - 1; i >= 0; i--) {
                 Record record = list.get(i);
-                if (record.mScene == mScene) {
+                if (record == targetRecord) {
+                    if (!record.isSceneCreated()) {
+                        //never created, so there is no lifecycle to dispatch and the Scene below is not affected
+                        mBackStackList.remove(record);
+                        break;
+                    }
+
                     // It is possible to be animating, so reset the animation
                     if (i == list.size() - 2) {
                         cancelCurrentRunningAnimation();
@@ -1039,11 +1297,11 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                         if (mOnlyRestoreVisibleScene) {
                             //only recreate below scene when the removed scene is visible
                             if (sceneState == State.STARTED || sceneState == State.RESUMED) {
-                                moveState(mNavigationScene, belowRecord.mScene, sceneState, belowRecord.mPreviousSavedState, false, null);
+                                moveState(mNavigationScene, belowRecord.getScene(), sceneState, belowRecord.mPreviousSavedState, false, null);
                                 belowRecord.mPreviousSavedState = null;
                             }
                         } else {
-                            moveState(mNavigationScene, belowRecord.mScene, sceneState, null, false, null);
+                            moveState(mNavigationScene, belowRecord.getScene(), sceneState, null, false, null);
                         }
                     }
                     break;
@@ -1075,9 +1333,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
         @Override
         public void execute(final Runnable operationEndAction) {
-            List<Record> recordList = mBackStackList.getCurrentRecordList();
-
-            int count = recordList.size() - 1;
+            int count = mBackStackList.size() - 1;
             if (count == 0) {
                 operationEndAction.run();
                 return;
@@ -1097,12 +1353,13 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
         @Override
         public void execute(final Runnable operationEndAction) {
-            List<Record> recordList = mBackStackList.getCurrentRecordList();
+            List<Record> recordList = mBackStackList.getCurrentRecordListView();
             Record returnRecord = null;
             int popCount = 0;
             for (int i = recordList.size() - 1; i >= 0; i--) {
                 Record record = recordList.get(i);
-                if (record.mScene.getClass() == clazz) {
+                //compare the class name, a Scene which is not created yet is not created here
+                if (clazz.getName().equals(record.mSceneClassName)) {
                     returnRecord = record;
                     break;
                 }
@@ -1173,7 +1430,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
         moveState(mNavigationScene, scene, mNavigationScene.getState(), null, false, null);
 
-        mNavigationListener.navigationChange(currentRecord != null ? currentRecord.mScene : null, scene, true);
+        mNavigationListener.navigationChange(currentRecord != null ? currentRecord.getScene() : null, scene, true);
         if (operationEndAction != null) {
             operationEndAction.run();
         }
@@ -1184,12 +1441,37 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         private final PushOptions pushOptions;
         private final boolean isSceneTranslucent;
         private final LaunchModeBehavior mLaunchModeBehavior;
+        /**
+         * Checked on the Record so that a Scene which is not created yet is not created to be removed
+         */
+        @Nullable
+        private final Predicate<Record> mExtraRemovePredicate;
+        /**
+         * Records inserted right below the pushed Scene by {@link RecordStack#insertLazy(int, Record, Scene)}
+         */
+        @Nullable
+        private final List<Record> mLazyRecordList;
 
         private PushOptionOperation(Scene scene, PushOptions pushOptions) {
             this.scene = scene;
             this.pushOptions = pushOptions;
             this.isSceneTranslucent = pushOptions.isIsTranslucent() || scene instanceof SceneTranslucent;
             this.mLaunchModeBehavior = pushOptions.provideLaunchModeBehavior(scene.getClass());
+            this.mExtraRemovePredicate = null;
+            this.mLazyRecordList = null;
+        }
+
+        /**
+         * Used by {@link TransactionOperation}, the launch mode is checked against the folded stack there, so it is
+         * not checked again against the current stack here
+         */
+        private PushOptionOperation(Scene scene, PushOptions pushOptions, @Nullable Predicate<Record> extraRemovePredicate, @NonNull List<Record> lazyRecordList) {
+            this.scene = scene;
+            this.pushOptions = pushOptions;
+            this.isSceneTranslucent = pushOptions.isIsTranslucent() || scene instanceof SceneTranslucent;
+            this.mLaunchModeBehavior = null;
+            this.mExtraRemovePredicate = extraRemovePredicate;
+            this.mLazyRecordList = lazyRecordList;
         }
 
         @Override
@@ -1200,7 +1482,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             }
 
             final Record currentRecord = mBackStackList.getCurrentRecord();
-            final View currentView = currentRecord != null ? currentRecord.mScene.getView() : null;
+            final View currentView = currentRecord != null ? currentRecord.getScene().getView() : null;
 
             /*
              * It is possible to repeatedly push the same Scene object multiple times in multiple NavigationScene
@@ -1257,16 +1539,22 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             Predicate<Scene> removePredicate = pushOptions.getRemovePredicate();
             boolean isTaskRootReplaced = false;
             Record newTaskRoot = null;
-            if (removePredicate != null) {
+            if (removePredicate != null || this.mExtraRemovePredicate != null) {
                 final List<Record> previousRecordList = mBackStackList.getCurrentRecordList();
                 for (int i = previousRecordList.size() - 1; i >= 0; i--) {
                     Record oldRecord = previousRecordList.get(i);
-                    Scene oldScene = oldRecord.mScene;
-                    if (!removePredicate.apply(oldScene)) {
+                    boolean remove = this.mExtraRemovePredicate != null && this.mExtraRemovePredicate.apply(oldRecord);
+                    if (!remove && removePredicate != null) {
+                        remove = oldRecord.applyPredicate(removePredicate);
+                    }
+                    if (!remove) {
                         newTaskRoot = oldRecord;
                         continue;
                     }
-                    moveState(mNavigationScene, oldScene, State.NONE, null, false, null);
+                    //a Scene which is not created yet has nothing to destroy
+                    if (oldRecord.isSceneCreated()) {
+                        moveState(mNavigationScene, oldRecord.mScene, State.NONE, null, false, null);
+                    }
                     mBackStackList.remove(oldRecord);
 
                     if (i == 0) {
@@ -1275,9 +1563,9 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 }
             }
 
-            if (currentRecord != null && mBackStackList.getCurrentRecordList().contains(currentRecord)) {
+            if (currentRecord != null && mBackStackList.contains(currentRecord)) {
                 currentRecord.saveActivityStatus();
-                Scene currentScene = currentRecord.mScene;
+                Scene currentScene = currentRecord.getScene();
                 State dstState = isSceneTranslucent ? State.STARTED : State.ACTIVITY_CREATED;
                 dstState = findMinState(dstState, mNavigationScene.getState());
                 moveState(mNavigationScene, currentScene, dstState, null, false, null);
@@ -1290,7 +1578,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 if (currentRecordList.size() > 1 && !isSceneTranslucent && currentRecord.mIsTranslucent) {
                     for (int i = currentRecordList.size() - 2; i >= 0; i--) {
                         Record record = currentRecordList.get(i);
-                        moveState(mNavigationScene, record.mScene, findMinState(State.ACTIVITY_CREATED, mNavigationScene.getState()), null, false, null);
+                        moveState(mNavigationScene, record.getScene(), findMinState(State.ACTIVITY_CREATED, mNavigationScene.getState()), null, false, null);
                         if (!record.mIsTranslucent) {
                             break;
                         }
@@ -1298,10 +1586,20 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 }
             }
 
+            if (this.mLazyRecordList != null) {
+                for (int i = 0; i < this.mLazyRecordList.size(); i++) {
+                    Record lazyRecord = this.mLazyRecordList.get(i);
+                    mBackStackList.insertLazy(mBackStackList.size(), lazyRecord, lazyRecord.mScene);
+                }
+            }
+
             final NavigationAnimationExecutor animationFactory = pushOptions.getNavigationAnimationFactory();
             final Record record = Record.newInstance(scene, isSceneTranslucent, animationFactory);
             obtainNavigationResultActionHandler().saveCallback(record, pushOptions);
             mBackStackList.push(record);
+            if (this.mLazyRecordList != null) {
+                syncSceneStatesBelowTop();
+            }
 
             if (isTaskRootReplaced) {
 
@@ -1312,7 +1610,9 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
              *       Because of the destruction restore, it is impossible to go directly to RESUMED
              */
             moveState(mNavigationScene, scene, mNavigationScene.getState(), null, false, null);
-            mNavigationListener.navigationChange(currentRecord != null ? currentRecord.mScene : null, scene, true);
+            //previous Scene was stopped before the new Record is added, it is covered only now
+            SceneLifecycleStateScheduler.detachInvisibleSceneViews(mNavigationScene);
+            mNavigationListener.navigationChange(currentRecord != null ? currentRecord.getScene() : null, scene, true);
 
             //Navigation animation only execute when NavigationScene is visible, otherwise skip
             final boolean isNavigationSceneInAnimationState = mNavigationScene.getState().value >= State.STARTED.value;
@@ -1320,18 +1620,18 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 NavigationAnimationExecutor navigationAnimationExecutor = null;
                 //Scene can override mNavigationAnimationExecutor in moveState method by NavigationScene.overrideNavigationAnimationExecutor
                 NavigationAnimationExecutor recordAnimationExecutor = record.mNavigationAnimationExecutor;
-                if (recordAnimationExecutor != null && recordAnimationExecutor.isSupport(currentRecord.mScene.getClass(), scene.getClass())) {
+                if (recordAnimationExecutor != null && recordAnimationExecutor.isSupport(currentRecord.getScene().getClass(), scene.getClass())) {
                     navigationAnimationExecutor = recordAnimationExecutor;
                 }
-                if (navigationAnimationExecutor == null && animationFactory != null && animationFactory.isSupport(currentRecord.mScene.getClass(), scene.getClass())) {
+                if (navigationAnimationExecutor == null && animationFactory != null && animationFactory.isSupport(currentRecord.getScene().getClass(), scene.getClass())) {
                     navigationAnimationExecutor = animationFactory;
                 }
                 if (navigationAnimationExecutor == null) {
                     navigationAnimationExecutor = mNavigationScene.getDefaultNavigationAnimationExecutor();
                 }
 
-                if (navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(currentRecord.mScene.getClass(), scene.getClass())) {
-                    final Scene finalCurrentScene = currentRecord.mScene;
+                if (navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(currentRecord.getScene().getClass(), scene.getClass())) {
+                    final Scene finalCurrentScene = currentRecord.getScene();
 
                     AnimatorUtility.bringSceneViewToFrontIfNeeded(mNavigationScene);//保证Z轴正确
                     navigationAnimationExecutor.setAnimationViewGroup(mNavigationScene.getAnimationContainer());
@@ -1361,6 +1661,31 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         }
     }
 
+    /**
+     * Used after a navigation transaction changed the Scenes below the top one: the Scenes seen through translucent
+     * Scenes on top, down to the first opaque one, are created if needed and started, every Scene they cover
+     * is stopped
+     */
+    private void syncSceneStatesBelowTop() {
+        List<Record> recordList = mBackStackList.getCurrentRecordList();
+        boolean visible = recordList.get(recordList.size() - 1).mIsTranslucent;
+        State visibleState = findMinState(mNavigationScene.getState(), State.STARTED);
+        State coveredState = findMinState(mNavigationScene.getState(), State.ACTIVITY_CREATED);
+        for (int i = recordList.size() - 2; i >= 0; i--) {
+            Record record = recordList.get(i);
+            if (visible) {
+                Scene scene = record.getScene();
+                if (scene.getState().value < visibleState.value) {
+                    Bundle previousSavedState = scene.getState() == State.NONE ? record.consumeSavedInstanceState() : null;
+                    moveState(mNavigationScene, scene, visibleState, previousSavedState, false, null);
+                }
+                visible = record.mIsTranslucent;
+            } else if (record.isSceneCreated() && record.mScene.getState().value > coveredState.value) {
+                moveState(mNavigationScene, record.mScene, coveredState, null, false, null);
+            }
+        }
+    }
+
     @Override
     @NonNull
     public INavigationResultActionHandler obtainNavigationResultActionHandler() {
@@ -1408,7 +1733,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             }
             boolean modifyViewHierarchy = previousSavedState != null;
             if (i == recordList.size() - 1) {
-                moveState(mNavigationScene, record.mScene, targetState, previousSavedState, !modifyViewHierarchy, operationEndAction);
+                moveState(mNavigationScene, record.getScene(), targetState, previousSavedState, !modifyViewHierarchy, operationEndAction);
                 // If the current one is opaque, there is no need to traverse it again.
                 if (!record.mIsTranslucent) {
                     break;
@@ -1425,7 +1750,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                     fixDstState = State.VIEW_CREATED;
                 }
 
-                moveState(mNavigationScene, record.mScene, fixDstState, previousSavedState, !modifyViewHierarchy, operationEndAction);
+                moveState(mNavigationScene, record.getScene(), fixDstState, previousSavedState, !modifyViewHierarchy, operationEndAction);
                 if (!record.mIsTranslucent) {
                     break;
                 }
@@ -1472,7 +1797,11 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
         for (int i = 0; i < recordList.size(); i++) {
             Record record = recordList.get(i);
-            Scene scene = record.mScene;
+            if (state == State.NONE && !record.isSceneCreated()) {
+                //Scene is not created yet, nothing to destroy
+                continue;
+            }
+            Scene scene = record.getScene();
             Bundle previousSavedState = null;
             if (mRestoreStateInLifecycle) {
                 if (nextStageStateHint == State.NONE && state != nextStageStateHint && scene.getState() == State.NONE) {
@@ -1511,7 +1840,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (previousRecord == null) {
             return false;
         }
-        Scene previous = previousRecord.mScene;
+        Scene previous = previousRecord.getScene();
         if (animationFactory.isSupport(current, previous)) {
             animationFactory.begin(mNavigationScene, current, previous);
             return true;
@@ -1534,7 +1863,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (previousRecord == null) {
             return false;
         }
-        Scene previous = previousRecord.mScene;
+        Scene previous = previousRecord.getScene();
         return animationFactory.isSupport(current, previous);
     }
 
@@ -1550,7 +1879,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
 
     @Override
     public boolean containsRecord(Record record) {
-        return this.getCurrentRecordList().contains(record);
+        return this.mBackStackList.contains(record);
     }
 
     @Override
@@ -1558,16 +1887,25 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         return this.mBackStackList.getCurrentRecordList();
     }
 
+    @Override
+    public List<Record> getCurrentRecordListView() {
+        return this.mBackStackList.getCurrentRecordListView();
+    }
+
+    /**
+     * Only used by launch modes, which need the Scene instances, so Scenes which are not created yet
+     * after restore are created by this call and stay in State.NONE until they become visible
+     */
     public List<Pair<Scene, Bundle>> getCurrentSceneAndArgumentsList() {
         List<Pair<Scene, Bundle>> list = new ArrayList<>();
-        List<Record> previousRecordList = getCurrentRecordList();
+        List<Record> previousRecordList = this.mBackStackList.getCurrentRecordListView();
         for (int i = 0; i < previousRecordList.size(); i++) {
             Record tmpRecord = previousRecordList.get(i);
-            Bundle tmpBundle = tmpRecord.mScene.getArguments();
+            Bundle tmpBundle = tmpRecord.getScene().getArguments();
             if (tmpBundle == null && tmpRecord.mPreviousSavedState != null) {
                 tmpBundle = tmpRecord.mPreviousSavedState.getBundle(ParcelConstants.KEY_SCENE_ARGUMENT);
             }
-            list.add(Pair.create(tmpRecord.mScene, tmpBundle));
+            list.add(Pair.create(tmpRecord.getScene(), tmpBundle));
         }
         return list;
     }
@@ -1629,26 +1967,40 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     }
 
     @Override
-    public void recycleInvisibleScenes() {
+    public int recycleInvisibleScenes() {
+        return recycleInvisibleScenes(false);
+    }
+
+    /**
+     * @param resume true if it is the continuation of a pass which ran out of budget
+     */
+    private int recycleInvisibleScenes(boolean resume) {
+        cancelScheduledRecycle();
         if (!this.mOnlyRestoreVisibleScene) {
-            return;
+            return 0;
         }
         if (this.mSuppressRecycle) {
             LoggerManager.getInstance().i(TAG, "recycleInvisibleScenes skip because of mSuppressRecycle true");
-            return;
+            return 0;
         }
-        if (!this.mAnySceneStateChanged) {
+        if (!resume && !this.mAnySceneStateChanged) {
             LoggerManager.getInstance().i(TAG, "recycleInvisibleScenes skip because of mAnySceneStateChanged false");
-            return;
+            return 0;
         }
         if (!mIsNavigationStateChangeInProgress.isEmpty() || !mPendingActionList.isEmpty() || requireMessageQueue().hasPendingTasks()) {
             LoggerManager.getInstance().i(TAG, "recycleInvisibleScenes skip because of navigation operation is in progress");
-            return;
+            return 0;
+        }
+        if (mNavigationScene.getState().value < State.ACTIVITY_CREATED.value) {
+            return 0;
         }
 
         this.mAnySceneStateChanged = false;
         LoggerManager.getInstance().i(TAG, "recycleInvisibleScenes start");
-        List<Record> recordList = this.mBackStackList.getCurrentRecordList();
+        // recycling only replaces Scene instances of Records, the stack itself is not modified
+        int recycledCount = 0;
+        long deadlineNanos = this.mRecycleBudgetMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.mRecycleBudgetMillis) : Long.MAX_VALUE;
+        List<Record> recordList = this.mBackStackList.getCurrentRecordListView();
         int size = recordList.size();
         int lastIndex = size - 1;
         int firstOpaqueIndex = lastIndex;
@@ -1660,17 +2012,22 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
             }
         }
 
-        int recycleStartIndex = firstOpaqueIndex - 1;
+        int recycleEndIndex = firstOpaqueIndex - 1;
         if (this.mRestoreStateInLifecycle) {
             //we want to recycle top scene when it is invisible
-            recycleStartIndex = lastIndex;
+            recycleEndIndex = lastIndex;
         }
 
-        for (int i = recycleStartIndex; i >= 0; i--) {
+        //oldest Scenes first, they are the least likely to be returned to
+        for (int i = 0; i <= recycleEndIndex; i++) {
             Record record = recordList.get(i);
-            Scene scene = record.mScene;
+            if (!record.isSceneCreated()) {
+                //already recycled
+                continue;
+            }
+            Scene scene = record.getScene();
             if (this.mRestoreStateInLifecycle && scene instanceof SceneMemoryRecyclePolicy && ((SceneMemoryRecyclePolicy) scene).followActivityLifecycle()) {
-                LoggerManager.getInstance().i(TAG, "recycle scene skip " + scene.toString() + " because it followActivityLifecycle");
+                LoggerManager.getInstance().i(TAG, "recycle scene skip %s because it followActivityLifecycle", scene);
                 continue;
             }
             State sceneState = scene.getState();
@@ -1680,16 +2037,55 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                 scene.dispatchSaveInstanceState(sceneBundle);
                 record.mPreviousSavedState = sceneBundle;
                 moveState(mNavigationScene, scene, State.NONE, null, false, null);
-                //create a new Scene instance to replace previous one
-                Scene newScene = RecordStack.createNewSceneInstance(mNavigationScene.requireActivity(), i, record, mNavigationScene.mRootSceneComponentFactory);
-                record.mScene = newScene;
-                LoggerManager.getInstance().i(TAG, "recycle scene " + scene + " from state " + sceneState.getName() + " completed, replace it to " + newScene.toString());
+                //drop the Scene instance, a new one is created when the Record becomes visible again
+                this.mBackStackList.releaseScene(record, mNavigationScene.requireActivity(), i, mNavigationScene.mRootSceneComponentFactory);
+                recycledCount++;
+                if (LoggerManager.getInstance().isLoggable(LoggerManager.INFO)) {
+                    LoggerManager.getInstance().i(TAG, "recycle scene " + scene + " from state " + sceneState.getName() + " completed");
+                }
+                if (i < recycleEndIndex && isRecycleBudgetExhausted(recycledCount, deadlineNanos)) {
+                    LoggerManager.getInstance().i(TAG, "recycleInvisibleScenes out of budget after %s Scenes, resume on next idle", recycledCount);
+                    scheduleRecycle();
+                    break;
+                }
             } else {
                 //skip because Scene is visible or disable restore
-                LoggerManager.getInstance().i(TAG, "recycle scene skip " + scene.toString() + " because it is visible or disable restore");
+                LoggerManager.getInstance().i(TAG, "recycle scene skip %s because it is visible or disable restore", scene);
             }
         }
         LoggerManager.getInstance().i(TAG, "recycleInvisibleScenes finish");
+        return recycledCount;
+    }
+
+    private boolean isRecycleBudgetExhausted(int recycledCount, long deadlineNanos) {
+        if (this.mRecycleBudgetCount > 0 && recycledCount >= this.mRecycleBudgetCount) {
+            return true;
+        }
+        return deadlineNanos != Long.MAX_VALUE && System.nanoTime() >= deadlineNanos;
+    }
+
+    private void scheduleRecycle() {
+        if (this.mRecycleHandler == null) {
+            this.mRecycleHandler = new Handler(Looper.getMainLooper());
+        }
+        this.mScheduledRecycle = new IdleRunnable(this.mRecycleHandler, this.mScheduledRecycleTask, null, null, RECYCLE_RESUME_TIMEOUT_MILLIS);
+        this.mScheduledRecycle.start();
+    }
+
+    /**
+     * Drop the remaining part of a budgeted recycle pass, the next recycleInvisibleScenes starts over
+     */
+    private void cancelScheduledRecycle() {
+        if (this.mScheduledRecycle != null) {
+            this.mScheduledRecycle.cancel();
+            this.mScheduledRecycle = null;
+            this.mAnySceneStateChanged = true;
+        }
+    }
+
+    @VisibleForTesting
+    boolean hasScheduledRecycle() {
+        return this.mScheduledRecycle != null;
     }
 
     //this is a temporary simple version, just recreate all Scenes which has view
@@ -1702,7 +2098,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         this.mActivityConfiguration = new Configuration(newConfig);
 
         Record record = this.mBackStackList.getCurrentRecord();
-        Scene scene = record.mScene;
+        Scene scene = record.getScene();
 
         OnWindowFocusChangedScheduler.dispatchOnConfigurationChangedToRecordInternal(record, scene, newConfig, mConfigurationChangesAllowList, new Action1<Scene>() {
             @Override
@@ -1723,6 +2119,18 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         }
     }
 
+    /**
+     * Creates a prewarmed scene for the reuse pool
+     *
+     * The scene is moved to ACTIVITY_CREATED without touching the view tree, its view
+     * is attached later when the scene is reused by a push.
+     *
+     * @param reuseScene The IReuseScene instance to be created
+     */
+    @Override public void createReuseCache(IReuseScene reuseScene) {
+        moveState(mNavigationScene, (Scene) reuseScene, State.ACTIVITY_CREATED, null, true, null);
+    }
+
     /**
      * Destroys scenes removed from the reuse pool
      *
@@ -1760,7 +2168,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (ActivityCompatibleInfoCollector.isTargetSceneType(scene)) {
             //When Scene is totally invisible or not created, for example be recycled ant not restore yet, we should skip to dispatch event
             if (scene.getState().value <= State.ACTIVITY_CREATED.value) {
-                LoggerManager.getInstance().i(TAG, "Target Scene " + scene.toString() + "[" + scene.getState().name + "] is not ready, skip dispatch WindowFocus change event");
+                LoggerManager.getInstance().i(TAG, "Target Scene %s[%s] is not ready, skip dispatch WindowFocus change event", scene, scene.getState().name);
                 return;
             }
             onSceneResumedWindowFocusChangedToTarget(scene, hasFocus);
@@ -1775,7 +2183,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
         if (!this.mNavigationScene.mNavigationSceneOptions.getUseWindowFocusChangedDispatch()) {
             return;
         }
-        LoggerManager.getInstance().i(TAG, "onWindowFocusChanged " + hasFocus);
+        LoggerManager.getInstance().i(TAG, "onWindowFocusChanged %s", hasFocus);
 
         if (!requireMessageQueue().hasPendingTasks()) {
             dispatchWindowFocusToTargetScene(hasFocus);
@@ -1815,7 +2223,7 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
                         break;
                     }
 
-                    LoggerManager.getInstance().i(TAG, "WindowFocusChangedPendingTask dispatch onWindowFocusChanged " + curFocus);
+                    LoggerManager.getInstance().i(TAG, "WindowFocusChangedPendingTask dispatch onWindowFocusChanged %s", curFocus);
                     dispatchWindowFocusToTargetScene(curFocus);
                 }
             } else {
@@ -1825,11 +2233,12 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
     }
 
     private void uninstallUselessWindowFocusChangeListener() {
-        List<Scene> sceneList = new ArrayList<>(getCurrentSceneList());
+        List<Record> recordList = this.mBackStackList.getCurrentRecordListView();
         boolean found = false;
-        for (int i = sceneList.size() - 1; i >= 0; i--) {
-            Scene targetScene = sceneList.get(i);
-            if (ActivityCompatibleInfoCollector.isTargetSceneType(targetScene)) {
+        for (int i = recordList.size() - 1; i >= 0; i--) {
+            Record record = recordList.get(i);
+            //a Scene which is not created yet may be the target type, keep the listener instead of creating it
+            if (!record.isSceneCreated() || ActivityCompatibleInfoCollector.isTargetSceneType(record.mScene)) {
                 found = true;
                 break;
             }
@@ -1898,7 +2307,12 @@ public class NavigationSceneManager implements INavigationManager, NavigationMan
      */
     @Override
     public void destroyByRecord(Record record, Record currentRecord) {
-        Scene scene = record.mScene;
+        if (!record.isSceneCreated()) {
+            //never shown after restore, there is nothing to destroy or reuse
+            this.removeRecord(record);
+            return;
+        }
+        Scene scene = record.getScene();
         State to = State.NONE;
         boolean isSceneScheduledToReuse = false;
         if (scene instanceof IReuseScene && ((IReuseScene) scene).isReusable()) {
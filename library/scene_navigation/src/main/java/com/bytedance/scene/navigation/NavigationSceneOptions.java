@@ -46,6 +46,7 @@ public class NavigationSceneOptions {
     private static final String EXTRA_USE_EXTRA_VIEW_TO_BLOCK_GESTURE = "extra_useExtraViewToBlockGesture";
     private static final String EXTRA_SKIP_POP_ANIMATION_WHEN_TARGET_IS_DESTROYED = "extra_skipPopAnimationWhenTargetIsDestroyed";
     private static final String EXTRA_FIX_ON_RESULT_TIMING = "extra_fixOnResultTiming";
+    private static final String EXTRA_DETACH_INVISIBLE_SCENE_VIEW = "extra_detachInvisibleSceneView";
 
     @NonNull
     private final String mRootSceneClassName;
@@ -69,6 +70,7 @@ public class NavigationSceneOptions {
     private boolean mUseExtraViewToBlockGesture = false;
     private boolean mSkipPopAnimationWhenTargetIsDestroyed = false;
     private boolean mFixOnResultTiming = false;
+    private boolean mDetachInvisibleSceneView = false;
 
     public NavigationSceneOptions(@NonNull Class<? extends Scene> rootSceneClazz, @Nullable Bundle rootSceneArguments) {
         if (rootSceneClazz.isAssignableFrom(NavigationScene.class)) {
@@ -198,6 +200,17 @@ public class NavigationSceneOptions {
         return this;
     }
 
+    /**
+     * Remove the view of a stopped Scene from the view tree instead of setting it to GONE, the View instance is kept
+     * and added back at its stack position when the Scene starts again. Scenes below the top then no longer take part
+     * in window insets dispatch, accessibility traversal and view tree walks.
+     */
+    @NonNull
+    public NavigationSceneOptions setDetachInvisibleSceneView(boolean detachInvisibleSceneView) {
+        this.mDetachInvisibleSceneView = detachInvisibleSceneView;
+        return this;
+    }
+
     @NonNull
     public String getRootSceneClassName() {
         return this.mRootSceneClassName;
@@ -276,6 +289,10 @@ public class NavigationSceneOptions {
         return this.mFixOnResultTiming;
     }
 
+    public boolean getDetachInvisibleSceneView() {
+        return this.mDetachInvisibleSceneView;
+    }
+
     /**
      * @hide
      */
@@ -304,6 +321,7 @@ public class NavigationSceneOptions {
         navigationSceneOptions.mUseExtraViewToBlockGesture = bundle.getBoolean(EXTRA_USE_EXTRA_VIEW_TO_BLOCK_GESTURE, false);
         navigationSceneOptions.mSkipPopAnimationWhenTargetIsDestroyed = bundle.getBoolean(EXTRA_SKIP_POP_ANIMATION_WHEN_TARGET_IS_DESTROYED, false);
         navigationSceneOptions.mFixOnResultTiming = bundle.getBoolean(EXTRA_FIX_ON_RESULT_TIMING, false);
+        navigationSceneOptions.mDetachInvisibleSceneView = bundle.getBoolean(EXTRA_DETACH_INVISIBLE_SCENE_VIEW, false);
         return navigationSceneOptions;
     }
 
@@ -331,6 +349,7 @@ public class NavigationSceneOptions {
         bundle.putBoolean(EXTRA_USE_EXTRA_VIEW_TO_BLOCK_GESTURE, mUseExtraViewToBlockGesture);
         bundle.putBoolean(EXTRA_SKIP_POP_ANIMATION_WHEN_TARGET_IS_DESTROYED, mSkipPopAnimationWhenTargetIsDestroyed);
         bundle.putBoolean(EXTRA_FIX_ON_RESULT_TIMING, mFixOnResultTiming);
+        bundle.putBoolean(EXTRA_DETACH_INVISIBLE_SCENE_VIEW, mDetachInvisibleSceneView);
         return bundle;
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.SceneTrace;
+
+/**
+ * Receives the timings of every navigation operation, see {@link NavigationOperationTrace}.
+ * <p>
+ * Install it with {@link #setListener(NavigationTraceListener)} at any time, nothing is measured while no listener
+ * is installed. Callbacks are invoked on the main thread.
+ */
+public abstract class NavigationTraceListener {
+    private static volatile NavigationTraceListener sListener;
+
+    public static void setListener(@Nullable NavigationTraceListener listener) {
+        sListener = listener;
+    }
+
+    @Nullable
+    public static NavigationTraceListener getListener() {
+        return sListener;
+    }
+
+    /**
+     * Also emit navigation operations and Scene lifecycle sections to android.os.Trace for systrace and Perfetto
+     */
+    public static void setSystemTraceEnabled(boolean enabled) {
+        SceneTrace.setEnabled(enabled);
+    }
+
+    /**
+     * Invoked when the operation finished, including its navigation animation
+     */
+    public abstract void onOperationFinished(@NonNull NavigationOperationTrace trace);
+}
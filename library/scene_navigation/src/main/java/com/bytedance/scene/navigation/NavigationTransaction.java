@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+import com.bytedance.scene.animation.NavigationAnimationExecutor;
+import com.bytedance.scene.interfaces.PushOptions;
+import com.bytedance.scene.utlity.Predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Navigation operations collected between {@link NavigationScene#beginTransaction()} and
+ * {@link NavigationScene#commitTransaction()}, they are folded into the final stack and executed as one operation.
+ * <p>
+ * Pop never removes the root Scene inside a transaction.
+ */
+class NavigationTransaction {
+    private static final int ACTION_PUSH = 0;
+    private static final int ACTION_POP = 1;
+    private static final int ACTION_POP_TO = 2;
+    private static final int ACTION_POP_TO_ROOT = 3;
+    private static final int ACTION_REMOVE = 4;
+
+    private static class Action {
+        private final int mType;
+        private Scene mScene;
+        private PushOptions mPushOptions;
+        private Class<? extends Scene> mSceneClass;
+        private Predicate<Scene> mPopUtilPredicate;
+        private NavigationAnimationExecutor mAnimationExecutor;
+
+        private Action(int type) {
+            this.mType = type;
+        }
+    }
+
+    /**
+     * Item of the folded stack, either a Record already in the stack or a Scene pushed by this transaction
+     */
+    static class Entry {
+        @Nullable
+        final Record mRecord;
+        @Nullable
+        final PushOptions mPushOptions;
+        private final Scene mScene;
+
+        private Entry(@Nullable Record record, @Nullable Scene scene, @Nullable PushOptions pushOptions) {
+            this.mRecord = record;
+            this.mScene = scene;
+            this.mPushOptions = pushOptions;
+        }
+
+        @NonNull
+        Scene getScene() {
+            return this.mRecord != null ? this.mRecord.getScene() : this.mScene;
+        }
+
+        /**
+         * Same as comparing {@link #getScene()}, but a Scene which is not created yet is not created here
+         *
+         * @param record Record of the Scene in the current stack, found by {@link RecordStack#getRecordByScene(Scene)}
+         */
+        boolean isScene(@NonNull Scene scene, @Nullable Record record) {
+            return this.mRecord != null ? this.mRecord == record : this.mScene == scene;
+        }
+
+        /**
+         * See {@link Record#applyPredicate(Predicate)}
+         */
+        boolean applyPredicate(@NonNull Predicate<Scene> predicate) {
+            return this.mRecord != null ? this.mRecord.applyPredicate(predicate) : predicate.apply(this.mScene);
+        }
+
+        boolean isSceneClass(@NonNull Class<? extends Scene> clazz) {
+            return this.mRecord != null ? clazz.getName().equals(this.mRecord.mSceneClassName) : this.mScene.getClass() == clazz;
+        }
+    }
+
+    private final List<Action> mActionList = new ArrayList<>();
+
+    void push(@NonNull Scene scene, @NonNull PushOptions pushOptions) {
+        Action action = new Action(ACTION_PUSH);
+        action.mScene = scene;
+        action.mPushOptions = pushOptions;
+        this.mActionList.add(action);
+    }
+
+    void pop(@Nullable Predicate<Scene> popUtilPredicate, @Nullable NavigationAnimationExecutor animationExecutor) {
+        Action action = new Action(ACTION_POP);
+        action.mPopUtilPredicate = popUtilPredicate;
+        action.mAnimationExecutor = animationExecutor;
+        this.mActionList.add(action);
+    }
+
+    void popTo(@NonNull Class<? extends Scene> clazz, @Nullable NavigationAnimationExecutor animationExecutor) {
+        Action action = new Action(ACTION_POP_TO);
+        action.mSceneClass = clazz;
+        action.mAnimationExecutor = animationExecutor;
+        this.mActionList.add(action);
+    }
+
+    void popToRoot(@Nullable NavigationAnimationExecutor animationExecutor) {
+        Action action = new Action(ACTION_POP_TO_ROOT);
+        action.mAnimationExecutor = animationExecutor;
+        this.mActionList.add(action);
+    }
+
+    void remove(@NonNull Scene scene) {
+        Action action = new Action(ACTION_REMOVE);
+        action.mScene = scene;
+        this.mActionList.add(action);
+    }
+
+    boolean isEmpty() {
+        return this.mActionList.isEmpty();
+    }
+
+    boolean containsPushedScene(@NonNull Scene scene) {
+        for (int i = 0; i < this.mActionList.size(); i++) {
+            Action action = this.mActionList.get(i);
+            if (action.mType == ACTION_PUSH && action.mScene == scene) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return animation of the last pop action, used when the transaction ends on a Scene already in the stack
+     */
+    @Nullable
+    NavigationAnimationExecutor getPopAnimationExecutor() {
+        for (int i = this.mActionList.size() - 1; i >= 0; i--) {
+            Action action = this.mActionList.get(i);
+            if (action.mType != ACTION_PUSH && action.mType != ACTION_REMOVE) {
+                return action.mAnimationExecutor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Apply all actions to a copy of the current stack, Scenes are neither created nor destroyed here
+     */
+    @NonNull
+    List<Entry> fold(@NonNull RecordStack recordStack) {
+        List<Record> currentRecordList = recordStack.getCurrentRecordListView();
+        List<Entry> stack = new ArrayList<>(currentRecordList.size() + this.mActionList.size());
+        for (int i = 0; i < currentRecordList.size(); i++) {
+            Record record = currentRecordList.get(i);
+            stack.add(new Entry(record, null, null));
+        }
+
+        for (int i = 0; i < this.mActionList.size(); i++) {
+            Action action = this.mActionList.get(i);
+            switch (action.mType) {
+                case ACTION_PUSH:
+                    stack.add(new Entry(null, action.mScene, action.mPushOptions));
+                    break;
+                case ACTION_POP:
+                    if (action.mPopUtilPredicate != null) {
+                        while (stack.size() > 1 && !stack.get(stack.size() - 1).applyPredicate(action.mPopUtilPredicate)) {
+                            stack.remove(stack.size() - 1);
+                        }
+                    } else if (stack.size() > 1) {
+                        stack.remove(stack.size() - 1);
+                    }
+                    break;
+                case ACTION_POP_TO: {
+                    int index = -1;
+                    for (int j = stack.size() - 1; j >= 0; j--) {
+                        if (stack.get(j).isSceneClass(action.mSceneClass)) {
+                            index = j;
+                            break;
+                        }
+                    }
+                    if (index == -1) {
+                        throw new IllegalArgumentException("Cant find " + action.mSceneClass.getSimpleName() + " in backStack");
+                    }
+                    truncate(stack, index + 1);
+                    break;
+                }
+                case ACTION_POP_TO_ROOT:
+                    truncate(stack, 1);
+                    break;
+                case ACTION_REMOVE: {
+                    Record record = recordStack.getRecordByScene(action.mScene);
+                    for (int j = stack.size() - 1; j >= 0; j--) {
+                        if (stack.get(j).isScene(action.mScene, record)) {
+                            if (stack.size() > 1) {
+                                stack.remove(j);
+                            }
+                            break;
+                        }
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("unknown transaction action " + action.mType);
+            }
+        }
+        return stack;
+    }
+
+    private static void truncate(List<Entry> stack, int size) {
+        while (stack.size() > size) {
+            stack.remove(stack.size() - 1);
+        }
+    }
+}
@@ -58,20 +58,20 @@ class OnWindowFocusChangedScheduler {
         if (record.mConfiguration != null) {
             Configuration sceneConfiguration = record.mConfiguration;
             int diff = sceneConfiguration.diff(newConfig);
-            LoggerManager.getInstance().i(TAG, "Configuration has been changed, raw diff " + diff);
+            LoggerManager.getInstance().i(TAG, "Configuration has been changed, raw diff %s", diff);
 
             //remove private diff properties
             diff = ConfigurationUtility.removePrivateDiff(diff);
             if (configurationChangesAllowList != 0) {
                 diff = (diff & configurationChangesAllowList);
-                LoggerManager.getInstance().i(TAG, "clean diff not include in configurationChangesAllowList, result diff " + diff);
+                LoggerManager.getInstance().i(TAG, "clean diff not include in configurationChangesAllowList, result diff %s", diff);
             }
 
             String diffString = ConfigurationUtility.configurationDiffToString(diff);
-            LoggerManager.getInstance().i(TAG, "Configuration has been changed, diff " + diffString);
+            LoggerManager.getInstance().i(TAG, "Configuration has been changed, diff %s", diffString);
 
             if ((diff & configChanges) != 0) {
-                LoggerManager.getInstance().i(TAG, "Configuration has been changed, Scene has suitable configChanges, so dispatch onConfigurationChanged to " + scene.toString());
+                LoggerManager.getInstance().i(TAG, "Configuration has been changed, Scene has suitable configChanges, so dispatch onConfigurationChanged to %s", scene);
                 if (scene instanceof ActivityCompatibleBehavior) {
                     ((ActivityCompatibleBehavior) scene).onConfigurationChanged(newConfig);
                     record.saveActivityCompatibleInfo(newConfig);
@@ -81,7 +81,7 @@ class OnWindowFocusChangedScheduler {
                 }
             } else {
                 if (TextUtils.isEmpty(diffString)) {
-                    LoggerManager.getInstance().i(TAG, "Configuration has been changed, skip because unknown diff " + diff);
+                    LoggerManager.getInstance().i(TAG, "Configuration has been changed, skip because unknown diff %s", diff);
                     if (scene instanceof ActivityCompatibleBehavior) {
                         ((ActivityCompatibleBehavior) scene).onConfigurationChanged(newConfig);
                         record.saveActivityCompatibleInfo(newConfig);
@@ -90,11 +90,11 @@ class OnWindowFocusChangedScheduler {
                         throw new SceneInternalException("Impossible, Scene don't implement ActivityCompatibleBehavior but have configChanges " + scene.toString());
                     }
                 } else {
-                    LoggerManager.getInstance().i(TAG, "Configuration has been changed, recreate " + scene.toString());
+                    LoggerManager.getInstance().i(TAG, "Configuration has been changed, recreate %s", scene);
                 }
             }
         } else {
-            LoggerManager.getInstance().i(TAG, "Scene previous Configuration not found, recreate " + scene.toString());
+            LoggerManager.getInstance().i(TAG, "Scene previous Configuration not found, recreate %s", scene);
         }
         recreateAction.execute(scene);
         return true;
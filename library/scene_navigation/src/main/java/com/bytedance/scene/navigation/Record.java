@@ -29,6 +29,8 @@ import androidx.annotation.RestrictTo;
 import com.bytedance.scene.Scene;
 import com.bytedance.scene.animation.NavigationAnimationExecutor;
 import com.bytedance.scene.interfaces.PushResultCallback;
+import com.bytedance.scene.interfaces.SceneClassNamePredicate;
+import com.bytedance.scene.utlity.Predicate;
 
 /**
  * Created by JiangQi on 7/30/18.
@@ -39,7 +41,10 @@ import com.bytedance.scene.interfaces.PushResultCallback;
  */
 @RestrictTo(LIBRARY_GROUP)
 public class Record implements Parcelable {
-    @NonNull
+    /**
+     * Null while the Scene of a Record restored or recycled in onlyRestoreVisibleScene mode, or inserted below the top
+     * by a navigation transaction, is not created yet, read it by {@link #getScene()}
+     */
     public Scene mScene;
     public boolean mIsTranslucent;
     @Nullable
@@ -50,6 +55,11 @@ public class Record implements Parcelable {
     public Object mPushResult;
     @Nullable
     boolean mSceneBackgroundSet = false; //ignore restore
+    /**
+     * The Scene view was removed from the Scene container by detachInvisibleSceneView mode and must be added back
+     * when the Scene starts
+     */
+    boolean mSceneViewDetached = false; //ignore restore
     @Nullable
     public Bundle mPreviousSavedState = null;
 
@@ -74,6 +84,17 @@ public class Record implements Parcelable {
     Configuration mConfiguration;
     boolean mLastSceneWindowFocused = false;
 
+    interface SceneCreator {
+        @NonNull
+        Scene createScene(@NonNull Record record);
+    }
+
+    /**
+     * Creates mScene on first access, only the class name and mPreviousSavedState are kept until then
+     */
+    @Nullable
+    private SceneCreator mSceneCreator;
+
     protected Record(Parcel in) {
         mActivityStatusRecord = in.readParcelable(ActivityStatusRecord.class.getClassLoader());
         mIsTranslucent = in.readByte() != 0;
@@ -107,24 +128,56 @@ public class Record implements Parcelable {
         return record;
     }
 
+    @NonNull
+    public Scene getScene() {
+        Scene scene = this.mScene;
+        if (scene == null && this.mSceneCreator != null) {
+            SceneCreator sceneCreator = this.mSceneCreator;
+            this.mSceneCreator = null;
+            scene = sceneCreator.createScene(this);
+            this.mScene = scene;
+        }
+        return scene;
+    }
+
+    boolean isSceneCreated() {
+        return this.mScene != null;
+    }
+
+    /**
+     * Check a remove or pop predicate against this Record, a Scene which is not created yet is created only when
+     * the predicate is not a {@link SceneClassNamePredicate}, it stays in State.NONE until it becomes visible
+     */
+    public boolean applyPredicate(@NonNull Predicate<Scene> predicate) {
+        if (this.mScene == null && predicate instanceof SceneClassNamePredicate) {
+            return ((SceneClassNamePredicate) predicate).applyClassName(this.mSceneClassName);
+        }
+        return predicate.apply(getScene());
+    }
+
+    void setSceneCreator(@NonNull SceneCreator sceneCreator) {
+        this.mScene = null;
+        this.mSceneCreator = sceneCreator;
+    }
+
     /**
      * Must be generated each time,
      * because it is possible to use as a transparent page for placeholders
      */
     public void saveActivityStatus() {
-        mActivityStatusRecord = ActivityStatusRecord.newInstance(mScene.requireActivity());
+        mActivityStatusRecord = ActivityStatusRecord.newInstance(getScene().requireActivity());
     }
 
     public void saveActivityCompatibleInfo() {
         //Only store Configuration when Scene has ActivityCompatibleManager
-        if (ActivityCompatibleInfoCollector.containsConfigChanges(mScene)) {
-            mConfiguration = new Configuration(mScene.requireActivity().getResources().getConfiguration());
+        if (ActivityCompatibleInfoCollector.containsConfigChanges(getScene())) {
+            mConfiguration = new Configuration(getScene().requireActivity().getResources().getConfiguration());
         }
     }
 
     public void saveActivityCompatibleInfo(Configuration newConfig) {
         //Only store Configuration when Scene has ActivityCompatibleManager
-        if (ActivityCompatibleInfoCollector.containsConfigChanges(mScene)) {
+        if (ActivityCompatibleInfoCollector.containsConfigChanges(getScene())) {
             mConfiguration = new Configuration(newConfig);
         }
     }
@@ -21,7 +21,9 @@ import android.os.Parcelable;
 import android.view.View;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import com.bytedance.scene.R;
 import com.bytedance.scene.Scene;
 import com.bytedance.scene.SceneComponentFactory;
 import com.bytedance.scene.logger.LoggerManager;
@@ -29,7 +31,10 @@ import com.bytedance.scene.parcel.ParcelConstants;
 import com.bytedance.scene.utlity.SceneInstanceUtility;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by JiangQi on 8/1/18.
@@ -37,29 +42,72 @@ import java.util.List;
 class RecordStack {
     private static final String TAG = "RecordStack";
     private List<Record> mBackStackList = new ArrayList<>();
+    private List<Record> mBackStackListView = Collections.unmodifiableList(mBackStackList);
+    /**
+     * Scene to Record index, Record.mScene must be replaced by {@link #replaceScene(Record, Scene)} to keep it in sync
+     */
+    private final Map<Scene, Record> mSceneRecordMap = new IdentityHashMap<>();
 
     public void push(Record record) {
         this.mBackStackList.add(record);
+        if (record.mScene != null) {
+            this.mSceneRecordMap.put(record.mScene, record);
+        }
         Scene scene = record.mScene;
         if (scene != null) {
-            LoggerManager.getInstance().i(TAG, "add new record to RecordStack, current stack size " + this.mBackStackList.size() + " added scene " + scene);
+            LoggerManager.getInstance().i(TAG, "add new record to RecordStack, current stack size %s added scene %s", this.mBackStackList.size(), scene);
         } else {
-            LoggerManager.getInstance().i(TAG, "add new record to RecordStack, current stack size " + this.mBackStackList.size());
+            LoggerManager.getInstance().i(TAG, "add new record to RecordStack, current stack size %s", this.mBackStackList.size());
+        }
+    }
+
+    public void insert(int index, Record record) {
+        this.mBackStackList.add(index, record);
+        if (record.mScene != null) {
+            this.mSceneRecordMap.put(record.mScene, record);
         }
+        LoggerManager.getInstance().i(TAG, "insert record to RecordStack at %s, current stack size %s", index, this.mBackStackList.size());
+    }
+
+    /**
+     * Insert a Record whose Scene instance already exists but is handed out by {@link Record#getScene()} on first use,
+     * for example a Scene pushed below the new top one by a navigation transaction, so it stays not created like a
+     * Record restored in onlyRestoreVisibleScene mode
+     */
+    public void insertLazy(int index, @NonNull Record record, @NonNull final Scene scene) {
+        record.setSceneCreator(new Record.SceneCreator() {
+            @NonNull
+            @Override
+            public Scene createScene(@NonNull Record record) {
+                LoggerManager.getInstance().i(TAG, "create scene %s of inserted record on demand", scene);
+                return scene;
+            }
+        });
+        insert(index, record);
+        //index it now, so the Scene can be found by getRecordByScene before it is created
+        this.mSceneRecordMap.put(scene, record);
     }
 
     public void pop() {
-        this.mBackStackList.remove(this.mBackStackList.size() - 1);
-        LoggerManager.getInstance().i(TAG, "pop old record from RecordStack, current stack size " + this.mBackStackList.size());
+        Record record = this.mBackStackList.remove(this.mBackStackList.size() - 1);
+        removeIndex(record);
+        LoggerManager.getInstance().i(TAG, "pop old record from RecordStack, current stack size %s", this.mBackStackList.size());
     }
 
     public void remove(Record record) {
-        this.mBackStackList.remove(record);
+        removeIndex(record);
+        // most removals happen near the top of the stack
+        for (int i = this.mBackStackList.size() - 1; i >= 0; i--) {
+            if (this.mBackStackList.get(i) == record) {
+                this.mBackStackList.remove(i);
+                break;
+            }
+        }
         Scene scene = record.mScene;
         if (scene != null) {
-            LoggerManager.getInstance().i(TAG, "remove old record from RecordStack, current stack size " + this.mBackStackList.size() + " removed scene " + scene);
+            LoggerManager.getInstance().i(TAG, "remove old record from RecordStack, current stack size %s removed scene %s", this.mBackStackList.size(), scene);
         } else {
-            LoggerManager.getInstance().i(TAG, "remove old record from RecordStack, current stack size " + this.mBackStackList.size());
+            LoggerManager.getInstance().i(TAG, "remove old record from RecordStack, current stack size %s", this.mBackStackList.size());
         }
     }
 
@@ -68,13 +116,53 @@ class RecordStack {
     }
 
     public Record getRecordByScene(Scene scene) {
-        for (int i = 0; i < this.mBackStackList.size(); i++) {
-            Record record = this.mBackStackList.get(i);
-            if (record.mScene == scene) {
-                return record;
+        if (scene == null) {
+            return null;
+        }
+        return this.mSceneRecordMap.get(scene);
+    }
+
+    public boolean contains(Record record) {
+        if (record == null) {
+            return false;
+        }
+        if (record.isSceneCreated()) {
+            return this.mSceneRecordMap.get(record.mScene) == record;
+        }
+        return indexOf(record) != -1;
+    }
+
+    private int indexOf(Record record) {
+        for (int i = this.mBackStackList.size() - 1; i >= 0; i--) {
+            if (this.mBackStackList.get(i) == record) {
+                return i;
             }
         }
-        return null;
+        return -1;
+    }
+
+    /**
+     * Replace the Scene instance of a Record in this stack, for example when it is recreated or recycled
+     */
+    public void replaceScene(@NonNull Record record, @NonNull Scene scene) {
+        boolean inStack = removeIndex(record);
+        record.mScene = scene;
+        if (inStack) {
+            this.mSceneRecordMap.put(scene, record);
+        }
+    }
+
+    private boolean removeIndex(Record record) {
+        Scene scene = record.mScene;
+        if (scene == null) {
+            //a Record inserted by insertLazy is indexed before its Scene is created
+            return this.mSceneRecordMap.values().remove(record);
+        }
+        if (this.mSceneRecordMap.get(scene) == record) {
+            this.mSceneRecordMap.remove(scene);
+            return true;
+        }
+        return false;
     }
 
     public Record getPreviousScene() {
@@ -84,6 +172,29 @@ class RecordStack {
         return mBackStackList.get(mBackStackList.size() - 2);
     }
 
+    /**
+     * Drop the Scene instance of a Record in this stack, it is created again by {@link Record#getScene()} when needed
+     */
+    public void releaseScene(@NonNull Record record, @NonNull Context context, int index, @Nullable SceneComponentFactory rootSceneComponentFactory) {
+        removeIndex(record);
+        setSceneCreator(record, context, index, rootSceneComponentFactory);
+    }
+
+    private void setSceneCreator(@NonNull Record record, @NonNull final Context context, final int index, @Nullable final SceneComponentFactory rootSceneComponentFactory) {
+        record.setSceneCreator(new Record.SceneCreator() {
+            @NonNull
+            @Override
+            public Scene createScene(@NonNull Record record) {
+                Scene scene = createNewSceneInstance(context, index, record, rootSceneComponentFactory);
+                if (indexOf(record) != -1) {
+                    mSceneRecordMap.put(scene, record);
+                }
+                LoggerManager.getInstance().i(TAG, "create scene %s of record at %s on demand", scene, index);
+                return scene;
+            }
+        });
+    }
+
     public boolean isRootScene(@NonNull Scene scene) {
         return !mBackStackList.isEmpty() && mBackStackList.get(0).mScene == scene;
     }
@@ -92,40 +203,77 @@ class RecordStack {
         return this.mBackStackList.size() > 1;
     }
 
+    /**
+     * @return a copy of the stack, use it when the stack may be modified while iterating
+     */
     public List<Record> getCurrentRecordList() {
         return new ArrayList<>(mBackStackList);
     }
 
+    /**
+     * @return a read-only live view of the stack without copying, it must not be iterated across stack changes
+     */
+    public List<Record> getCurrentRecordListView() {
+        return mBackStackListView;
+    }
+
+    public int size() {
+        return mBackStackList.size();
+    }
+
     public String getStackHistory() {
         StringBuilder stringBuilder = new StringBuilder("NavigationScene history: ");
 
         for (Record record : mBackStackList) {
-            stringBuilder.append(" ------> " + record.mScene.getClass().getSimpleName());
+            // Scene may not be created yet, the class name is enough here
+            String className = record.mSceneClassName;
+            stringBuilder.append(" ------> " + className.substring(className.lastIndexOf('.') + 1));
         }
 
         return stringBuilder.toString();
     }
 
     public void saveToBundle(Bundle bundle) {
-        ArrayList<Record> tmp = new ArrayList<>(mBackStackList);
+        List<Record> tmp = mBackStackList;
         ArrayList<Parcelable> resultList = new ArrayList<>(tmp.size());
         //skip restore disabled scene
         for (int i = 0; i <= tmp.size() - 1; i++) {
             Record record = tmp.get(i);
-            if (record.mScene.isSceneRestoreEnabled()) {
+            // a Scene which is not created yet but has a previous save is restore enabled, a Scene inserted by
+            // insertLazy has no previous save, so it is handed out to check it
+            if ((!record.isSceneCreated() && record.mPreviousSavedState != null) || record.getScene().isSceneRestoreEnabled()) {
                 resultList.add(record);
             }
         }
         bundle.putParcelableArrayList(ParcelConstants.KEY_NAVIGATION_RECORD_LIST, resultList);
     }
 
-    public void restoreFromBundle(Context context, Bundle bundle, SceneComponentFactory rootSceneComponentFactory) {
+    /**
+     * @param onlyCreateVisibleScene if true, Scenes below the top opaque Scene are not created until {@link Record#getScene()}
+     */
+    public void restoreFromBundle(Context context, Bundle bundle, SceneComponentFactory rootSceneComponentFactory, boolean onlyCreateVisibleScene) {
         ArrayList<Record> list = bundle.getParcelableArrayList(ParcelConstants.KEY_NAVIGATION_RECORD_LIST);
         this.mBackStackList = new ArrayList<>(list);
+        this.mBackStackListView = Collections.unmodifiableList(this.mBackStackList);
+        this.mSceneRecordMap.clear();
+        int firstVisibleIndex = 0;
+        if (onlyCreateVisibleScene) {
+            for (int i = this.mBackStackList.size() - 1; i >= 0; i--) {
+                if (!this.mBackStackList.get(i).mIsTranslucent) {
+                    firstVisibleIndex = i;
+                    break;
+                }
+            }
+        }
         for (int i = 0; i < this.mBackStackList.size(); i++) {
             Record record = this.mBackStackList.get(i);
+            if (i < firstVisibleIndex) {
+                setSceneCreator(record, context, i, rootSceneComponentFactory);
+                continue;
+            }
             Scene scene = createNewSceneInstance(context,i,record,rootSceneComponentFactory);
             record.mScene = scene;
+            this.mSceneRecordMap.put(scene, record);
         }
     }
 
@@ -146,11 +294,16 @@ class RecordStack {
     }
 
     public int getOrderByView(View view) {
-        for (int i = 0; i < mBackStackList.size(); i++) {
-            if (view == mBackStackList.get(i).mScene.getView()) {
-                return i;
-            }
+        // Scene view is tagged with its Scene, so resolve the Record without walking every Scene's view
+        Object tag = view.getTag(R.id.bytedance_scene_view_scene_tag);
+        if (!(tag instanceof Scene)) {
+            return -1;
         }
-        return -1;
+        Scene scene = (Scene) tag;
+        Record record = this.mSceneRecordMap.get(scene);
+        if (record == null || scene.getView() != view) {
+            return -1;
+        }
+        return indexOf(record);
     }
 }
@@ -62,13 +62,13 @@ class RecreateOperation implements Operation {
         Record record = mBackStackList.getRecordByScene(this.mScene);
         State targetState = this.mScene.getState();
 
-        LoggerManager.getInstance().i(TAG, "RecreateOperation current Scene save latest data, current Scene instance " + mScene.toString());
+        LoggerManager.getInstance().i(TAG, "RecreateOperation current Scene save latest data, current Scene instance %s", mScene);
 
         Bundle savedInstanceState = new Bundle();
         savedInstanceState.putInt(SceneStateSaveReason.KEY_SCENE_SAVE_STATE_REASON, this.mReason);
         this.mScene.dispatchSaveInstanceState(savedInstanceState);
 
-        LoggerManager.getInstance().i(TAG, "RecreateOperation current Scene destroy itself, current Scene instance " + mScene.toString());
+        LoggerManager.getInstance().i(TAG, "RecreateOperation current Scene destroy itself, current Scene instance %s", mScene);
         this.mNavigationManager.moveState(mNavigationScene, this.mScene, State.NONE, null, false, null);
 
         Scene newSceneInstance = null;
@@ -87,9 +87,9 @@ class RecreateOperation implements Operation {
             Class<?> sceneClass = mScene.getClass();
             newSceneInstance = SceneInstanceUtility.getInstanceFromClass(sceneClass, null);
         }
-        record.mScene = newSceneInstance;
+        mBackStackList.replaceScene(record, newSceneInstance);
 
-        LoggerManager.getInstance().i(TAG, "RecreateOperation new created Scene restore from previous data, new Scene instance " + newSceneInstance.toString());
+        LoggerManager.getInstance().i(TAG, "RecreateOperation new created Scene restore from previous data, new Scene instance %s", newSceneInstance);
         this.mNavigationManager.moveState(mNavigationScene, newSceneInstance, targetState, savedInstanceState, false, null);
 
         if (operationEndAction != null) {
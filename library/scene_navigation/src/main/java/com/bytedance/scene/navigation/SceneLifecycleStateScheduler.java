@@ -30,10 +30,16 @@ import com.bytedance.scene.utlity.NavigationSceneViewUtility;
 import com.bytedance.scene.utlity.SceneInternalException;
 import com.bytedance.scene.utlity.Utility;
 
+import java.util.List;
+
 /**
  * Created by JiangQi on 8/4/25.
  */
 public class SceneLifecycleStateScheduler {
+    private static final int STAGE_CREATE = 0;
+    private static final int STAGE_CREATE_VIEW = 1;
+    private static final int STAGE_LIFECYCLE = 2;
+
     public static void transition(@NonNull NavigationScene navigationScene,
                                   @NonNull Scene scene, @NonNull State to, @Nullable Bundle bundle,
                                   boolean skipModifyViewTreeHierarchy,
@@ -46,12 +52,15 @@ public class SceneLifecycleStateScheduler {
             return;
         }
 
+        final NavigationOperationTrace trace = getCurrentTrace(navigationScene);
+        final long startTimeNanos = trace != null ? System.nanoTime() : 0L;
         if (currentState.value < to.value) {
             switch (currentState) {
                 case NONE:
                     scene.dispatchAttachActivity(navigationScene.requireActivity());
                     scene.dispatchAttachScene(navigationScene);
                     scene.dispatchCreate(bundle);
+                    traceStage(trace, STAGE_CREATE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, lifecycleHooks, endAction);
                     break;
                 case CREATED:
@@ -62,31 +71,25 @@ public class SceneLifecycleStateScheduler {
                         navigationScene.mNavigationSceneManager.saveActivityCompatibleInfo(record);
                     }
                     if (!skipModifyViewTreeHierarchy) {
-                        if (scene.getView().getBackground() == null) {
-                            Record record = navigationScene.findRecordByScene(scene);
-                            if (!record.mIsTranslucent && navigationScene.mNavigationSceneOptions.fixSceneBackground()) {
-                                int resId = navigationScene.mNavigationSceneOptions.getSceneBackgroundResId();
-                                if (resId > 0) {
-                                    scene.getView().setBackgroundDrawable(scene.requireSceneContext().getResources().getDrawable(resId));
-                                } else {
-                                    scene.getView().setBackgroundDrawable(Utility.getWindowBackground(scene.requireSceneContext()));
-                                }
-                                record.mSceneBackgroundSet = true;
-                            }
-                        }
+                        setSceneBackgroundIfNeeded(navigationScene, scene);
                         /*
                          * TODO: What if the NavigationScene has been destroyed at this time?
                          * TODO: What to do with serialization
                          */
-                        if (bundle != null) {
-                            //Scene restore from save and restore path
-                            int viewIndex = NavigationSceneViewUtility.targetViewIndexOfScene(navigationScene, navigationScene.mNavigationSceneOptions, scene);
-                            containerView.addView(scene.getView(), viewIndex);
-                        } else {
-                            containerView.addView(scene.getView());
+                        //a Scene which stays invisible gets its view added when it starts
+                        boolean detached = to.value <= State.ACTIVITY_CREATED.value && markSceneViewDetachedIfNeeded(navigationScene, scene);
+                        if (!detached) {
+                            if (bundle != null) {
+                                //Scene restore from save and restore path
+                                int viewIndex = NavigationSceneViewUtility.targetViewIndexOfScene(navigationScene, navigationScene.mNavigationSceneOptions, scene);
+                                containerView.addView(scene.getView(), viewIndex);
+                            } else {
+                                containerView.addView(scene.getView());
+                            }
                         }
                     }
                     scene.getView().setVisibility(View.GONE);
+                    traceStage(trace, STAGE_CREATE_VIEW, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, lifecycleHooks, endAction);
                     break;
                 case VIEW_CREATED:
@@ -97,10 +100,14 @@ public class SceneLifecycleStateScheduler {
                             afterOnActivityCreatedAction.apply(scene);
                         }
                     }
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 case ACTIVITY_CREATED:
                     scene.getView().setVisibility(View.VISIBLE);
+                    if (!skipModifyViewTreeHierarchy) {
+                        reattachSceneViewIfNeeded(navigationScene, scene);
+                    }
                     if (navigationScene.isReusing(scene)) {
                         // The view may have been removed by NavigationAnimationExecutor in the reuse process,
                         // so we need to re-attach it to the view tree and prepare it for reuse if necessary.
@@ -113,6 +120,7 @@ public class SceneLifecycleStateScheduler {
                             afterOnStartAction.apply(scene);
                         }
                     }
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 case STARTED:
@@ -130,6 +138,7 @@ public class SceneLifecycleStateScheduler {
                         }
                     }
                     ((NavigationSceneManager) navigationScene.mNavigationSceneManager).onSceneResumedWindowFocusChanged(scene);
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 default:
@@ -140,13 +149,18 @@ public class SceneLifecycleStateScheduler {
                 case RESUMED:
                     scene.dispatchPause();
                     ((NavigationSceneManager) navigationScene.mNavigationSceneManager).onScenePausedWindowFocusChanged(scene);
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 case STARTED:
                     scene.dispatchStop();
                     if (!skipModifyViewTreeHierarchy) {
                         scene.getView().setVisibility(View.GONE);
+                        if (markSceneViewDetachedIfNeeded(navigationScene, scene)) {
+                            Utility.removeFromParentView(scene.getView());
+                        }
                     }
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 case ACTIVITY_CREATED:
@@ -156,17 +170,23 @@ public class SceneLifecycleStateScheduler {
                     //continue
                 case VIEW_CREATED:
                     ActivityCompatibleInfoCollector.clearHolder(scene);
+                    Record detachedRecord = navigationScene.findRecordByScene(scene);
+                    if (detachedRecord != null) {
+                        detachedRecord.mSceneViewDetached = false;
+                    }
                     View view = scene.getView();
                     scene.dispatchDestroyView();
                     if (!skipModifyViewTreeHierarchy) {
                         Utility.removeFromParentView(view);
                     }
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 case CREATED:
                     scene.dispatchDestroy();
                     scene.dispatchDetachScene();
                     scene.dispatchDetachActivity();
+                    traceStage(trace, STAGE_LIFECYCLE, startTimeNanos);
                     transition(navigationScene, scene, to, bundle, skipModifyViewTreeHierarchy, null, endAction);
                     break;
                 default:
@@ -175,6 +195,122 @@ public class SceneLifecycleStateScheduler {
         }
     }
 
+    @Nullable
+    private static NavigationOperationTrace getCurrentTrace(@NonNull NavigationScene navigationScene) {
+        INavigationManager navigationManager = navigationScene.mNavigationSceneManager;
+        return navigationManager instanceof NavigationSceneManager ? ((NavigationSceneManager) navigationManager).getCurrentTrace() : null;
+    }
+
+    private static void traceStage(@Nullable NavigationOperationTrace trace, int stage, long startTimeNanos) {
+        if (trace == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - startTimeNanos;
+        switch (stage) {
+            case STAGE_CREATE:
+                trace.addCreateNanos(nanos);
+                break;
+            case STAGE_CREATE_VIEW:
+                trace.addCreateViewNanos(nanos);
+                break;
+            default:
+                trace.addLifecycleNanos(nanos);
+                break;
+        }
+    }
+
+    private static void setSceneBackgroundIfNeeded(@NonNull NavigationScene navigationScene, @NonNull Scene scene) {
+        if (scene.getView().getBackground() != null) {
+            return;
+        }
+        Record record = navigationScene.findRecordByScene(scene);
+        if (record != null && !record.mIsTranslucent && navigationScene.mNavigationSceneOptions.fixSceneBackground()) {
+            int resId = navigationScene.mNavigationSceneOptions.getSceneBackgroundResId();
+            if (resId > 0) {
+                scene.getView().setBackgroundDrawable(scene.requireSceneContext().getResources().getDrawable(resId));
+            } else {
+                scene.getView().setBackgroundDrawable(Utility.getWindowBackground(scene.requireSceneContext()));
+            }
+            record.mSceneBackgroundSet = true;
+        }
+    }
+
+    /**
+     * Remove the views of stopped Scenes which are covered by an opaque Scene but still in the view tree,
+     * used when a Scene is stopped before the Scene above it is added to the back stack
+     */
+    static void detachInvisibleSceneViews(@NonNull NavigationScene navigationScene) {
+        if (!navigationScene.mNavigationSceneOptions.getDetachInvisibleSceneView()) {
+            return;
+        }
+        //only views are removed here, the stack itself is not changed while iterating
+        List<Record> recordList = navigationScene.mNavigationSceneManager.getCurrentRecordListView();
+        boolean covered = false;
+        for (int i = recordList.size() - 1; i >= 0; i--) {
+            Record record = recordList.get(i);
+            Scene scene = record.mScene;
+            if (covered && !record.mSceneViewDetached && scene != null && scene.getState() == State.ACTIVITY_CREATED
+                    && scene.getView() != null && scene.getView().getParent() == navigationScene.getSceneContainer()) {
+                record.mSceneViewDetached = true;
+                Utility.removeFromParentView(scene.getView());
+            }
+            if (!record.mIsTranslucent) {
+                covered = true;
+            }
+        }
+    }
+
+    /**
+     * Only a Scene covered by an opaque Scene is detached, so the top Scene keeps its view when the Activity stops
+     *
+     * @return true if the Scene view should leave the view tree, see {@link NavigationSceneOptions#setDetachInvisibleSceneView(boolean)}
+     */
+    private static boolean markSceneViewDetachedIfNeeded(@NonNull NavigationScene navigationScene, @NonNull Scene scene) {
+        if (!navigationScene.mNavigationSceneOptions.getDetachInvisibleSceneView()) {
+            return false;
+        }
+        Record sceneRecord = navigationScene.findRecordByScene(scene);
+        if (sceneRecord == null) {
+            return false;
+        }
+        //the Scene is stopped, so it is near the top, only the Records above it are visited
+        List<Record> recordList = navigationScene.mNavigationSceneManager.getCurrentRecordListView();
+        boolean covered = false;
+        for (int i = recordList.size() - 1; i >= 0; i--) {
+            Record record = recordList.get(i);
+            if (record == sceneRecord) {
+                break;
+            }
+            if (!record.mIsTranslucent) {
+                covered = true;
+                break;
+            }
+        }
+        if (covered) {
+            sceneRecord.mSceneViewDetached = true;
+        }
+        return covered;
+    }
+
+    /**
+     * Add the view removed by detachInvisibleSceneView mode back, below the nearest attached Scene above it
+     * or above the nearest attached Scene below it, so the stack order of Scene views is kept
+     */
+    private static void reattachSceneViewIfNeeded(@NonNull NavigationScene navigationScene, @NonNull Scene scene) {
+        Record record = navigationScene.findRecordByScene(scene);
+        if (record == null || !record.mSceneViewDetached) {
+            return;
+        }
+        record.mSceneViewDetached = false;
+        View sceneView = scene.getView();
+        ViewGroup container = navigationScene.getSceneContainer();
+        if (sceneView.getParent() != null || container == null) {
+            return;
+        }
+        int viewIndex = NavigationSceneViewUtility.targetViewIndexOfDetachedScene(navigationScene, scene);
+        container.addView(sceneView, viewIndex);
+    }
+
     /**
      * Ensures a reused scene's view is properly attached to the view hierarchy
      * and calls onPrepare only when the view needs to be re-attached.
@@ -190,7 +326,9 @@ public class SceneLifecycleStateScheduler {
         ViewGroup container = navigationScene.getSceneContainer();
 
         if (!isAttached && !hasParent && (container != null)) {
-            //The view is removed and needs to be added back to the container
+            //The view is removed and needs to be added back to the container,
+            //a prewarmed scene is attached here for the first time so it may have no background yet
+            setSceneBackgroundIfNeeded(navigationScene, scene);
             if (bundle != null) {
                 int viewIndex = NavigationSceneViewUtility.targetViewIndexOfScene(navigationScene, navigationScene.mNavigationSceneOptions, scene);
                 container.addView(sceneView, viewIndex);
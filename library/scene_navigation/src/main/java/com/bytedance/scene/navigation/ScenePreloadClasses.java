@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation;
+
+import androidx.annotation.NonNull;
+
+import com.bytedance.scene.logger.LoggerManager;
+
+/**
+ * Classes loaded by the cold start of a NavigationScene and by its first push and pop, in loading order.
+ * <p>
+ * Every entry must also be listed in the baseline-prof.txt and the consumer-rules.pro of its module, the rules keep
+ * the class names so that they still resolve in minified apps. ScenePreloadClassesTests checks these files against
+ * each other, so update them together when the navigation code path changes.
+ */
+final class ScenePreloadClasses {
+    static final String[] CLASS_NAMES = {
+            "com.bytedance.scene.Scene",
+            "com.bytedance.scene.State",
+            "com.bytedance.scene.SceneLifecycleManager",
+            "com.bytedance.scene.SceneLifecycleDispatcher",
+            "com.bytedance.scene.SceneComponentFactory",
+            "com.bytedance.scene.SceneFactoryRegistry",
+            "com.bytedance.scene.SceneGlobalConfig",
+            "com.bytedance.scene.SceneTrace",
+            "com.bytedance.scene.Scope",
+            "com.bytedance.scene.Scope$RootScopeFactory",
+            "com.bytedance.scene.ScopeHolderFragment",
+            "com.bytedance.scene.LifeCycleFragment",
+            "com.bytedance.scene.SceneLayoutInflater",
+            "com.bytedance.scene.SceneViewModelProviders",
+            "com.bytedance.scene.ActivityViewFinder",
+            "com.bytedance.scene.ViewFinder",
+            "com.bytedance.scene.SceneParent",
+            "com.bytedance.scene.SceneContainerLifecycleCallback",
+            "com.bytedance.scene.SuppressOperationAware",
+            "com.bytedance.scene.SceneStateSaveStrategy",
+            "com.bytedance.scene.group.GroupScene",
+            "com.bytedance.scene.group.GroupSceneManager",
+            "com.bytedance.scene.group.GroupRecord",
+            "com.bytedance.scene.group.GroupRecordList",
+            "com.bytedance.scene.group.ReuseGroupScene",
+            "com.bytedance.scene.interfaces.ChildSceneLifecycleCallbacks",
+            "com.bytedance.scene.logger.LoggerManager",
+            "com.bytedance.scene.logger.Logger",
+            "com.bytedance.scene.logger.DefaultLogger",
+            "com.bytedance.scene.parcel.ParcelConstants",
+            "com.bytedance.scene.animation.AnimationOrAnimator",
+            "com.bytedance.scene.animation.AnimationOrAnimatorFactory",
+            "com.bytedance.scene.utlity.SceneInstanceUtility",
+            "com.bytedance.scene.utlity.ThreadUtility",
+            "com.bytedance.scene.utlity.Utility",
+            "com.bytedance.scene.utlity.NonNullPair",
+            "com.bytedance.scene.utlity.CancellationSignal",
+            "com.bytedance.scene.utlity.CancellationSignalList",
+            "com.bytedance.scene.utlity.TaskStartSignal",
+            "com.bytedance.scene.utlity.ViewIdGenerator",
+            "com.bytedance.scene.utlity.ViewUtility",
+            "com.bytedance.scene.utlity.ExceptionsUtility",
+            "com.bytedance.scene.view.SceneContextThemeWrapper",
+            "com.bytedance.scene.NavigationSceneUtility",
+            "com.bytedance.scene.NavigationSceneUtility$Builder",
+            "com.bytedance.scene.SceneDelegate",
+            "com.bytedance.scene.LifeCycleFrameLayout",
+            "com.bytedance.scene.LifeCycleFragmentSceneDelegate",
+            "com.bytedance.scene.NavigationSceneAvailableCallback",
+            "com.bytedance.scene.navigation.NavigationScene",
+            "com.bytedance.scene.navigation.NavigationSceneOptions",
+            "com.bytedance.scene.navigation.NavigationSceneManager",
+            "com.bytedance.scene.navigation.INavigationManager",
+            "com.bytedance.scene.navigation.NavigationManagerAbility",
+            "com.bytedance.scene.navigation.Record",
+            "com.bytedance.scene.navigation.RecordStack",
+            "com.bytedance.scene.navigation.Operation",
+            "com.bytedance.scene.navigation.NavigationListener",
+            "com.bytedance.scene.navigation.NavigationSceneGetter",
+            "com.bytedance.scene.navigation.ActivityCompatibleInfoCollector",
+            "com.bytedance.scene.navigation.ActivityCompatibleInfoCollector$Holder",
+            "com.bytedance.scene.navigation.ActivityStatusRecord",
+            "com.bytedance.scene.navigation.SceneLifecycleStateScheduler",
+            "com.bytedance.scene.navigation.SceneTranslucent",
+            "com.bytedance.scene.navigation.NavigationAnimationCallback",
+            "com.bytedance.scene.navigation.OnBackPressedListener",
+            "com.bytedance.scene.navigation.ConfigurationChangedListener",
+            "com.bytedance.scene.navigation.NavigationTraceListener",
+            "com.bytedance.scene.navigation.NavigationOperationTrace",
+            "com.bytedance.scene.navigation.push.CoordinatePushOptionOperation",
+            "com.bytedance.scene.navigation.push.PushPauseOperation",
+            "com.bytedance.scene.navigation.push.PushCreateOperation",
+            "com.bytedance.scene.navigation.push.PushStopOperation",
+            "com.bytedance.scene.navigation.push.PushAnimationOperation",
+            "com.bytedance.scene.navigation.pop.CoordinatePopOptionOperation",
+            "com.bytedance.scene.navigation.pop.CoordinatePopCountOperation",
+            "com.bytedance.scene.navigation.pop.CoordinatePopOperation",
+            "com.bytedance.scene.navigation.pop.PopPauseOperation",
+            "com.bytedance.scene.navigation.pop.PopResumeOperation",
+            "com.bytedance.scene.navigation.pop.PopDestroyOperation",
+            "com.bytedance.scene.navigation.pop.idle.PopAnimationOperationV2",
+            "com.bytedance.scene.navigation.pop.idle.PopDestroyOperationV2",
+            "com.bytedance.scene.navigation.pop.idle.PopDestroyMiddlePageOperationV2",
+            "com.bytedance.scene.navigation.reuse.NavigationReuseManager",
+            "com.bytedance.scene.navigation.reuse.DefaultReuseBehavior",
+            "com.bytedance.scene.navigation.reuse.ReuseState",
+            "com.bytedance.scene.queue.NavigationMessageQueue",
+            "com.bytedance.scene.queue.NavigationRunnable",
+            "com.bytedance.scene.queue.NavigationTaskList",
+            "com.bytedance.scene.queue.SceneMainRunnable",
+            "com.bytedance.scene.queue.IdleRunnable",
+            "com.bytedance.scene.interfaces.PushOptions",
+            "com.bytedance.scene.interfaces.PushOptions$Builder",
+            "com.bytedance.scene.interfaces.PopOptions",
+            "com.bytedance.scene.interfaces.PopOptions$Builder",
+            "com.bytedance.scene.interfaces.ActivityCompatibleBehavior",
+            "com.bytedance.scene.interfaces.PushResultCallback",
+            "com.bytedance.scene.launchmode.LaunchModeBehavior",
+            "com.bytedance.scene.animation.NavigationAnimationExecutor",
+            "com.bytedance.scene.animation.NavigationAnimatorExecutor",
+            "com.bytedance.scene.animation.AnimationInfo",
+            "com.bytedance.scene.animation.animatorexecutor.Android8DefaultSceneAnimatorExecutor",
+            "com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor",
+            "com.bytedance.scene.animation.animatorexecutor.HorizontalTransitionAnimatorExecutor",
+            "com.bytedance.scene.utlity.AnimatorUtility",
+            "com.bytedance.scene.utlity.CancellationSignalManager",
+            "com.bytedance.scene.utlity.DispatchWindowInsetsListener",
+            "com.bytedance.scene.utlity.NavigationSceneViewUtility",
+            "com.bytedance.scene.utlity.SoftInputUtility",
+            "com.bytedance.scene.utlity.SystemBarFlagUtility",
+            "com.bytedance.scene.utlity.Predicate",
+            "com.bytedance.scene.view.NavigationFrameLayout",
+            "com.bytedance.scene.view.AnimationContainerLayout",
+            "com.bytedance.scene.view.BlockGestureView"
+    };
+
+    private ScenePreloadClasses() {
+    }
+
+    /**
+     * Load, but not initialize, all classes. Nothing here touches a Looper or a View,
+     * so it is safe to call from a background thread while the Activity is being created.
+     *
+     * @return count of classes loaded
+     */
+    static int preload(@NonNull ClassLoader classLoader) {
+        LoggerManager.getInstance();
+        int count = 0;
+        for (String className : CLASS_NAMES) {
+            try {
+                Class.forName(className, false, classLoader);
+                count++;
+            } catch (ClassNotFoundException ignored) {
+                // class was removed by R8 because the app never uses it, the consumer rules keep the names of the others
+            }
+        }
+        return count;
+    }
+}
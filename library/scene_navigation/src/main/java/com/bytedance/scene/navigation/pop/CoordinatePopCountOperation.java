@@ -114,9 +114,9 @@ public class CoordinatePopCountOperation implements Operation {
         }
 
         final Record returnRecord = recordList.get(recordList.size() - this.mPopCount - 1);
-        final Scene returnScene = returnRecord.mScene;
+        final Scene returnScene = returnRecord.getScene();
         final Record currentRecord = this.mManagerAbility.getCurrentRecord();
-        final Scene currentScene = currentRecord.mScene;
+        final Scene currentScene = currentRecord.getScene();
 
         //pause current scene
         PopPauseOperation popPauseOperation = new PopPauseOperation(this.mManagerAbility, currentRecord, currentScene);
@@ -206,7 +206,7 @@ public class CoordinatePopCountOperation implements Operation {
     }
 
     private void executeNoAnimationOperation(PopPauseOperation popPauseOperation, PopResumeOperation popResumeOperation, Record returnRecord, Record currentRecord, List<Record> destroyRecordList, final Runnable operationEndAction) {
-        final Scene currentScene = currentRecord.mScene;
+        final Scene currentScene = currentRecord.getScene();
 
         final PopDestroyMiddlePageOperationV2 clearMiddlePageOperationV2 = new PopDestroyMiddlePageOperationV2(this.mManagerAbility, destroyRecordList, currentRecord);
         final PopDestroyOperationV2 popDestroyOperationV2 = new PopDestroyOperationV2(this.mManagerAbility, currentRecord, returnRecord, null);
@@ -54,7 +54,7 @@ public class CoordinatePopOptionOperation implements Operation {
         if (popUtilPredicate != null) {
             for (int i = recordList.size() - 1; i >= 0; i--) {
                 Record record = recordList.get(i);
-                if (popUtilPredicate.apply(record.mScene)) {
+                if (record.applyPredicate(popUtilPredicate)) {
                     break;
                 }
                 count++;
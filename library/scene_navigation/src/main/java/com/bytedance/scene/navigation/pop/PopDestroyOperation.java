@@ -77,15 +77,15 @@ public class PopDestroyOperation implements Operation {
         this.mManagerAbility.obtainNavigationResultActionHandler().deliverResult(mReturnRecord);
 
         this.mManagerAbility.restoreActivityStatus(mReturnRecord.mActivityStatusRecord);
-        this.mManagerAbility.getNavigationListener().navigationChange(mCurrentRecord.mScene, mReturnRecord.mScene, false);
+        this.mManagerAbility.getNavigationListener().navigationChange(mCurrentRecord.getScene(), mReturnRecord.getScene(), false);
 
         NavigationAnimationExecutor navigationAnimationExecutor = null;
         // If Pop has a specified animation, the animation specified by Pop is preferred.
-        if (this.mAnimationFactory != null && this.mAnimationFactory.isSupport(mCurrentRecord.mScene.getClass(), mReturnRecord.mScene.getClass())) {
+        if (this.mAnimationFactory != null && this.mAnimationFactory.isSupport(mCurrentRecord.getScene().getClass(), mReturnRecord.getScene().getClass())) {
             navigationAnimationExecutor = this.mAnimationFactory;
         }
 
-        if (navigationAnimationExecutor == null && mCurrentRecord.mNavigationAnimationExecutor != null && mCurrentRecord.mNavigationAnimationExecutor.isSupport(mCurrentRecord.mScene.getClass(), mReturnRecord.mScene.getClass())) {
+        if (navigationAnimationExecutor == null && mCurrentRecord.mNavigationAnimationExecutor != null && mCurrentRecord.mNavigationAnimationExecutor.isSupport(mCurrentRecord.getScene().getClass(), mReturnRecord.getScene().getClass())) {
             navigationAnimationExecutor = mCurrentRecord.mNavigationAnimationExecutor;
         }
 
@@ -95,7 +95,7 @@ public class PopDestroyOperation implements Operation {
 
         final boolean isNavigationSceneInAnimationState = mNavigationScene.getState().value >= State.STARTED.value;
 
-        if (!this.mManagerAbility.isDisableNavigationAnimation() && isNavigationSceneInAnimationState && navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(mCurrentRecord.mScene.getClass(), mReturnRecord.mScene.getClass())) {
+        if (!this.mManagerAbility.isDisableNavigationAnimation() && isNavigationSceneInAnimationState && navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(mCurrentRecord.getScene().getClass(), mReturnRecord.getScene().getClass())) {
             if (currentSceneView == null) {
                 throw new SceneInternalException("Current Scene view can't be null");
             }
@@ -110,14 +110,14 @@ public class PopDestroyOperation implements Operation {
                 @Override
                 public void run() {
                     mManagerAbility.getCancellationSignalManager().remove(cancellationSignalList);
-                    mNavigationScene.addToReuseCache(mCurrentRecord.mScene);
-                    mManagerAbility.notifyNavigationAnimationEnd(mCurrentScene, mReturnRecord.mScene, false);
+                    mNavigationScene.addToReuseCache(mCurrentRecord.getScene());
+                    mManagerAbility.notifyNavigationAnimationEnd(mCurrentScene, mReturnRecord.getScene(), false);
                     operationEndAction.run();
                 }
             };
 
             final AnimationInfo fromInfo = new AnimationInfo(mCurrentScene, currentSceneView, mCurrentScene.getState(), mCurrentRecord.mIsTranslucent);
-            final AnimationInfo toInfo = new AnimationInfo(mReturnRecord.mScene, mReturnRecord.mScene.getView(), mReturnRecord.mScene.getState(), mReturnRecord.mIsTranslucent);
+            final AnimationInfo toInfo = new AnimationInfo(mReturnRecord.getScene(), mReturnRecord.getScene().getView(), mReturnRecord.getScene().getState(), mReturnRecord.mIsTranslucent);
 
             this.mManagerAbility.getCancellationSignalManager().add(cancellationSignalList);
             /*
@@ -130,7 +130,7 @@ public class PopDestroyOperation implements Operation {
                     mNavigationScene.getView().getRootView(),
                     fromInfo, toInfo, cancellationSignalList, mManagerAbility::suppressRecycle, endAction);
         } else {
-            mNavigationScene.addToReuseCache(mCurrentRecord.mScene);
+            mNavigationScene.addToReuseCache(mCurrentRecord.getScene());
             operationEndAction.run();
         }
     }
@@ -56,12 +56,12 @@ public class PopResumeOperation implements Operation {
     @Override
     public void execute(Runnable operationEndAction) {
         LoggerManager.getInstance().i(TAG, "invoke execute operation");
-        Scene dstScene = returnRecord.mScene;
+        Scene dstScene = returnRecord.getScene();
         //When Scene has created View, compare its cached Configuration to the latest Configuration, if it is changed, recreate it
         boolean recreated = mManagerAbility.dispatchOnConfigurationChangedToRecord(returnRecord, dstScene);
         if (recreated) {
             //new scene instance is created
-            dstScene = returnRecord.mScene;
+            dstScene = returnRecord.getScene();
         }
         final State dstState = mNavigationScene.getState();
 
@@ -103,10 +103,10 @@ public class PopResumeOperation implements Operation {
                     for (int i = index - 1; i >= 0; i--) {
                         Record record = currentRecordList.get(i);
                         if (mManagerAbility.isOnlyRestoreVisibleScene()) {
-                            mManagerAbility.moveState(mNavigationScene, record.mScene, NavigationSceneManager.findMinState(mNavigationScene.getState(), State.STARTED), record.mPreviousSavedState, false, null);
+                            mManagerAbility.moveState(mNavigationScene, record.getScene(), NavigationSceneManager.findMinState(mNavigationScene.getState(), State.STARTED), record.mPreviousSavedState, false, null);
                             record.mPreviousSavedState = null;
                         } else {
-                            mManagerAbility.moveState(mNavigationScene, record.mScene, NavigationSceneManager.findMinState(mNavigationScene.getState(), State.STARTED), null, false, null);
+                            mManagerAbility.moveState(mNavigationScene, record.getScene(), NavigationSceneManager.findMinState(mNavigationScene.getState(), State.STARTED), null, false, null);
                         }
                         if (!record.mIsTranslucent) {
                             break;
@@ -69,11 +69,11 @@ public class PopAnimationOperationV2 implements Operation {
         LoggerManager.getInstance().i(TAG, "invoke execute operation");
         NavigationAnimationExecutor navigationAnimationExecutor = null;
         // If Pop has a specified animation, the animation specified by Pop is preferred.
-        if (this.mAnimationFactory != null && this.mAnimationFactory.isSupport(mCurrentRecord.mScene.getClass(), mReturnRecord.mScene.getClass())) {
+        if (this.mAnimationFactory != null && this.mAnimationFactory.isSupport(mCurrentRecord.getScene().getClass(), mReturnRecord.getScene().getClass())) {
             navigationAnimationExecutor = this.mAnimationFactory;
         }
 
-        if (navigationAnimationExecutor == null && mCurrentRecord.mNavigationAnimationExecutor != null && mCurrentRecord.mNavigationAnimationExecutor.isSupport(mCurrentRecord.mScene.getClass(), mReturnRecord.mScene.getClass())) {
+        if (navigationAnimationExecutor == null && mCurrentRecord.mNavigationAnimationExecutor != null && mCurrentRecord.mNavigationAnimationExecutor.isSupport(mCurrentRecord.getScene().getClass(), mReturnRecord.getScene().getClass())) {
             navigationAnimationExecutor = mCurrentRecord.mNavigationAnimationExecutor;
         }
 
@@ -83,7 +83,7 @@ public class PopAnimationOperationV2 implements Operation {
 
         final boolean isNavigationSceneInAnimationState = mNavigationScene.getState().value >= State.STARTED.value;
 
-        if (!this.mManagerAbility.isDisableNavigationAnimation() && isNavigationSceneInAnimationState && navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(mCurrentRecord.mScene.getClass(), mReturnRecord.mScene.getClass())) {
+        if (!this.mManagerAbility.isDisableNavigationAnimation() && isNavigationSceneInAnimationState && navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(mCurrentRecord.getScene().getClass(), mReturnRecord.getScene().getClass())) {
             this.mManagerAbility.restoreActivityStatusBarNavigationBarStatus(mReturnRecord.mActivityStatusRecord);
             if (SceneGlobalConfig.onlyRestoreNonSystemBarAfterAnimation) {
                 this.mSystemBarRestoreFlag.markHasRestored();
@@ -98,7 +98,7 @@ public class PopAnimationOperationV2 implements Operation {
                 @Override
                 public void run() {
                     mManagerAbility.getCancellationSignalManager().remove(cancellationSignalList);
-                    mManagerAbility.notifyNavigationAnimationEnd(mCurrentScene, mReturnRecord.mScene, false);
+                    mManagerAbility.notifyNavigationAnimationEnd(mCurrentScene, mReturnRecord.getScene(), false);
                     operationEndAction.run();
                 }
             };
@@ -109,7 +109,7 @@ public class PopAnimationOperationV2 implements Operation {
             }
 
             final AnimationInfo fromInfo = new AnimationInfo(mCurrentScene, currentSceneView, mCurrentScene.getState(), mCurrentRecord.mIsTranslucent);
-            final AnimationInfo toInfo = new AnimationInfo(mReturnRecord.mScene, mReturnRecord.mScene.getView(), mReturnRecord.mScene.getState(), mReturnRecord.mIsTranslucent);
+            final AnimationInfo toInfo = new AnimationInfo(mReturnRecord.getScene(), mReturnRecord.getScene().getView(), mReturnRecord.getScene().getState(), mReturnRecord.mIsTranslucent);
 
             this.mManagerAbility.getCancellationSignalManager().add(cancellationSignalList);
             /*
@@ -62,7 +62,7 @@ public class PopDestroyOperationV2 implements Operation {
         } else {
             this.mManagerAbility.restoreActivityStatus(mReturnRecord.mActivityStatusRecord);
         }
-        this.mManagerAbility.getNavigationListener().navigationChange(mCurrentRecord.mScene, mReturnRecord.mScene, false);
-        mNavigationScene.addToReuseCache(mCurrentRecord.mScene);
+        this.mManagerAbility.getNavigationListener().navigationChange(mCurrentRecord.getScene(), mReturnRecord.getScene(), false);
+        mNavigationScene.addToReuseCache(mCurrentRecord.getScene());
     }
 }
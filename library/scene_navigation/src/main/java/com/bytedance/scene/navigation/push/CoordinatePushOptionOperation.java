@@ -123,7 +123,7 @@ public class CoordinatePushOptionOperation implements Operation {
                     new CoordinatePopCountOperation(mManagerAbility, mMessageQueue, this.mPushOptions.getNavigationAnimationFactory(), popSceneCount, null, onNewIntentAction).execute(operationEndAction);
                 }else {
                     Record dstRecord = mManagerAbility.getCurrentRecord();
-                    Scene dstScene = dstRecord.mScene;
+                    Scene dstScene = dstRecord.getScene();
                     if (dstScene.getState() == State.RESUMED) {
                         //Because Activity is onResume, so Scene is onResume too, pause then invoke onNewIntent, finally resume
                         //onResume(current state) -> onPause -> onNewIntent -> onResume
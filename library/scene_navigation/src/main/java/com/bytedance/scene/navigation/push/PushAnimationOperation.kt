@@ -35,7 +35,7 @@ import com.bytedance.scene.utlity.CancellationSignalList
 internal class PushAnimationOperation(private val managerAbility: NavigationManagerAbility, private val previousRecord: Record?) : Operation {
     private val TAG = "PushAnimationOperation"
     private val navigationScene: NavigationScene = managerAbility.navigationScene
-    private val previousSceneView = previousRecord?.mScene?.view
+    private val previousSceneView = previousRecord?.scene?.view
 
     override fun execute(operationEndAction: Runnable) {
         LoggerManager.getInstance().i(TAG, "invoke execute operation")
@@ -58,21 +58,21 @@ internal class PushAnimationOperation(private val managerAbility: NavigationMana
         var navigationAnimationExecutor: NavigationAnimationExecutor? = null
         //Scene can override mNavigationAnimationExecutor in moveState method by NavigationScene.overrideNavigationAnimationExecutor
         val recordAnimationExecutor = topRecord.mNavigationAnimationExecutor
-        if (recordAnimationExecutor != null && recordAnimationExecutor.isSupport(previousRecord.mScene.javaClass, topRecord.mScene.javaClass)) {
+        if (recordAnimationExecutor != null && recordAnimationExecutor.isSupport(previousRecord.scene.javaClass, topRecord.scene.javaClass)) {
             navigationAnimationExecutor = recordAnimationExecutor
         }
         if (navigationAnimationExecutor == null) {
             navigationAnimationExecutor = navigationScene.defaultNavigationAnimationExecutor
         }
 
-        if (navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(previousRecord.mScene.javaClass, topRecord.mScene.javaClass)) {
-            val finalCurrentScene = previousRecord.mScene
+        if (navigationAnimationExecutor != null && navigationAnimationExecutor.isSupport(previousRecord.scene.javaClass, topRecord.scene.javaClass)) {
+            val finalCurrentScene = previousRecord.scene
 
             AnimatorUtility.bringSceneViewToFrontIfNeeded(navigationScene) //make sure Z order is correct
             navigationAnimationExecutor.setAnimationViewGroup(navigationScene.animationContainer)
 
             val fromInfo = AnimationInfo(finalCurrentScene, previousSceneView, finalCurrentScene.state, previousRecord.mIsTranslucent)
-            val toInfo = AnimationInfo(topRecord.mScene, topRecord.mScene.view, topRecord.mScene.state, topRecord.mIsTranslucent)
+            val toInfo = AnimationInfo(topRecord.scene, topRecord.scene.view, topRecord.scene.state, topRecord.mIsTranslucent)
 
             val cancellationSignalList = CancellationSignalList()
             managerAbility.cancellationSignalManager.add(cancellationSignalList)
@@ -84,7 +84,7 @@ internal class PushAnimationOperation(private val managerAbility: NavigationMana
                 },
                 Runnable {
                     managerAbility.cancellationSignalManager.remove(cancellationSignalList)
-                    managerAbility.notifyNavigationAnimationEnd(finalCurrentScene, topRecord.mScene, true)
+                    managerAbility.notifyNavigationAnimationEnd(finalCurrentScene, topRecord.scene, true)
                     operationEndAction.run()
                 })
         } else {
@@ -51,11 +51,13 @@ public class PushPauseOperation implements Operation {
             final List<Record> previousRecordList = mManagerAbility.getCurrentRecordList();
             for (int i = previousRecordList.size() - 1; i >= 0; i--) {
                 Record oldRecord = previousRecordList.get(i);
-                Scene oldScene = oldRecord.mScene;
-                if (!removePredicate.apply(oldScene)) {
+                if (!oldRecord.applyPredicate(removePredicate)) {
                     continue;
                 }
-                mManagerAbility.moveState(mNavigationScene, oldScene, State.NONE, null, false, null);
+                //a Scene which is not created yet has nothing to destroy
+                if (oldRecord.mScene != null) {
+                    mManagerAbility.moveState(mNavigationScene, oldRecord.mScene, State.NONE, null, false, null);
+                }
                 mManagerAbility.removeRecord(oldRecord);
             }
         }
@@ -63,9 +65,9 @@ public class PushPauseOperation implements Operation {
         final Record currentRecord = mManagerAbility.getCurrentRecord();
 
         //move current Scene to paused status
-        if (currentRecord != null && mManagerAbility.getCurrentRecordList().contains(currentRecord)) {
+        if (currentRecord != null && mManagerAbility.containsRecord(currentRecord)) {
             currentRecord.saveActivityStatus();
-            final Scene currentScene = currentRecord.mScene;
+            final Scene currentScene = currentRecord.getScene();
             State dstState = mIsPushSceneTranslucent ? State.STARTED : State.ACTIVITY_CREATED;
             dstState = NavigationSceneManager.findMinState(dstState, mNavigationScene.getState());
 
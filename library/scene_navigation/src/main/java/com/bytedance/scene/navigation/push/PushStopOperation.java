@@ -44,7 +44,7 @@ public class PushStopOperation implements Operation {
         Record topRecord = currentRecordList.get(currentRecordList.size() - 1);
 
         if (mPreviousRecord == null) {
-            mManagerAbility.getNavigationListener().navigationChange(null, topRecord.mScene, true);
+            mManagerAbility.getNavigationListener().navigationChange(null, topRecord.getScene(), true);
             operationEndAction.run();
             return;
         }
@@ -54,14 +54,14 @@ public class PushStopOperation implements Operation {
 
             for (int i = currentRecordList.size() - 2; i >= 0; i--) {
                 Record record = currentRecordList.get(i);
-                mManagerAbility.moveState(mNavigationScene, record.mScene, dstState, null, false, null);
+                mManagerAbility.moveState(mNavigationScene, record.getScene(), dstState, null, false, null);
                 if (!record.mIsTranslucent) {
                     break;
                 }
             }
         }
 
-        mManagerAbility.getNavigationListener().navigationChange(mPreviousRecord.mScene, topRecord.mScene, true);
+        mManagerAbility.getNavigationListener().navigationChange(mPreviousRecord.getScene(), topRecord.getScene(), true);
         operationEndAction.run();
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation.reuse
+
+import android.content.ComponentCallbacks2
+import com.bytedance.scene.Scene
+import java.util.WeakHashMap
+
+/**
+ * IReusePool implementation with a size limit per Scene class and in total
+ *
+ * Released scenes are kept in per-class buckets so [DefaultReuseBehavior] lookups are O(1),
+ * the most recently released scene of a class is handed out first, and the least recently
+ * released scene is evicted first when a limit is exceeded or memory is low.
+ * Reuse states are weak-keyed, so scenes dropped by the pool can be garbage collected.
+ *
+ * Evicted scenes are reported to [OnEvictedListener], [NavigationReuseManager] registers itself
+ * to destroy them through INavigationManager.destroyReuseCache.
+ *
+ * @param maxSizePerClass max released scenes kept for a single Scene class
+ * @param maxTotalSize max released scenes kept in the whole pool
+ */
+class BoundedReusePool @JvmOverloads constructor(
+    private val maxSizePerClass: Int = DEFAULT_MAX_SIZE_PER_CLASS,
+    private val maxTotalSize: Int = DEFAULT_MAX_TOTAL_SIZE
+) : IReusePool {
+
+    companion object {
+        const val DEFAULT_MAX_SIZE_PER_CLASS = 2
+        const val DEFAULT_MAX_TOTAL_SIZE = 8
+    }
+
+    fun interface OnEvictedListener {
+        fun onEvicted(scenes: List<IReuseScene>)
+    }
+
+    init {
+        require(maxSizePerClass > 0) { "maxSizePerClass must be greater than 0" }
+        require(maxTotalSize > 0) { "maxTotalSize must be greater than 0" }
+    }
+
+    // Per-class buckets, the last element is the most recently released one
+    private val buckets = HashMap<Class<*>, ArrayDeque<IReuseScene>>()
+
+    // Release order of all pooled scenes, the first element is the eldest one
+    private val lruOrder = LinkedHashSet<IReuseScene>()
+    private val reuseStates = WeakHashMap<IReuseScene, ReuseState>()
+    private var onEvictedListener: OnEvictedListener? = null
+
+    fun setOnEvictedListener(listener: OnEvictedListener?) {
+        this.onEvictedListener = listener
+    }
+
+    /**
+     * Count of released scenes kept in the pool
+     */
+    fun size(): Int {
+        return lruOrder.size
+    }
+
+    override fun releaseScene(scene: IReuseScene): Boolean {
+        if (!scene.isReusable() || lruOrder.contains(scene)) {
+            return false
+        }
+
+        val bucket = buckets.getOrPut(scene.javaClass) { ArrayDeque() }
+        bucket.addLast(scene)
+        lruOrder.add(scene)
+        reuseStates[scene] = ReuseState.RELEASED
+
+        var evicted: MutableList<IReuseScene>? = null
+        while (bucket.size > maxSizePerClass) {
+            val eldest = bucket.first()
+            removeFromPool(eldest)
+            evicted = (evicted ?: ArrayList()).apply { add(eldest) }
+        }
+        while (lruOrder.size > maxTotalSize) {
+            val eldest = lruOrder.first()
+            removeFromPool(eldest)
+            evicted = (evicted ?: ArrayList()).apply { add(eldest) }
+        }
+        if (evicted != null) {
+            dispatchEvicted(evicted)
+        }
+        return true
+    }
+
+    override fun reuseScene(behavior: ReuseBehavior): Scene? {
+        val matchedScene = if (behavior is DefaultReuseBehavior) {
+            buckets[behavior.targetClass]?.lastOrNull()
+        } else {
+            lruOrder.lastOrNull { behavior.match(it) }
+        } ?: return null
+
+        removeFromPool(matchedScene)
+        reuseStates[matchedScene] = ReuseState.REUSED
+        return matchedScene as Scene
+    }
+
+    override fun removeScenes(behavior: ReuseBehavior): List<IReuseScene> {
+        val scenesToRemove = lruOrder.filter { behavior.match(it) }
+        scenesToRemove.forEach { removeFromPool(it) }
+        return scenesToRemove
+    }
+
+    override fun getSceneState(scene: IReuseScene): ReuseState {
+        return reuseStates[scene] ?: ReuseState.INITED
+    }
+
+    override fun isEmpty(): Boolean {
+        return lruOrder.isEmpty()
+    }
+
+    override fun clear() {
+        buckets.clear()
+        lruOrder.clear()
+        reuseStates.clear()
+    }
+
+    /**
+     * Evict the least recently released scenes until the pool size is not greater than [maxSize]
+     */
+    fun trimToSize(maxSize: Int) {
+        if (lruOrder.size <= maxSize) {
+            return
+        }
+        val evicted = ArrayList<IReuseScene>(lruOrder.size - maxSize)
+        while (lruOrder.size > maxSize) {
+            val eldest = lruOrder.first()
+            removeFromPool(eldest)
+            evicted.add(eldest)
+        }
+        dispatchEvicted(evicted)
+    }
+
+    /**
+     * Shrink the pool according to [ComponentCallbacks2] trim memory level
+     */
+    fun onTrimMemory(level: Int) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_COMPLETE || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            trimToSize(0)
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            trimToSize(lruOrder.size / 2)
+        }
+    }
+
+    private fun removeFromPool(scene: IReuseScene) {
+        lruOrder.remove(scene)
+        val bucket = buckets[scene.javaClass] ?: return
+        bucket.remove(scene)
+        if (bucket.isEmpty()) {
+            buckets.remove(scene.javaClass)
+        }
+    }
+
+    private fun dispatchEvicted(scenes: List<IReuseScene>) {
+        scenes.forEach { reuseStates.remove(it) }
+        onEvictedListener?.onEvicted(scenes)
+    }
+}
@@ -32,6 +32,13 @@ class NavigationReuseManager(
 
     private val reusePool: IReusePool = reusePool ?: DefaultReusePool()
 
+    init {
+        val pool = this.reusePool
+        if (pool is BoundedReusePool) {
+            pool.setOnEvictedListener { scenes -> navigationManager.destroyReuseCache(scenes) }
+        }
+    }
+
     /**
      * Get the current cache pool
      */
@@ -50,9 +57,50 @@ class NavigationReuseManager(
      * Get a matching Scene from the cache pool
      */
     fun reuseFromPool(strategy: ReuseBehavior): Scene? {
-        return reusePool.reuseScene(strategy)
+        val scene = reusePool.reuseScene(strategy)
+        if (scene != null) {
+            hitCount++
+        } else {
+            missCount++
+        }
+        return scene
+    }
+
+    /**
+     * Create a Scene ahead of its first push and put it into the cache pool in RELEASED state
+     * @return whether the Scene is added to the cache pool
+     */
+    fun prewarm(scene: IReuseScene): Boolean {
+        if (!scene.isReusable()) {
+            return false
+        }
+        navigationManager.createReuseCache(scene)
+        if (!reusePool.releaseScene(scene)) {
+            navigationManager.destroyReuseCache(listOf(scene))
+            return false
+        }
+        prewarmCount++
+        return true
     }
 
+    /**
+     * Count of [reuseFromPool] calls which got a Scene from the cache pool
+     */
+    var hitCount: Int = 0
+        private set
+
+    /**
+     * Count of [reuseFromPool] calls which found nothing in the cache pool
+     */
+    var missCount: Int = 0
+        private set
+
+    /**
+     * Count of Scenes added to the cache pool by [prewarm]
+     */
+    var prewarmCount: Int = 0
+        private set
+
     /**
      * Check if the reuse pool is completely empty.
      * This is a lightweight operation that doesn't involve scene matching logic.
@@ -63,10 +111,25 @@ class NavigationReuseManager(
         return reusePool.isEmpty()
     }
 
+    /**
+     * Shrink the cache pool when memory is low, only [BoundedReusePool] supports it
+     * @param level ComponentCallbacks2 trim memory level
+     */
+    fun trimMemory(level: Int) {
+        val pool = reusePool
+        if (pool is BoundedReusePool) {
+            pool.onTrimMemory(level)
+        }
+    }
+
     /**
      * Destroy all caches
      */
     fun clear() {
+        val pool = reusePool
+        if (pool is BoundedReusePool) {
+            pool.setOnEvictedListener(null)
+        }
         val allScenes = reusePool.removeScenes { true }
         navigationManager.destroyReuseCache(allScenes)
         reusePool.clear()
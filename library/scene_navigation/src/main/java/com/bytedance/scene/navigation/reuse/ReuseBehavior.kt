@@ -27,7 +27,7 @@ fun interface ReuseBehavior {
     fun match(scene: IReuseScene): Boolean
 }
 
-internal class DefaultReuseBehavior(private val targetClass: Class<out Scene>) : ReuseBehavior {
+internal class DefaultReuseBehavior(internal val targetClass: Class<out Scene>) : ReuseBehavior {
     override fun match(scene: IReuseScene): Boolean {
         return scene::class.java == targetClass
     }
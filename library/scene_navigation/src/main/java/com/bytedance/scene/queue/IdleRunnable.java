@@ -38,7 +38,7 @@ import com.bytedance.scene.utlity.TaskStartSignal;
  * @hide
  */
 @RestrictTo(LIBRARY)
-class IdleRunnable implements MessageQueue.IdleHandler, Runnable {
+public class IdleRunnable implements MessageQueue.IdleHandler, Runnable {
     private final Handler mHandler;
     private final long mTimeOutMillis;
     @Nullable
@@ -51,7 +51,7 @@ class IdleRunnable implements MessageQueue.IdleHandler, Runnable {
     private boolean isAddedToIdle = false;
     private boolean isAddedToQueue = false;
 
-    IdleRunnable(Handler handler, Runnable targetRunnable, @Nullable TaskStartSignal addIdleHandlerSignal, @Nullable CancellationSignal cancellationSignal, long timeOutMillis) {
+    public IdleRunnable(Handler handler, Runnable targetRunnable, @Nullable TaskStartSignal addIdleHandlerSignal, @Nullable CancellationSignal cancellationSignal, long timeOutMillis) {
         this.mHandler = handler;
         this.mTargetRunnable = targetRunnable;
         if (timeOutMillis <= 0) {
@@ -62,7 +62,7 @@ class IdleRunnable implements MessageQueue.IdleHandler, Runnable {
         this.mTimeOutMillis = timeOutMillis;
     }
 
-    void start() {
+    public void start() {
         if (this.isAddedSignalIdle || this.isAddedToIdle || this.isAddedToQueue) {
             throw new IllegalStateException("IdleRunnable is already started");
         }
@@ -110,7 +110,7 @@ class IdleRunnable implements MessageQueue.IdleHandler, Runnable {
         this.mTargetRunnable.run();
     }
 
-    void cancel() {
+    public void cancel() {
         if (this.isAddedSignalIdle) {
             this.isAddedSignalIdle = false;
             if (this.mAddIdleHandlerSignal == null) {
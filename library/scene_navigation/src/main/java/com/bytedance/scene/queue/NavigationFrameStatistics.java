@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counters of frame aligned navigation scheduling, only updated when
+ * {@link com.bytedance.scene.SceneGlobalConfig#navigationFrameAlignedSchedulingEnabled} is true.
+ * <p>
+ * All counters are updated on the main thread.
+ */
+public final class NavigationFrameStatistics {
+    static long sFrameCount = 0;
+    static long sOverrunFrameCount = 0;
+    static long sSpilledFrameCount = 0;
+    static long sMaxFrameTimeNanos = 0;
+
+    private NavigationFrameStatistics() {
+    }
+
+    static void onFrameFinished(long frameTimeNanos, long frameBudgetNanos, boolean spilled) {
+        sFrameCount++;
+        if (frameTimeNanos > frameBudgetNanos) {
+            sOverrunFrameCount++;
+        }
+        if (spilled) {
+            sSpilledFrameCount++;
+        }
+        if (frameTimeNanos > sMaxFrameTimeNanos) {
+            sMaxFrameTimeNanos = frameTimeNanos;
+        }
+    }
+
+    /**
+     * @return count of frames which executed at least one navigation task
+     */
+    public static long getFrameCount() {
+        return sFrameCount;
+    }
+
+    /**
+     * @return count of frames whose navigation tasks took longer than the frame budget,
+     * a single task can't be split, so it overruns the budget when it is heavier than the budget by itself
+     */
+    public static long getOverrunFrameCount() {
+        return sOverrunFrameCount;
+    }
+
+    /**
+     * @return count of frames which moved their remaining navigation tasks to the next frame
+     */
+    public static long getSpilledFrameCount() {
+        return sSpilledFrameCount;
+    }
+
+    public static long getMaxFrameTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(sMaxFrameTimeNanos);
+    }
+
+    public static void reset() {
+        sFrameCount = 0;
+        sOverrunFrameCount = 0;
+        sSpilledFrameCount = 0;
+        sMaxFrameTimeNanos = 0;
+    }
+}
@@ -19,19 +19,21 @@ import static androidx.annotation.RestrictTo.Scope.LIBRARY;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.view.Choreographer;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 import androidx.annotation.VisibleForTesting;
 
+import com.bytedance.scene.SceneGlobalConfig;
 import com.bytedance.scene.logger.LoggerManager;
 import com.bytedance.scene.utlity.CancellationSignal;
 import com.bytedance.scene.utlity.SceneInternalException;
 import com.bytedance.scene.utlity.TaskStartSignal;
 import com.bytedance.scene.utlity.ThreadUtility;
 
-import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created by jiangqi on 2023/11/3
@@ -43,6 +45,10 @@ import java.util.LinkedList;
  * While one navigation operation is still in progress, additional navigation requests may be made.
  * However, each new operation will be queued and executed only after the current operation has completed,
  * ensuring that navigation actions are processed sequentially and without conflict.
+ * <p>
+ * In frame aligned mode, Handler messages only request a Choreographer frame, tasks are executed from the frame callback
+ * until the frame budget is used up, the remaining tasks (for example creating the View of the pushed Scene) are moved
+ * to the next frame. See {@link NavigationFrameStatistics}.
  */
 
 /**
@@ -52,23 +58,36 @@ import java.util.LinkedList;
 public class NavigationMessageQueue {
     private static final String TAG = "NavigationMessageQueue";
     private final Handler mHandler = new Handler(Looper.getMainLooper());
-    private final LinkedList<NavigationRunnable> mPendingTasks = new LinkedList<>();
+    private final NavigationTaskList mPendingTasks = new NavigationTaskList();
     private boolean mIsRunningPostSync = false;
     private IdleRunnable mIdleRunnable = null;
 
     private int mDelayMessageCount = 0;
     private Runnable mAnimationBarrier = null;
 
+    private final boolean mFrameAligned;
+    private final long mFrameBudgetNanos;
+    private boolean mFrameCallbackPosted = false;
+
+    public NavigationMessageQueue() {
+        this(SceneGlobalConfig.navigationFrameAlignedSchedulingEnabled, SceneGlobalConfig.navigationFrameBudgetMillis);
+    }
+
+    public NavigationMessageQueue(boolean frameAligned, long frameBudgetMillis) {
+        this.mFrameAligned = frameAligned;
+        this.mFrameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(frameBudgetMillis, 0L));
+    }
+
     /**
      * post task at the end of queue
      *
      * @param runnable
      */
     public void postAsync(@NonNull final NavigationRunnable runnable) {
-        LoggerManager.getInstance().i(TAG, "postAsync submit " + runnable.toString());
+        LoggerManager.getInstance().i(TAG, "postAsync submit %s", runnable);
         ThreadUtility.checkUIThread();
         this.forceExecuteIdleTask();
-        this.mPendingTasks.add(runnable);
+        this.mPendingTasks.addLast(runnable);
         this.mHandler.post(this.mSceneNavigationTask);
     }
 
@@ -78,9 +97,9 @@ public class NavigationMessageQueue {
      * @param runnable
      */
     public void postUrgentAtHead(@NonNull final NavigationRunnable runnable) {
-        LoggerManager.getInstance().i(TAG, "postUrgentAtHead submit " + runnable.toString());
+        LoggerManager.getInstance().i(TAG, "postUrgentAtHead submit %s", runnable);
         this.forceExecuteIdleTask();
-        this.mPendingTasks.add(0, runnable);
+        this.mPendingTasks.addFirst(runnable);
         this.mHandler.postAtFrontOfQueue(this.mSceneNavigationTask);
     }
 
@@ -90,14 +109,19 @@ public class NavigationMessageQueue {
      * @param runnable
      */
     public void postAsyncAtHead(@NonNull final NavigationRunnable runnable) {
-        LoggerManager.getInstance().i(TAG, "postAsyncAtHead submit " + runnable.toString());
+        LoggerManager.getInstance().i(TAG, "postAsyncAtHead submit %s", runnable);
         this.forceExecuteIdleTask();
-        this.mPendingTasks.add(0, runnable);
+        this.mPendingTasks.addFirst(runnable);
         this.mHandler.post(this.mSceneNavigationTask);
     }
 
+    /**
+     * remove a task which is not executed yet in constant time
+     *
+     * @return false if the task is not in this queue
+     */
     public boolean remove(@NonNull final NavigationRunnable runnable) {
-        LoggerManager.getInstance().i(TAG, "remove " + runnable.toString());
+        LoggerManager.getInstance().i(TAG, "remove %s", runnable);
         return this.mPendingTasks.remove(runnable);
     }
 
@@ -125,7 +149,7 @@ public class NavigationMessageQueue {
     }
 
     public void postAsyncAtHeadIdleDelayed(@NonNull final NavigationRunnable runnable, @Nullable TaskStartSignal taskStartSignal, @Nullable CancellationSignal cancellationSignal, long timeOutMillis) {
-        LoggerManager.getInstance().i(TAG, "postAsyncAtHeadIdleDelayed submit " + runnable.toString());
+        LoggerManager.getInstance().i(TAG, "postAsyncAtHeadIdleDelayed submit %s", runnable);
         this.forceExecuteIdleTask();
 
         if (this.mIdleRunnable != null) {
@@ -136,15 +160,16 @@ public class NavigationMessageQueue {
             this.mDelayMessageCount = this.mPendingTasks.size();
             this.mHandler.removeCallbacks(this.mSceneNavigationTask);
         }
+        this.removeFrameCallback();
 
-        this.mPendingTasks.add(0, runnable);
+        this.mPendingTasks.addFirst(runnable);
         this.mIdleRunnable = new IdleRunnable(this.mHandler, this.mSceneNavigationTask, taskStartSignal, cancellationSignal, timeOutMillis);
         this.mIdleRunnable.start();
     }
 
     //All pending(post before and post after) tasks will be suspended forever until removeBarrier
     public void postBarrier(Runnable barrierForceFinishAction) {
-        LoggerManager.getInstance().i(TAG, "postBarrier submit " + barrierForceFinishAction.toString());
+        LoggerManager.getInstance().i(TAG, "postBarrier submit %s", barrierForceFinishAction);
         ThreadUtility.checkUIThread();
         if (this.mAnimationBarrier != null) {
             throw new SceneInternalException("Previous barrier is not cleared");
@@ -155,10 +180,11 @@ public class NavigationMessageQueue {
         this.mAnimationBarrier = barrierForceFinishAction;
         this.mDelayMessageCount = this.mPendingTasks.size();
         this.mHandler.removeCallbacks(this.mSceneNavigationTask);
+        this.removeFrameCallback();
     }
 
     public void removeBarrier(Runnable barrierForceFinishAction) {
-        LoggerManager.getInstance().i(TAG, "removeBarrier submit " + barrierForceFinishAction.toString());
+        LoggerManager.getInstance().i(TAG, "removeBarrier submit %s", barrierForceFinishAction);
         ThreadUtility.checkUIThread();
         if (this.mAnimationBarrier != barrierForceFinishAction) {
             throw new SceneInternalException("Previous Barrier is not cleared");
@@ -192,18 +218,84 @@ public class NavigationMessageQueue {
                 mDelayMessageCount--;
             }
 
+            if (mFrameAligned) {
+                if (!mPendingTasks.isEmpty()) {
+                    postFrameCallback();
+                }
+                return;
+            }
+
             NavigationRunnable currentTask = NavigationMessageQueue.this.mPendingTasks.poll();
             if (currentTask == null) {
                 LoggerManager.getInstance().i(TAG, "empty return");
                 return;
             }
 
-            LoggerManager.getInstance().i(TAG, "mSceneNavigationTask run task start " + currentTask.toString());
+            LoggerManager.getInstance().i(TAG, "mSceneNavigationTask run task start %s", currentTask);
             currentTask.run();
-            LoggerManager.getInstance().i(TAG, "mSceneNavigationTask run task finish " + currentTask.toString());
+            LoggerManager.getInstance().i(TAG, "mSceneNavigationTask run task finish %s", currentTask);
         }
     };
 
+    private void postFrameCallback() {
+        if (this.mFrameCallbackPosted) {
+            return;
+        }
+        this.mFrameCallbackPosted = true;
+        Choreographer.getInstance().postFrameCallback(this.mFrameCallback);
+    }
+
+    private void removeFrameCallback() {
+        if (!this.mFrameCallbackPosted) {
+            return;
+        }
+        this.mFrameCallbackPosted = false;
+        Choreographer.getInstance().removeFrameCallback(this.mFrameCallback);
+    }
+
+    private boolean isSuspended() {
+        return this.mAnimationBarrier != null || (this.mIdleRunnable != null && this.mIdleRunnable.hasStarted());
+    }
+
+    private final Choreographer.FrameCallback mFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mFrameCallbackPosted = false;
+            long startTimeNanos = System.nanoTime();
+            long elapsedNanos = 0L;
+            int taskCount = 0;
+
+            //tasks posted by a task are executed in the same frame too if there is budget left
+            while (!isSuspended() && elapsedNanos < mFrameBudgetNanos) {
+                NavigationRunnable currentTask = mPendingTasks.poll();
+                if (currentTask == null) {
+                    break;
+                }
+                LoggerManager.getInstance().i(TAG, "mFrameCallback run task start %s", currentTask);
+                currentTask.run();
+                LoggerManager.getInstance().i(TAG, "mFrameCallback run task finish %s", currentTask);
+                taskCount++;
+                elapsedNanos = System.nanoTime() - startTimeNanos;
+            }
+
+            //barrier and idle task repost their own messages when they finish
+            boolean spilled = !isSuspended() && !mPendingTasks.isEmpty();
+            if (spilled) {
+                postFrameCallback();
+            }
+            if (taskCount > 0) {
+                NavigationFrameStatistics.onFrameFinished(elapsedNanos, mFrameBudgetNanos, spilled);
+                if (elapsedNanos > mFrameBudgetNanos) {
+                    LoggerManager.getInstance().i(TAG, "mFrameCallback overrun %s tasks %sus", taskCount, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+                }
+            }
+        }
+    };
+
+    public boolean isFrameAligned() {
+        return this.mFrameAligned;
+    }
+
     /**
      * force execute all previous tasks and then execute target task
      *
@@ -236,17 +328,18 @@ public class NavigationMessageQueue {
                     break;
                 }
 
-                LoggerManager.getInstance().i(TAG, "postSync run previous pending task start " + currentTask.toString());
+                LoggerManager.getInstance().i(TAG, "postSync run previous pending task start %s", currentTask);
                 currentTask.run();
-                LoggerManager.getInstance().i(TAG, "postSync run previous pending task finish " + currentTask.toString());
+                LoggerManager.getInstance().i(TAG, "postSync run previous pending task finish %s", currentTask);
             }
 
             this.mHandler.removeCallbacks(this.mSceneNavigationTask);
+            this.removeFrameCallback();
 
             //then execute this task
-            LoggerManager.getInstance().i(TAG, "postSync run current task start " + runnable.toString());
+            LoggerManager.getInstance().i(TAG, "postSync run current task start %s", runnable);
             runnable.run();
-            LoggerManager.getInstance().i(TAG, "postSync run current task finish " + runnable.toString());
+            LoggerManager.getInstance().i(TAG, "postSync run current task finish %s", runnable);
         } finally {
             this.mIsRunningPostSync = false;
         }
@@ -257,6 +350,11 @@ public class NavigationMessageQueue {
         return mPendingTasks.size() > 0;
     }
 
+    @VisibleForTesting
+    public int getPendingTaskCount() {
+        return this.mPendingTasks.size();
+    }
+
     @VisibleForTesting
     public int getDelayMessageCount() {
         return this.mDelayMessageCount;
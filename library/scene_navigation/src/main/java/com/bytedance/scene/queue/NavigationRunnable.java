@@ -21,5 +21,8 @@ package com.bytedance.scene.queue;
  * @author jiangqi@bytedance.com
  */
 public abstract class NavigationRunnable implements Runnable {
-
+    //links of NavigationTaskList, a task is in at most one list at a time
+    NavigationTaskList mOwner;
+    NavigationRunnable mPrev;
+    NavigationRunnable mNext;
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.queue;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.utlity.SceneInternalException;
+
+/**
+ * Doubly linked list of pending NavigationRunnables, links are stored in the tasks themselves
+ * so a queued task is removed in constant time without scanning the list.
+ */
+final class NavigationTaskList {
+    private NavigationRunnable mHead;
+    private NavigationRunnable mTail;
+    private int mSize;
+
+    void addFirst(@NonNull NavigationRunnable runnable) {
+        checkNotQueued(runnable);
+        runnable.mOwner = this;
+        runnable.mNext = this.mHead;
+        if (this.mHead != null) {
+            this.mHead.mPrev = runnable;
+        } else {
+            this.mTail = runnable;
+        }
+        this.mHead = runnable;
+        this.mSize++;
+    }
+
+    void addLast(@NonNull NavigationRunnable runnable) {
+        checkNotQueued(runnable);
+        runnable.mOwner = this;
+        runnable.mPrev = this.mTail;
+        if (this.mTail != null) {
+            this.mTail.mNext = runnable;
+        } else {
+            this.mHead = runnable;
+        }
+        this.mTail = runnable;
+        this.mSize++;
+    }
+
+    @Nullable
+    NavigationRunnable poll() {
+        NavigationRunnable head = this.mHead;
+        if (head != null) {
+            unlink(head);
+        }
+        return head;
+    }
+
+    /**
+     * @return false if the task is not in this list
+     */
+    boolean remove(@NonNull NavigationRunnable runnable) {
+        if (runnable.mOwner != this) {
+            return false;
+        }
+        unlink(runnable);
+        return true;
+    }
+
+    int size() {
+        return this.mSize;
+    }
+
+    boolean isEmpty() {
+        return this.mSize == 0;
+    }
+
+    private void unlink(@NonNull NavigationRunnable runnable) {
+        NavigationRunnable prev = runnable.mPrev;
+        NavigationRunnable next = runnable.mNext;
+        if (prev != null) {
+            prev.mNext = next;
+        } else {
+            this.mHead = next;
+        }
+        if (next != null) {
+            next.mPrev = prev;
+        } else {
+            this.mTail = prev;
+        }
+        runnable.mOwner = null;
+        runnable.mPrev = null;
+        runnable.mNext = null;
+        this.mSize--;
+    }
+
+    private static void checkNotQueued(@NonNull NavigationRunnable runnable) {
+        if (runnable.mOwner != null) {
+            throw new SceneInternalException("NavigationRunnable " + runnable + " is already queued");
+        }
+    }
+}
@@ -16,7 +16,16 @@
 package com.bytedance.scene.scheduler
 
 interface IMessageQueue {
-    fun postMessage(runnable: Runnable): Runnable
-    fun postMessageAtHead(runnable: Runnable): Runnable
-    fun removeMessage(runnable: Runnable)
+    fun postMessage(runnable: Runnable): IMessageToken
+    fun postMessageAtHead(runnable: Runnable): IMessageToken
+}
+
+/**
+ * Handle of a posted message, cancel must not scan the queue
+ */
+interface IMessageToken {
+    /**
+     * @return false if the message is already executed or cancelled
+     */
+    fun cancel(): Boolean
 }
\ No newline at end of file
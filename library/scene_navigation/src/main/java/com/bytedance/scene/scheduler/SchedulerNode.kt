@@ -40,8 +40,10 @@ class SchedulerNode(
     init {
         this.terminationSignal.addTerminationCallback {
             if (isNodeCompleted) {
-                this.nextMessage?.let {
-                    messageQueue.removeMessage(it)
+                //run the rest of the chain now instead of leaving a stale message in the queue
+                val message = this.nextMessage
+                this.nextMessage = null
+                if (message != null && message.cancel()) {
                     scheduleNextTask(SchedulerNodePolicy.NEXT_IMMEDIATE)
                 }
             }
@@ -85,7 +87,7 @@ class SchedulerNode(
         return newSchedulerNode
     }
 
-    private var nextMessage: Runnable? = null
+    private var nextMessage: IMessageToken? = null
 
     private fun scheduleNextTask(overrideMode: SchedulerNodePolicy?) {
         val nextScheduler = this.nextSchedulerNode
@@ -94,17 +96,23 @@ class SchedulerNode(
             return
         }
 
-        when (nextScheduler.schedulerNodePolicy) {
+        when (overrideMode ?: nextScheduler.schedulerNodePolicy) {
             SchedulerNodePolicy.NEXT_IMMEDIATE -> {
                 nextScheduler.run()
             }
 
             SchedulerNodePolicy.NEXT_LOOP_HEAD -> {
-                this.nextMessage = messageQueue.postMessageAtHead { nextScheduler.run() }
+                this.nextMessage = messageQueue.postMessageAtHead {
+                    this.nextMessage = null
+                    nextScheduler.run()
+                }
             }
 
             SchedulerNodePolicy.NEXT_LOOP_TAIL -> {
-                this.nextMessage = messageQueue.postMessage { nextScheduler.run() }
+                this.nextMessage = messageQueue.postMessage {
+                    this.nextMessage = null
+                    nextScheduler.run()
+                }
             }
         }
     }
@@ -44,30 +44,28 @@ class NavigationTaskExecutorProxy(private val navigationManagerAbility: Navigati
 }
 
 class MessageQueueProxy(private val navigationMessageQueue: NavigationMessageQueue) : IMessageQueue {
-    private val map: MutableMap<Runnable, NavigationRunnable> = hashMapOf()
-    override fun postMessage(runnable: Runnable): Runnable {
-        val navigationRunnable = object : NavigationRunnable() {
-            override fun run() {
-                runnable.run()
-            }
-        }
-        navigationMessageQueue.postAsync(navigationRunnable)
-        return runnable
+    override fun postMessage(runnable: Runnable): IMessageToken {
+        val message = Message(navigationMessageQueue, runnable)
+        navigationMessageQueue.postAsync(message)
+        return message
     }
 
-    override fun postMessageAtHead(runnable: Runnable): Runnable {
-        val navigationRunnable = object : NavigationRunnable() {
-            override fun run() {
-                runnable.run()
-            }
-        }
-        navigationMessageQueue.postAsyncAtHead(navigationRunnable)
-        return runnable
+    override fun postMessageAtHead(runnable: Runnable): IMessageToken {
+        val message = Message(navigationMessageQueue, runnable)
+        navigationMessageQueue.postAsyncAtHead(message)
+        return message
     }
 
-    override fun removeMessage(runnable: Runnable) {
-        map.remove(runnable)?.let {
-            navigationMessageQueue.remove(it)
+    private class Message(
+        private val navigationMessageQueue: NavigationMessageQueue,
+        private val runnable: Runnable
+    ) : NavigationRunnable(), IMessageToken {
+        override fun run() {
+            runnable.run()
+        }
+
+        override fun cancel(): Boolean {
+            return navigationMessageQueue.remove(this)
         }
     }
-}
\ No newline at end of file
+}
@@ -1,53 +0,0 @@
-/*
- * Copyright (C) 2019 ByteDance Inc
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *      http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package com.bytedance.scene.utlity;
-
-import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
-
-import androidx.annotation.FloatRange;
-import androidx.annotation.RestrictTo;
-
-@RestrictTo(LIBRARY_GROUP)
-public class MemoryMonitor {
-
-    private final float threshold;
-    private final Runnable onReachThreshold;
-
-    private final Runnable watcher = new Runnable() {
-        @Override
-        public void run() {
-            Runtime runtime = Runtime.getRuntime();
-            long dalvikMax = runtime.maxMemory();
-            long dalvikUsed = runtime.totalMemory() - runtime.freeMemory();
-            if (dalvikUsed > dalvikMax * threshold) {
-                onReachThreshold.run();
-            }
-        }
-    };
-
-    public MemoryMonitor(@FloatRange(from = 0.0, to = 1F) float threshold, Runnable onReachThreshold) {
-        this.threshold = threshold;
-        this.onReachThreshold = onReachThreshold;
-    }
-
-    public void start() {
-        GcWatchers.addGcWatcher(watcher);
-    }
-
-    public void stop() {
-        GcWatchers.removeGcWatcher(watcher);
-    }
-}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.utlity;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.VisibleForTesting;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+
+/**
+ * Notify memory pressure on the main thread, the sources are
+ * <ul>
+ * <li>heap usage sampled after every GC, detected by a PhantomReference enqueued to a ReferenceQueue</li>
+ * <li>ComponentCallbacks2.onTrimMemory and onLowMemory</li>
+ * <li>optional periodic heap sampling</li>
+ * </ul>
+ * Heap sampling has hysteresis, once the heap usage is above the threshold it is not notified again until the usage
+ * drops below the threshold minus {@link #HYSTERESIS}, or {@link #REPEAT_INTERVAL_MILLIS} passed since the last notification.
+ * <p>
+ * Reclaimed bytes are measured at the first GC after the Callback released memory.
+ */
+@RestrictTo(LIBRARY_GROUP)
+public class MemoryPressureMonitor {
+    public static final int SOURCE_GC = 0;
+    public static final int SOURCE_TRIM_MEMORY = 1;
+    public static final int SOURCE_SAMPLING = 2;
+
+    static final float HYSTERESIS = 0.05F;
+    static final long REPEAT_INTERVAL_MILLIS = 10_000L;
+
+    public interface Callback {
+        /**
+         * @return count of Scenes released
+         */
+        int onMemoryPressure(int source);
+
+        void onMemoryReclaimed(int source, int sceneCount, long reclaimedBytes);
+    }
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Context mContext;
+    private final float mThreshold;
+    private final long mSampleIntervalMillis;
+    private final Callback mCallback;
+
+    private boolean mStarted = false;
+    private boolean mUnderPressure = false;
+    private long mLastNotifyTimeMillis = 0L;
+
+    private boolean mHasPendingReclaim = false;
+    private int mPendingReclaimSource;
+    private int mPendingReclaimSceneCount;
+    private long mPendingReclaimUsedBytes;
+
+    private final Runnable mSampleRunnable = new Runnable() {
+        @Override
+        public void run() {
+            onMemorySample(SOURCE_SAMPLING, getUsedMemoryBytes(), Runtime.getRuntime().maxMemory());
+            mHandler.postDelayed(this, mSampleIntervalMillis);
+        }
+    };
+
+    private final ComponentCallbacks2 mComponentCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            if (level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_BACKGROUND) {
+                onTrimMemoryPressure();
+            }
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {
+
+        }
+
+        @Override
+        public void onLowMemory() {
+            onTrimMemoryPressure();
+        }
+    };
+
+    /**
+     * @param sampleIntervalMillis interval of periodic heap sampling, 0 to only sample after GC
+     */
+    public MemoryPressureMonitor(@NonNull Context context, @FloatRange(from = 0.0, to = 1F) float threshold,
+                                 long sampleIntervalMillis, @NonNull Callback callback) {
+        this.mContext = context.getApplicationContext();
+        this.mThreshold = threshold;
+        this.mSampleIntervalMillis = sampleIntervalMillis;
+        this.mCallback = callback;
+    }
+
+    @MainThread
+    public void start() {
+        ThreadUtility.checkUIThread();
+        if (this.mStarted) {
+            return;
+        }
+        this.mStarted = true;
+        GcSentinel.add(this);
+        this.mContext.registerComponentCallbacks(this.mComponentCallbacks);
+        if (this.mSampleIntervalMillis > 0) {
+            this.mHandler.postDelayed(this.mSampleRunnable, this.mSampleIntervalMillis);
+        }
+    }
+
+    @MainThread
+    public void stop() {
+        ThreadUtility.checkUIThread();
+        if (!this.mStarted) {
+            return;
+        }
+        this.mStarted = false;
+        GcSentinel.remove(this);
+        this.mContext.unregisterComponentCallbacks(this.mComponentCallbacks);
+        this.mHandler.removeCallbacks(this.mSampleRunnable);
+        this.mHasPendingReclaim = false;
+    }
+
+    private void onTrimMemoryPressure() {
+        if (!this.mStarted) {
+            return;
+        }
+        this.mUnderPressure = true;
+        notifyMemoryPressure(SOURCE_TRIM_MEMORY, getUsedMemoryBytes());
+    }
+
+    @VisibleForTesting
+    public void onMemorySample(int source, long usedBytes, long maxBytes) {
+        if (!this.mStarted) {
+            return;
+        }
+        if (source == SOURCE_GC && this.mHasPendingReclaim) {
+            this.mHasPendingReclaim = false;
+            this.mCallback.onMemoryReclaimed(this.mPendingReclaimSource, this.mPendingReclaimSceneCount,
+                    Math.max(0L, this.mPendingReclaimUsedBytes - usedBytes));
+        }
+
+        if (usedBytes > maxBytes * this.mThreshold) {
+            if (!this.mUnderPressure || SystemClock.uptimeMillis() - this.mLastNotifyTimeMillis >= REPEAT_INTERVAL_MILLIS) {
+                this.mUnderPressure = true;
+                notifyMemoryPressure(source, usedBytes);
+            }
+        } else if (usedBytes < maxBytes * (this.mThreshold - HYSTERESIS)) {
+            this.mUnderPressure = false;
+        }
+    }
+
+    private void notifyMemoryPressure(int source, long usedBytes) {
+        this.mLastNotifyTimeMillis = SystemClock.uptimeMillis();
+        int sceneCount = this.mCallback.onMemoryPressure(source);
+        if (sceneCount > 0) {
+            //memory of released Scenes is only reclaimed by the next GC
+            this.mHasPendingReclaim = true;
+            this.mPendingReclaimSource = source;
+            this.mPendingReclaimSceneCount = sceneCount;
+            this.mPendingReclaimUsedBytes = usedBytes;
+        } else {
+            this.mCallback.onMemoryReclaimed(source, 0, 0L);
+        }
+    }
+
+    @VisibleForTesting
+    public boolean isUnderPressure() {
+        return this.mUnderPressure;
+    }
+
+    public static long getUsedMemoryBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * A PhantomReference to an unreachable object is enqueued by every GC, a daemon thread waits on the ReferenceQueue
+     * and lets the main thread sample the heap, then a new sentinel is armed for the next GC.
+     * The started monitors and the sentinel are only touched on the main thread.
+     */
+    private static final class GcSentinel {
+        private static final ArrayList<MemoryPressureMonitor> sMonitors = new ArrayList<>();
+        private static final ReferenceQueue<Object> sQueue = new ReferenceQueue<>();
+        private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+        private static PhantomReference<Object> sSentinel = null;
+        private static Thread sThread = null;
+
+        private static final Runnable DISPATCH = new Runnable() {
+            @Override
+            public void run() {
+                sSentinel = null;
+                if (sMonitors.isEmpty()) {
+                    return;
+                }
+                long usedBytes = getUsedMemoryBytes();
+                long maxBytes = Runtime.getRuntime().maxMemory();
+                MemoryPressureMonitor[] monitors = sMonitors.toArray(new MemoryPressureMonitor[0]);
+                for (MemoryPressureMonitor monitor : monitors) {
+                    monitor.onMemorySample(SOURCE_GC, usedBytes, maxBytes);
+                }
+                arm();
+            }
+        };
+
+        static void add(MemoryPressureMonitor monitor) {
+            sMonitors.add(monitor);
+            if (sThread == null) {
+                sThread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        while (true) {
+                            try {
+                                sQueue.remove();
+                                sMainHandler.post(DISPATCH);
+                            } catch (InterruptedException ignored) {
+                            }
+                        }
+                    }
+                }, "SceneGcSentinel");
+                sThread.setDaemon(true);
+                sThread.start();
+            }
+            arm();
+        }
+
+        static void remove(MemoryPressureMonitor monitor) {
+            sMonitors.remove(monitor);
+        }
+
+        private static void arm() {
+            if (sSentinel == null && !sMonitors.isEmpty()) {
+                sSentinel = new PhantomReference<>(new Object(), sQueue);
+            }
+        }
+    }
+}
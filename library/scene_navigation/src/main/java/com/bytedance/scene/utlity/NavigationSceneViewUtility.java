@@ -53,7 +53,12 @@ public class NavigationSceneViewUtility {
             return -1;
         }
 
-        List<Scene> sceneList = navigationScene.getSceneList();
+        if (navigationSceneOptions.getDetachInvisibleSceneView()) {
+            return targetViewIndexOfDetachedScene(navigationScene, scene);
+        }
+
+        //Scenes which are not created yet have no view, don't create them here
+        List<Scene> sceneList = navigationScene.getCreatedSceneList();
         int sceneIndex = sceneList.indexOf(scene);
         if (sceneIndex == -1) {
             throw new SceneInternalException("Can't find target Scene " + scene.toString());
@@ -69,7 +74,7 @@ public class NavigationSceneViewUtility {
 
         int aboveSceneIndex = sceneIndex + 1;
         Scene aboveScene = sceneList.get(aboveSceneIndex);
-        View aboveSceneView = aboveScene.getView();
+        View aboveSceneView = aboveScene != null ? aboveScene.getView() : null;
 
         if (aboveSceneView != null) {
             if (aboveSceneView.getParent() != containerView) {
@@ -78,7 +83,7 @@ public class NavigationSceneViewUtility {
 
             //use this index to add before the above scene to make sure the above scene view overlays this scene view
             int targetViewIndex = containerView.indexOfChild(aboveSceneView);
-            LoggerManager.getInstance().i("NavigationSceneViewUtility#targetViewIndexOfScene", "find above scene, targetViewIndex: " + targetViewIndex);
+            LoggerManager.getInstance().i("NavigationSceneViewUtility#targetViewIndexOfScene", "find above scene, targetViewIndex: %s", targetViewIndex);
             return targetViewIndex;
         }
 
@@ -90,7 +95,7 @@ public class NavigationSceneViewUtility {
 
         int belowSceneIndex = sceneIndex - 1;
         Scene belowScene = sceneList.get(belowSceneIndex);
-        View belowSceneView = belowScene.getView();
+        View belowSceneView = belowScene != null ? belowScene.getView() : null;
 
         if (belowSceneView != null) {
             if (belowSceneView.getParent() != containerView) {
@@ -99,7 +104,7 @@ public class NavigationSceneViewUtility {
 
             //use this index to add after the below scene to make sure the this scene view overlays the below scene view
             int targetViewIndex = containerView.indexOfChild(belowSceneView) + 1;
-            LoggerManager.getInstance().i("NavigationSceneViewUtility#targetViewIndexOfScene", "find below scene, targetViewIndex: " + targetViewIndex);
+            LoggerManager.getInstance().i("NavigationSceneViewUtility#targetViewIndexOfScene", "find below scene, targetViewIndex: %s", targetViewIndex);
             return targetViewIndex;
         }
 
@@ -107,4 +112,42 @@ public class NavigationSceneViewUtility {
         LoggerManager.getInstance().i("NavigationSceneViewUtility#targetViewIndexOfScene", "above scene and below scene all not created, targetViewIndex: -1");
         return -1;
     }
+
+    /**
+     * Views of Scenes between the target Scene and its neighbours may be detached too, so the nearest Scene
+     * whose view is in the Scene container decides the index
+     */
+    public static int targetViewIndexOfDetachedScene(NavigationScene navigationScene, Scene scene) {
+        ViewGroup containerView = navigationScene.getSceneContainer();
+        if (containerView == null) {
+            throw new SceneInternalException("Why NavigationScene SceneContainer not found, impossible!");
+        }
+
+        List<Scene> sceneList = navigationScene.getCreatedSceneList();
+        int sceneIndex = sceneList.indexOf(scene);
+        if (sceneIndex == -1) {
+            throw new SceneInternalException("Can't find target Scene " + scene.toString());
+        }
+
+        //add before the nearest above scene to make sure the above scene view overlays this scene view
+        for (int i = sceneIndex + 1; i < sceneList.size(); i++) {
+            Scene aboveScene = sceneList.get(i);
+            View aboveSceneView = aboveScene != null ? aboveScene.getView() : null;
+            if (aboveSceneView != null && aboveSceneView.getParent() == containerView) {
+                return containerView.indexOfChild(aboveSceneView);
+            }
+        }
+
+        //add after the nearest below scene to make sure this scene view overlays the below scene view
+        for (int i = sceneIndex - 1; i >= 0; i--) {
+            Scene belowScene = sceneList.get(i);
+            View belowSceneView = belowScene != null ? belowScene.getView() : null;
+            if (belowSceneView != null && belowSceneView.getParent() == containerView) {
+                return containerView.indexOfChild(belowSceneView) + 1;
+            }
+        }
+
+        //no other scene view is attached, add to the last position like a pushed scene
+        return -1;
+    }
 }
@@ -0,0 +1,144 @@
+package com.bytedance.scene.navigation
+
+import android.content.ComponentCallbacks2
+import android.os.Bundle
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import com.bytedance.scene.Scene
+import com.bytedance.scene.State
+import com.bytedance.scene.interfaces.PushOptions
+import com.bytedance.scene.navigation.reuse.BoundedReusePool
+import com.bytedance.scene.navigation.reuse.DefaultReuseBehavior
+import com.bytedance.scene.navigation.reuse.IReuseScene
+import com.bytedance.scene.navigation.reuse.ReuseState
+import org.junit.Assert
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+@RunWith(RobolectricTestRunner::class)
+@Config(manifest = Config.NONE)
+class BoundedReusePoolTests {
+    class AReuseScene : Scene(), IReuseScene {
+        override fun isReusable(): Boolean = true
+
+        override fun onPrepare(bundle: Bundle?) {
+        }
+
+        override fun onRelease() {
+        }
+
+        override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+            return View(requireSceneContext())
+        }
+    }
+
+    class BReuseScene : Scene(), IReuseScene {
+        override fun isReusable(): Boolean = true
+
+        override fun onPrepare(bundle: Bundle?) {
+        }
+
+        override fun onRelease() {
+        }
+
+        override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+            return View(requireSceneContext())
+        }
+    }
+
+    @Test
+    fun testPerClassLimit() {
+        val evicted = ArrayList<IReuseScene>()
+        val pool = BoundedReusePool(2, 10)
+        pool.setOnEvictedListener { evicted.addAll(it) }
+
+        val first = AReuseScene()
+        val second = AReuseScene()
+        val third = AReuseScene()
+        Assert.assertTrue(pool.releaseScene(first))
+        Assert.assertTrue(pool.releaseScene(second))
+        Assert.assertFalse(pool.releaseScene(second))
+        Assert.assertTrue(pool.releaseScene(third))
+
+        Assert.assertEquals(2, pool.size())
+        Assert.assertEquals(listOf(first), evicted)
+        Assert.assertEquals(ReuseState.INITED, pool.getSceneState(first))
+        Assert.assertEquals(ReuseState.RELEASED, pool.getSceneState(third))
+
+        // the most recently released scene is handed out first
+        Assert.assertSame(third, pool.reuseScene(DefaultReuseBehavior(AReuseScene::class.java)))
+        Assert.assertEquals(ReuseState.REUSED, pool.getSceneState(third))
+        Assert.assertSame(second, pool.reuseScene(DefaultReuseBehavior(AReuseScene::class.java)))
+        Assert.assertNull(pool.reuseScene(DefaultReuseBehavior(AReuseScene::class.java)))
+        Assert.assertTrue(pool.isEmpty())
+    }
+
+    @Test
+    fun testTotalLimitEvictsEldest() {
+        val evicted = ArrayList<IReuseScene>()
+        val pool = BoundedReusePool(2, 3)
+        pool.setOnEvictedListener { evicted.addAll(it) }
+
+        val a1 = AReuseScene()
+        val b1 = BReuseScene()
+        val a2 = AReuseScene()
+        val b2 = BReuseScene()
+        pool.releaseScene(a1)
+        pool.releaseScene(b1)
+        pool.releaseScene(a2)
+        pool.releaseScene(b2)
+
+        Assert.assertEquals(3, pool.size())
+        Assert.assertEquals(listOf<IReuseScene>(a1), evicted)
+        Assert.assertSame(b2, pool.reuseScene { it is BReuseScene })
+        Assert.assertSame(b1, pool.reuseScene(DefaultReuseBehavior(BReuseScene::class.java)))
+    }
+
+    @Test
+    fun testTrimMemory() {
+        val evicted = ArrayList<IReuseScene>()
+        val pool = BoundedReusePool(4, 8)
+        pool.setOnEvictedListener { evicted.addAll(it) }
+        repeat(4) { pool.releaseScene(AReuseScene()) }
+        repeat(4) { pool.releaseScene(BReuseScene()) }
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE)
+        Assert.assertEquals(8, pool.size())
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+        Assert.assertEquals(4, pool.size())
+        Assert.assertTrue(evicted.all { it is AReuseScene })
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE)
+        Assert.assertTrue(pool.isEmpty())
+        Assert.assertEquals(8, evicted.size)
+    }
+
+    @Test
+    fun testEvictedSceneIsDestroyed() {
+        val rootScene: Scene = object : Scene() {
+            override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+                return View(requireSceneContext())
+            }
+        }
+        val navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene, BoundedReusePool(1, 1))
+        navigationScene.defaultNavigationAnimationExecutor = null
+
+        val first = AReuseScene()
+        val second = AReuseScene()
+        navigationScene.push(first)
+        navigationScene.push(second)
+        navigationScene.remove(second)
+        navigationScene.remove(first)
+
+        // only one scene is allowed in the pool, the eldest released one is destroyed
+        Assert.assertEquals(State.NONE, second.state)
+        Assert.assertNotEquals(State.NONE, first.state)
+
+        val pushOptions = PushOptions.Builder().setUseSceneFromReusePool(true).build()
+        Assert.assertSame(first, navigationScene.acquireScene(AReuseScene::class.java, null, pushOptions))
+    }
+}
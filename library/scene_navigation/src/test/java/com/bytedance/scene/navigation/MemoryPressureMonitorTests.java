@@ -0,0 +1,119 @@
+package com.bytedance.scene.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+
+import com.bytedance.scene.utlity.MemoryPressureMonitor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class MemoryPressureMonitorTests {
+    private static final long MAX = 1000L;
+
+    private static class RecordCallback implements MemoryPressureMonitor.Callback {
+        private final List<Integer> pressureSources = new ArrayList<>();
+        private final List<long[]> reclaimed = new ArrayList<>();
+        private int recycleCount = 0;
+
+        @Override
+        public int onMemoryPressure(int source) {
+            pressureSources.add(source);
+            return recycleCount;
+        }
+
+        @Override
+        public void onMemoryReclaimed(int source, int sceneCount, long reclaimedBytes) {
+            reclaimed.add(new long[]{source, sceneCount, reclaimedBytes});
+        }
+    }
+
+    @Test
+    public void testHysteresis() {
+        RecordCallback callback = new RecordCallback();
+        MemoryPressureMonitor monitor = new MemoryPressureMonitor(RuntimeEnvironment.getApplication(), 0.5F, 0L, callback);
+        monitor.start();
+
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 400L, MAX);
+        assertEquals(0, callback.pressureSources.size());
+
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 600L, MAX);
+        assertEquals(1, callback.pressureSources.size());
+        assertTrue(monitor.isUnderPressure());
+
+        //still above threshold - hysteresis, not notified again
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 700L, MAX);
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 470L, MAX);
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 600L, MAX);
+        assertEquals(1, callback.pressureSources.size());
+
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 400L, MAX);
+        assertFalse(monitor.isUnderPressure());
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_SAMPLING, 600L, MAX);
+        assertEquals(2, callback.pressureSources.size());
+        assertEquals(MemoryPressureMonitor.SOURCE_SAMPLING, (int) callback.pressureSources.get(1));
+        monitor.stop();
+    }
+
+    @Test
+    public void testReclaimedBytesMeasuredAtNextGc() {
+        RecordCallback callback = new RecordCallback();
+        callback.recycleCount = 3;
+        MemoryPressureMonitor monitor = new MemoryPressureMonitor(RuntimeEnvironment.getApplication(), 0.5F, 0L, callback);
+        monitor.start();
+
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_SAMPLING, 800L, MAX);
+        assertEquals(1, callback.pressureSources.size());
+        assertEquals(0, callback.reclaimed.size());
+
+        //sampling is not a GC, released Scenes may still be on the heap
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_SAMPLING, 750L, MAX);
+        assertEquals(0, callback.reclaimed.size());
+
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 300L, MAX);
+        assertEquals(1, callback.reclaimed.size());
+        long[] report = callback.reclaimed.get(0);
+        assertEquals(MemoryPressureMonitor.SOURCE_SAMPLING, report[0]);
+        assertEquals(3, report[1]);
+        assertEquals(500L, report[2]);
+        monitor.stop();
+    }
+
+    @Test
+    public void testTrimMemory() {
+        RecordCallback callback = new RecordCallback();
+        Application application = RuntimeEnvironment.getApplication();
+        MemoryPressureMonitor monitor = new MemoryPressureMonitor(application, 0.9F, 0L, callback);
+        monitor.start();
+
+        application.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+        assertEquals(0, callback.pressureSources.size());
+
+        application.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+        assertEquals(1, callback.pressureSources.size());
+        assertEquals(MemoryPressureMonitor.SOURCE_TRIM_MEMORY, (int) callback.pressureSources.get(0));
+        //nothing recycled, reported at once
+        assertEquals(1, callback.reclaimed.size());
+        assertEquals(0, callback.reclaimed.get(0)[1]);
+
+        application.onLowMemory();
+        assertEquals(2, callback.pressureSources.size());
+
+        monitor.stop();
+        application.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        monitor.onMemorySample(MemoryPressureMonitor.SOURCE_GC, 990L, MAX);
+        assertEquals(2, callback.pressureSources.size());
+    }
+}
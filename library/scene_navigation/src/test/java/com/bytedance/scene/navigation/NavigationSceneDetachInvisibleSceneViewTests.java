@@ -0,0 +1,177 @@
+package com.bytedance.scene.navigation;
+
+import static android.os.Looper.getMainLooper;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+import com.bytedance.scene.SceneLifecycleManager;
+import com.bytedance.scene.Scope;
+import com.bytedance.scene.State;
+import com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor;
+import com.bytedance.scene.interfaces.PushOptions;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class NavigationSceneDetachInvisibleSceneViewTests {
+
+    public static class TestScene extends Scene {
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+    }
+
+    @Test
+    public void testDetachAndReattach() {
+        TestScene rootScene = new TestScene();
+        SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+        NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, rootScene, true);
+        ViewGroup container = navigationScene.getSceneContainer();
+
+        TestScene scene1 = new TestScene();
+        TestScene scene2 = new TestScene();
+        navigationScene.push(scene1);
+        navigationScene.push(scene2);
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        assertNull(rootScene.getView().getParent());
+        assertNull(scene1.getView().getParent());
+        assertSame(container, scene2.getView().getParent());
+        assertEquals(State.ACTIVITY_CREATED, scene1.getState());
+
+        navigationScene.pop();
+        navigationScene.forceExecutePendingNavigationOperation();
+        assertSame(container, scene1.getView().getParent());
+        assertEquals(View.VISIBLE, scene1.getView().getVisibility());
+        assertNull(rootScene.getView().getParent());
+
+        navigationScene.pop();
+        navigationScene.forceExecutePendingNavigationOperation();
+        assertSame(container, rootScene.getView().getParent());
+        assertEquals(State.RESUMED, rootScene.getState());
+    }
+
+    @Test
+    public void testDetachWithUsePost() {
+        TestScene rootScene = new TestScene();
+        SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+        NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, rootScene, true);
+
+        TestScene scene1 = new TestScene();
+        navigationScene.push(scene1, new PushOptions.Builder().setUsePost(true).build());
+        shadowOf(getMainLooper()).idle();
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        assertEquals(State.ACTIVITY_CREATED, rootScene.getState());
+        assertNull(rootScene.getView().getParent());
+        assertSame(navigationScene.getSceneContainer(), scene1.getView().getParent());
+    }
+
+    @Test
+    public void testTopSceneKeepViewWhenNavigationSceneStop() {
+        TestScene rootScene = new TestScene();
+        SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+        NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, rootScene, true);
+
+        sceneLifecycleManager.onPause();
+        sceneLifecycleManager.onStop();
+        assertEquals(State.ACTIVITY_CREATED, rootScene.getState());
+        assertSame(navigationScene.getSceneContainer(), rootScene.getView().getParent());
+
+        sceneLifecycleManager.onStart();
+        sceneLifecycleManager.onResume();
+        assertEquals(View.VISIBLE, rootScene.getView().getVisibility());
+        assertSame(navigationScene.getSceneContainer(), rootScene.getView().getParent());
+    }
+
+    @Test
+    public void testReattachKeepStackOrder() {
+        TestScene rootScene = new TestScene();
+        SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+        NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, rootScene, true);
+        ViewGroup container = navigationScene.getSceneContainer();
+
+        TestScene scene1 = new TestScene();
+        TestScene translucentScene = new TestScene();
+        TestScene scene2 = new TestScene();
+        navigationScene.push(scene1);
+        navigationScene.push(translucentScene, new PushOptions.Builder().setTranslucent(true).build());
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        //a Scene below a translucent Scene is still visible
+        assertSame(container, scene1.getView().getParent());
+        assertTrue(container.indexOfChild(scene1.getView()) < container.indexOfChild(translucentScene.getView()));
+
+        navigationScene.push(scene2);
+        navigationScene.forceExecutePendingNavigationOperation();
+        assertNull(scene1.getView().getParent());
+        assertNull(translucentScene.getView().getParent());
+
+        navigationScene.pop();
+        navigationScene.forceExecutePendingNavigationOperation();
+        assertSame(container, scene1.getView().getParent());
+        assertSame(container, translucentScene.getView().getParent());
+        assertTrue(container.indexOfChild(scene1.getView()) < container.indexOfChild(translucentScene.getView()));
+        assertNull(rootScene.getView().getParent());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        TestScene rootScene = new TestScene();
+        SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+        NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, rootScene, false);
+
+        navigationScene.push(new TestScene());
+        navigationScene.forceExecutePendingNavigationOperation();
+        assertSame(navigationScene.getSceneContainer(), rootScene.getView().getParent());
+        assertEquals(View.GONE, rootScene.getView().getVisibility());
+    }
+
+    private static NavigationScene createNavigationScene(SceneLifecycleManager<NavigationScene> sceneLifecycleManager,
+                                                         final Scene rootScene, boolean detachInvisibleSceneView) {
+        NavigationSourceUtility.TestActivity testActivity = Robolectric.buildActivity(NavigationSourceUtility.TestActivity.class)
+                .create().start().resume().get();
+
+        NavigationScene navigationScene = new NavigationScene();
+        NavigationSceneOptions options = new NavigationSceneOptions(rootScene.getClass())
+                .setDetachInvisibleSceneView(detachInvisibleSceneView);
+        navigationScene.setArguments(options.toBundle());
+        navigationScene.setDefaultNavigationAnimationExecutor(new NoAnimationExecutor());
+        navigationScene.setRootSceneComponentFactory((cl, className, bundle) -> {
+            if (className.equals(rootScene.getClass().getName())) {
+                return rootScene;
+            }
+            return null;
+        });
+
+        sceneLifecycleManager.onActivityCreated(testActivity, testActivity.mFrameLayout, navigationScene,
+                new Scope.RootScopeFactory() {
+                    @Override
+                    public Scope getRootScope() {
+                        return Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope();
+                    }
+                }, false, null);
+        sceneLifecycleManager.onStart();
+        sceneLifecycleManager.onResume();
+        return navigationScene;
+    }
+}
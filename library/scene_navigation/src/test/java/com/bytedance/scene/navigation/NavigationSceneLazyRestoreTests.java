@@ -0,0 +1,191 @@
+package com.bytedance.scene.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+import com.bytedance.scene.SceneLifecycleManager;
+import com.bytedance.scene.Scope;
+import com.bytedance.scene.State;
+import com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor;
+import com.bytedance.scene.interfaces.PopOptions;
+import com.bytedance.scene.interfaces.PushOptions;
+import com.bytedance.scene.utlity.Predicate;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class NavigationSceneLazyRestoreTests {
+
+    @Test
+    public void testPopToKeepHiddenScenesNotCreated() {
+        NavigationScene navigationScene = restoreNavigationScene();
+        assertEquals(0, CountingScene.getInstanceCount(SceneA.class));
+        assertEquals(0, CountingScene.getInstanceCount(SceneB.class));
+
+        navigationScene.popTo(SceneA.class);
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        //B is popped without ever being shown, so it is never created
+        assertEquals(0, CountingScene.getInstanceCount(SceneB.class));
+        assertEquals(0, CountingScene.getInstanceCount(RootScene.class));
+        CountingScene sceneA = (CountingScene) navigationScene.getCurrentScene();
+        assertTrue(sceneA instanceof SceneA);
+        assertEquals(1, sceneA.mCreateCount);
+        assertEquals(State.RESUMED, sceneA.getState());
+        assertEquals(2, navigationScene.getCreatedSceneList().size());
+    }
+
+    @Test
+    public void testPushWithRemovePredicateKeepHiddenScenesNotCreated() {
+        NavigationScene navigationScene = restoreNavigationScene();
+
+        SceneC newScene = new SceneC();
+        navigationScene.push(newScene, new PushOptions.Builder().clearTask().build());
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        assertEquals(0, CountingScene.getInstanceCount(RootScene.class));
+        assertEquals(0, CountingScene.getInstanceCount(SceneA.class));
+        assertEquals(0, CountingScene.getInstanceCount(SceneB.class));
+        assertEquals(1, navigationScene.getCreatedSceneList().size());
+        assertEquals(State.RESUMED, newScene.getState());
+    }
+
+    @Test
+    public void testPopUtilPredicateKeepHiddenScenesNotCreated() {
+        NavigationScene navigationScene = restoreNavigationScene();
+
+        navigationScene.pop(new PopOptions.Builder().setPopUtilPredicate(new PopOptions.CountUtilPredicate(2)).build());
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        assertEquals(0, CountingScene.getInstanceCount(SceneB.class));
+        assertTrue(navigationScene.getCurrentScene() instanceof SceneA);
+    }
+
+    @Test
+    public void testRemovePredicateWhichNeedsSceneCreatesButNeverShowsIt() {
+        NavigationScene navigationScene = restoreNavigationScene();
+
+        navigationScene.push(new SceneC(), new PushOptions.Builder().setRemovePredicate(new Predicate<Scene>() {
+            @Override
+            public boolean apply(Scene scene) {
+                return scene instanceof SceneB;
+            }
+        }).build());
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        //the predicate needs instances, they are created but none of them is shown
+        List<Scene> sceneList = navigationScene.getCreatedSceneList();
+        assertEquals(4, sceneList.size());
+        for (int i = 0; i < 2; i++) {
+            CountingScene scene = (CountingScene) sceneList.get(i);
+            assertEquals(State.NONE, scene.getState());
+            assertEquals(0, scene.mCreateCount);
+        }
+        assertFalse(sceneList.get(1) instanceof SceneB);
+    }
+
+    /**
+     * RootScene -> SceneA -> SceneB -> SceneC, restored with only SceneC created
+     */
+    private static NavigationScene restoreNavigationScene() {
+        Bundle bundle = new Bundle();
+        {
+            SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+            NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, null);
+            navigationScene.push(new SceneA());
+            navigationScene.push(new SceneB());
+            navigationScene.push(new SceneC());
+            navigationScene.forceExecutePendingNavigationOperation();
+            sceneLifecycleManager.onSaveInstanceState(bundle);
+            sceneLifecycleManager.onPause();
+            sceneLifecycleManager.onStop();
+            sceneLifecycleManager.onDestroyView();
+        }
+
+        CountingScene.sInstanceCountMap.clear();
+        NavigationScene navigationScene = createNavigationScene(new SceneLifecycleManager<NavigationScene>(), bundle);
+        assertEquals(4, navigationScene.getCreatedSceneList().size());
+        assertEquals(1, CountingScene.getInstanceCount(SceneC.class));
+        return navigationScene;
+    }
+
+    private static NavigationScene createNavigationScene(SceneLifecycleManager<NavigationScene> sceneLifecycleManager, @Nullable Bundle savedInstanceState) {
+        NavigationSourceUtility.TestActivity testActivity = Robolectric.buildActivity(NavigationSourceUtility.TestActivity.class)
+                .create().start().resume().get();
+        NavigationScene navigationScene = new NavigationScene();
+        NavigationSceneOptions options = new NavigationSceneOptions(RootScene.class);
+        options.setOnlyRestoreVisibleScene(true);
+        navigationScene.setArguments(options.toBundle());
+        navigationScene.setDefaultNavigationAnimationExecutor(new NoAnimationExecutor());
+
+        sceneLifecycleManager.onActivityCreated(testActivity, testActivity.mFrameLayout, navigationScene,
+                new Scope.RootScopeFactory() {
+                    @Override
+                    public Scope getRootScope() {
+                        return Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope();
+                    }
+                }, true, savedInstanceState);
+        sceneLifecycleManager.onStart();
+        sceneLifecycleManager.onResume();
+        return navigationScene;
+    }
+
+    public static class CountingScene extends Scene {
+        static final Map<Class<?>, Integer> sInstanceCountMap = new HashMap<>();
+
+        int mCreateCount = 0;
+
+        public CountingScene() {
+            Integer count = sInstanceCountMap.get(getClass());
+            sInstanceCountMap.put(getClass(), count == null ? 1 : count + 1);
+        }
+
+        static int getInstanceCount(Class<?> clazz) {
+            Integer count = sInstanceCountMap.get(clazz);
+            return count == null ? 0 : count;
+        }
+
+        @Override
+        public void onCreate(@Nullable Bundle savedInstanceState) {
+            super.onCreate(savedInstanceState);
+            mCreateCount++;
+        }
+
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+    }
+
+    public static class RootScene extends CountingScene {
+    }
+
+    public static class SceneA extends CountingScene {
+    }
+
+    public static class SceneB extends CountingScene {
+    }
+
+    public static class SceneC extends CountingScene {
+    }
+}
@@ -5,6 +5,7 @@ import android.view.LayoutInflater
 import android.view.View
 import android.view.ViewGroup
 import com.bytedance.scene.Scene
+import com.bytedance.scene.State
 import com.bytedance.scene.interfaces.PopOptions
 import com.bytedance.scene.interfaces.PushOptions
 import com.bytedance.scene.navigation.reuse.IReusePool
@@ -557,6 +558,67 @@ open class NavigationSceneReuseTests {
         }
     }
 
+    class PrewarmReuseScene : Scene(), IReuseScene {
+        var prepareCount = 0
+
+        override fun isReusable(): Boolean {
+            return true
+        }
+
+        override fun onPrepare(bundle: Bundle?) {
+            prepareCount++
+        }
+
+        override fun onRelease() {
+        }
+
+        override fun onCreateView(
+            inflater: LayoutInflater,
+            container: ViewGroup, savedInstanceState: Bundle?
+        ): View {
+            return View(requireSceneContext())
+        }
+    }
+
+    @Test
+    fun testPrewarmReuseScenes() {
+        val rootScene: Scene = object : Scene() {
+            override fun onCreateView(
+                inflater: LayoutInflater,
+                container: ViewGroup,
+                savedInstanceState: Bundle?
+            ): View {
+                return View(requireSceneContext())
+            }
+        }
+        val navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene)
+        navigationScene.defaultNavigationAnimationExecutor = null
+
+        navigationScene.prewarmReuseScenes(PrewarmReuseScene::class.java, 1)
+        Assert.assertTrue(navigationScene.isReusePoolEmpty())
+
+        ShadowLooper.idleMainLooper()
+        Assert.assertFalse(navigationScene.isReusePoolEmpty())
+
+        val pushOption = PushOptions.Builder().setUseSceneFromReusePool(true).build()
+        val scene = navigationScene.acquireScene(PrewarmReuseScene::class.java, null, pushOption) as PrewarmReuseScene
+        Assert.assertEquals(State.ACTIVITY_CREATED, scene.state)
+        Assert.assertNull(scene.view.parent)
+        Assert.assertTrue(navigationScene.isReusePoolEmpty())
+
+        navigationScene.push(scene, pushOption)
+        Assert.assertSame(scene, navigationScene.currentScene)
+        Assert.assertEquals(State.RESUMED, scene.state)
+        Assert.assertNotNull(scene.view.parent)
+        Assert.assertEquals(1, scene.prepareCount)
+
+        val newScene = navigationScene.acquireScene(PrewarmReuseScene::class.java, null, pushOption)
+        Assert.assertNotSame(scene, newScene)
+        Assert.assertEquals(State.NONE, newScene.state)
+        Assert.assertEquals(1, navigationScene.reusePoolHitCount)
+        Assert.assertEquals(1, navigationScene.reusePoolMissCount)
+    }
+
     private fun flushUI() {
         Robolectric.flushForegroundThreadScheduler()
     }
@@ -1,5 +1,8 @@
 package com.bytedance.scene.navigation;
 
+import static android.os.Looper.getMainLooper;
+import static org.robolectric.Shadows.shadowOf;
+
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -23,6 +26,7 @@ import org.robolectric.annotation.Config;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(manifest = Config.NONE)
@@ -208,6 +212,61 @@ public class NavigationScene_RecycleInvisibleSceneTests {
         assertMyScene1NotRecycle(navigationScene);
     }
 
+    @Test
+    public void testRecycleInvisibleScenesWithBudget() {
+        SceneGlobalConfig.recycleInvisibleScenesBudgetCount = 1;
+        try {
+            List<MyScene> list = createScenes();
+            Pair<SceneLifecycleManager<NavigationScene>, NavigationScene> pair = createAndPushScene(list.get(0), list.get(1), list.get(2), false);
+            NavigationScene navigationScene = pair.second;
+            NavigationSceneManager manager = (NavigationSceneManager) navigationScene.mNavigationSceneManager;
+
+            //oldest Scene first, the rest is resumed on next idle
+            Assert.assertEquals(1, manager.recycleInvisibleScenes());
+            Assert.assertTrue(manager.hasScheduledRecycle());
+            List<Scene> scenes = navigationScene.getSceneList();
+            Assert.assertNull(scenes.get(0).getView());
+            Assert.assertNotNull(scenes.get(1).getView());
+
+            shadowOf(getMainLooper()).idleFor(10, TimeUnit.SECONDS);
+            Assert.assertFalse(manager.hasScheduledRecycle());
+            scenes = navigationScene.getSceneList();
+            Assert.assertNull(scenes.get(1).getView());
+            assertMyScene3NotRecycle(navigationScene);
+
+            navigationScene.pop();
+            navigationScene.forceExecutePendingNavigationOperation();
+            assertMyScene2Recycled(navigationScene);
+        } finally {
+            SceneGlobalConfig.recycleInvisibleScenesBudgetCount = 0;
+        }
+    }
+
+    @Test
+    public void testRecycleInvisibleScenesWithBudget_CancelByNavigation() {
+        SceneGlobalConfig.recycleInvisibleScenesBudgetCount = 1;
+        try {
+            List<MyScene> list = createScenes();
+            Pair<SceneLifecycleManager<NavigationScene>, NavigationScene> pair = createAndPushScene(list.get(0), list.get(1), list.get(2), false);
+            NavigationScene navigationScene = pair.second;
+            NavigationSceneManager manager = (NavigationSceneManager) navigationScene.mNavigationSceneManager;
+
+            Assert.assertEquals(1, manager.recycleInvisibleScenes());
+            Assert.assertTrue(manager.hasScheduledRecycle());
+
+            navigationScene.push(new MyScene());
+            navigationScene.forceExecutePendingNavigationOperation();
+            Assert.assertFalse(manager.hasScheduledRecycle());
+
+            shadowOf(getMainLooper()).idleFor(10, TimeUnit.SECONDS);
+            List<Scene> scenes = navigationScene.getSceneList();
+            Assert.assertEquals(4, scenes.size());
+            Assert.assertNotNull(scenes.get(1).getView());
+        } finally {
+            SceneGlobalConfig.recycleInvisibleScenesBudgetCount = 0;
+        }
+    }
+
     private void assertMyScene1NotRecycle(NavigationScene navigationScene) {
         MyScene newScene1 = (MyScene) Objects.requireNonNull(navigationScene.getCurrentScene());
         // cause createFromSceneLifecycleManager hold scene1, so newScene1 still be scene1
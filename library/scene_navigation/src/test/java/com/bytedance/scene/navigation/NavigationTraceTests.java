@@ -0,0 +1,105 @@
+package com.bytedance.scene.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class NavigationTraceTests {
+    @After
+    public void tearDown() {
+        NavigationTraceListener.setListener(null);
+    }
+
+    @Test
+    public void testPushAndPopTraced() {
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(new TestScene());
+        navigationScene.setDefaultNavigationAnimationExecutor(null);
+        final List<NavigationOperationTrace> traceList = new ArrayList<>();
+        NavigationTraceListener.setListener(new NavigationTraceListener() {
+            @Override
+            public void onOperationFinished(@NonNull NavigationOperationTrace trace) {
+                traceList.add(trace);
+            }
+        });
+
+        navigationScene.push(SlowCreateViewScene.class);
+        assertEquals(1, traceList.size());
+        NavigationOperationTrace pushTrace = traceList.get(0);
+        assertEquals(SlowCreateViewScene.class.getName(), pushTrace.getSceneClassName());
+        assertTrue(pushTrace.getQueueDelayNanos() >= 0);
+        assertTrue(pushTrace.getSceneInstantiateNanos() > 0);
+        assertTrue(pushTrace.getCreateNanos() > 0);
+        assertTrue(pushTrace.getCreateViewNanos() >= SlowCreateViewScene.SLEEP_MILLIS * 1000000L);
+        assertTrue(pushTrace.getLifecycleNanos() > 0);
+        assertTrue(pushTrace.getExecuteNanos() >= pushTrace.getCreateViewNanos());
+        assertTrue(pushTrace.getTotalNanos() >= pushTrace.getExecuteNanos());
+
+        navigationScene.pop();
+        assertEquals(2, traceList.size());
+        NavigationOperationTrace popTrace = traceList.get(1);
+        assertEquals(TestScene.class.getName(), popTrace.getSceneClassName());
+        assertEquals(0, popTrace.getSceneInstantiateNanos());
+        assertEquals(0, popTrace.getCreateViewNanos());
+    }
+
+    @Test
+    public void testNotTracedWithoutListener() {
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(new TestScene());
+        navigationScene.setDefaultNavigationAnimationExecutor(null);
+        navigationScene.push(TestScene.class);
+
+        final List<NavigationOperationTrace> traceList = new ArrayList<>();
+        NavigationTraceListener.setListener(new NavigationTraceListener() {
+            @Override
+            public void onOperationFinished(@NonNull NavigationOperationTrace trace) {
+                traceList.add(trace);
+            }
+        });
+        navigationScene.pop();
+        NavigationTraceListener.setListener(null);
+        navigationScene.push(TestScene.class);
+        assertEquals(1, traceList.size());
+    }
+
+    public static class TestScene extends Scene {
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+    }
+
+    public static class SlowCreateViewScene extends Scene {
+        static final long SLEEP_MILLIS = 5;
+
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            try {
+                Thread.sleep(SLEEP_MILLIS);
+            } catch (InterruptedException ignored) {
+            }
+            return new View(requireSceneContext());
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.bytedance.scene.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+import com.bytedance.scene.SceneLifecycleManager;
+import com.bytedance.scene.Scope;
+import com.bytedance.scene.State;
+import com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor;
+import com.bytedance.scene.interfaces.PushOptions;
+import com.bytedance.scene.launchmode.LaunchMode;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class NavigationTransactionTests {
+    @Test
+    public void testPopToRootThenPush() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene a = new TestScene();
+        TestScene b = new TestScene();
+        navigationScene.push(a);
+        navigationScene.push(b);
+
+        TestScene c = new TestScene();
+        TestScene d = new TestScene();
+        TestScene e = new TestScene();
+        navigationScene.beginTransaction();
+        assertTrue(navigationScene.isInTransaction());
+        navigationScene.popToRoot();
+        navigationScene.push(c);
+        navigationScene.push(d);
+        navigationScene.push(e);
+        //nothing happens before commit
+        assertSame(b, navigationScene.getCurrentScene());
+        navigationScene.commitTransaction();
+        assertFalse(navigationScene.isInTransaction());
+
+        List<Scene> expected = Arrays.<Scene>asList(rootScene, c, d, e);
+        assertEquals(expected, navigationScene.getSceneList());
+        assertEquals(State.NONE, a.getState());
+        assertEquals(State.NONE, b.getState());
+        assertEquals(State.RESUMED, e.getState());
+        assertEquals(1, e.mCreateCount);
+        //intermediate Scenes are not created until they become visible
+        assertEquals(0, c.mCreateCount);
+        assertEquals(0, d.mCreateCount);
+
+        navigationScene.pop();
+        assertEquals(State.RESUMED, d.getState());
+        assertEquals(1, d.mCreateCount);
+        assertEquals(0, c.mCreateCount);
+        assertSame(navigationScene, d.getNavigationScene());
+
+        navigationScene.pop();
+        assertEquals(State.RESUMED, c.getState());
+        navigationScene.pop();
+        assertEquals(State.RESUMED, rootScene.getState());
+    }
+
+    @Test
+    public void testPopAndRemove() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene a = new TestScene();
+        TestScene b = new TestScene();
+        TestScene c = new TestScene();
+        TestScene d = new TestScene();
+        navigationScene.push(a);
+        navigationScene.push(b);
+        navigationScene.push(c);
+        navigationScene.push(d);
+
+        navigationScene.beginTransaction();
+        navigationScene.remove(a);
+        navigationScene.pop();
+        navigationScene.pop();
+        navigationScene.commitTransaction();
+
+        assertEquals(Arrays.<Scene>asList(rootScene, b), navigationScene.getSceneList());
+        assertEquals(State.NONE, a.getState());
+        assertEquals(State.NONE, c.getState());
+        assertEquals(State.NONE, d.getState());
+        assertEquals(State.RESUMED, b.getState());
+    }
+
+    @Test
+    public void testPushedSceneRemovedInTransaction() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene a = new TestScene();
+        TestScene b = new TestScene();
+
+        navigationScene.beginTransaction();
+        navigationScene.push(a);
+        navigationScene.push(b);
+        navigationScene.pop();
+        navigationScene.commitTransaction();
+
+        assertEquals(Arrays.<Scene>asList(rootScene, a), navigationScene.getSceneList());
+        assertEquals(State.RESUMED, a.getState());
+        assertEquals(0, b.mCreateCount);
+        assertEquals(State.ACTIVITY_CREATED, rootScene.getState());
+    }
+
+    @Test
+    public void testSaveLazyScene() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene a = new TestScene();
+        Bundle arguments = new Bundle();
+        arguments.putString("key", "value");
+        a.setArguments(arguments);
+
+        navigationScene.beginTransaction();
+        navigationScene.push(a);
+        navigationScene.push(new TestScene());
+        navigationScene.commitTransaction();
+
+        Bundle bundle = new Bundle();
+        navigationScene.mNavigationSceneManager.saveToBundle(bundle);
+        assertEquals(0, a.mCreateCount);
+    }
+
+    @Test
+    public void testRestoreLazySceneThenShow() {
+        restoreLazySceneThenShow(false);
+    }
+
+    @Test
+    public void testRestoreLazySceneThenShowOnlyRestoreVisibleScene() {
+        restoreLazySceneThenShow(true);
+    }
+
+    private static void restoreLazySceneThenShow(boolean onlyRestoreVisibleScene) {
+        Bundle bundle = new Bundle();
+        {
+            SceneLifecycleManager<NavigationScene> sceneLifecycleManager = new SceneLifecycleManager<>();
+            NavigationScene navigationScene = createNavigationScene(sceneLifecycleManager, onlyRestoreVisibleScene, null);
+            LazyScene lazyScene = new LazyScene();
+            Bundle arguments = new Bundle();
+            arguments.putString("key", "value");
+            lazyScene.setArguments(arguments);
+
+            navigationScene.beginTransaction();
+            navigationScene.push(lazyScene);
+            navigationScene.push(new TestScene());
+            navigationScene.commitTransaction();
+            navigationScene.forceExecutePendingNavigationOperation();
+
+            sceneLifecycleManager.onSaveInstanceState(bundle);
+            assertEquals(0, lazyScene.mCreateCount);
+            sceneLifecycleManager.onPause();
+            sceneLifecycleManager.onStop();
+            sceneLifecycleManager.onDestroyView();
+        }
+
+        NavigationScene navigationScene = createNavigationScene(new SceneLifecycleManager<NavigationScene>(), onlyRestoreVisibleScene, bundle);
+        assertEquals(3, navigationScene.mNavigationSceneManager.getCurrentRecordList().size());
+        TestScene topScene = (TestScene) navigationScene.getCurrentScene();
+        assertEquals(State.RESUMED, topScene.getState());
+        //the top Scene was shown before saving, its own saved state comes back
+        assertEquals(1, topScene.mSavedInstanceState.getInt(TestScene.KEY_SAVED_CREATE_COUNT));
+
+        navigationScene.pop();
+        navigationScene.forceExecutePendingNavigationOperation();
+
+        Scene scene = navigationScene.getCurrentScene();
+        assertTrue(scene instanceof LazyScene);
+        LazyScene lazyScene = (LazyScene) scene;
+        assertEquals(State.RESUMED, lazyScene.getState());
+        assertEquals(1, lazyScene.mCreateCount);
+        assertEquals("value", lazyScene.requireArguments().getString("key"));
+        //never shown before saving, so only its arguments were saved
+        assertNotNull(lazyScene.mSavedInstanceState);
+        assertFalse(lazyScene.mSavedInstanceState.containsKey(TestScene.KEY_SAVED_CREATE_COUNT));
+    }
+
+    private static NavigationScene createNavigationScene(SceneLifecycleManager<NavigationScene> sceneLifecycleManager, boolean onlyRestoreVisibleScene, @Nullable Bundle savedInstanceState) {
+        NavigationSourceUtility.TestActivity testActivity = Robolectric.buildActivity(NavigationSourceUtility.TestActivity.class)
+                .create().start().resume().get();
+        NavigationScene navigationScene = new NavigationScene();
+        NavigationSceneOptions options = new NavigationSceneOptions(TestScene.class);
+        options.setOnlyRestoreVisibleScene(onlyRestoreVisibleScene);
+        navigationScene.setArguments(options.toBundle());
+        navigationScene.setDefaultNavigationAnimationExecutor(new NoAnimationExecutor());
+
+        sceneLifecycleManager.onActivityCreated(testActivity, testActivity.mFrameLayout, navigationScene,
+                new Scope.RootScopeFactory() {
+                    @Override
+                    public Scope getRootScope() {
+                        return Scope.DEFAULT_ROOT_SCOPE_FACTORY.getRootScope();
+                    }
+                }, true, savedInstanceState);
+        sceneLifecycleManager.onStart();
+        sceneLifecycleManager.onResume();
+        return navigationScene;
+    }
+
+    @Test
+    public void testTranslucentTopShowsLazySceneBelow() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene kept = new TestScene();
+        navigationScene.push(kept);
+
+        TestScene lazy = new TestScene();
+        TestScene top = new TestScene();
+        navigationScene.beginTransaction();
+        navigationScene.push(lazy);
+        navigationScene.push(top, new PushOptions.Builder().setTranslucent(true).build());
+        navigationScene.commitTransaction();
+
+        //the lazy Scene is seen through the translucent top one, the kept Scene is covered by it
+        assertEquals(State.RESUMED, top.getState());
+        assertEquals(State.STARTED, lazy.getState());
+        assertEquals(1, lazy.mCreateCount);
+        assertEquals(State.ACTIVITY_CREATED, kept.getState());
+
+        navigationScene.pop();
+        assertEquals(State.RESUMED, lazy.getState());
+        assertEquals(1, lazy.mCreateCount);
+        assertEquals(State.ACTIVITY_CREATED, kept.getState());
+
+        navigationScene.pop();
+        assertEquals(State.RESUMED, kept.getState());
+    }
+
+    @Test
+    public void testPopThroughLazySceneOverKeptScene() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene kept = new TestScene();
+        navigationScene.push(kept);
+
+        TestScene lazy = new TestScene();
+        TestScene top = new TestScene();
+        navigationScene.beginTransaction();
+        navigationScene.push(lazy);
+        navigationScene.push(top);
+        navigationScene.commitTransaction();
+
+        assertEquals(State.RESUMED, top.getState());
+        assertEquals(0, lazy.mCreateCount);
+        assertEquals(State.ACTIVITY_CREATED, kept.getState());
+
+        navigationScene.pop();
+        assertEquals(State.RESUMED, lazy.getState());
+        assertEquals(1, lazy.mCreateCount);
+        assertEquals(State.ACTIVITY_CREATED, kept.getState());
+        assertEquals(State.ACTIVITY_CREATED, rootScene.getState());
+
+        navigationScene.pop();
+        assertEquals(State.RESUMED, kept.getState());
+        assertEquals(State.NONE, lazy.getState());
+    }
+
+    @Test
+    public void testLaunchModeTopCheckedAgainstFinalStack() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        TestScene a = new TestScene();
+        navigationScene.push(a);
+
+        //the current top is a TestScene, but the TestScene is single top in the final stack only above a LazyScene
+        LazyScene lazy = new LazyScene();
+        TestScene top = new TestScene();
+        navigationScene.beginTransaction();
+        navigationScene.push(lazy);
+        navigationScene.push(top, new PushOptions.Builder().setLaunchMode(LaunchMode.SINGLE_TOP).build());
+        navigationScene.commitTransaction();
+
+        assertEquals(Arrays.<Scene>asList(rootScene, a, lazy, top), navigationScene.getSceneList());
+        assertEquals(State.RESUMED, top.getState());
+        assertEquals(0, lazy.mCreateCount);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLaunchModeTopInterceptedThrows() {
+        TestScene rootScene = new TestScene();
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(rootScene);
+        navigationScene.push(new TestScene());
+
+        //the push of the top Scene would be dropped, and the LazyScene with it
+        navigationScene.beginTransaction();
+        navigationScene.push(new LazyScene());
+        navigationScene.push(new LazyScene(), new PushOptions.Builder().setLaunchMode(LaunchMode.SINGLE_TOP).build());
+        navigationScene.commitTransaction();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCommitWithoutBegin() {
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(new TestScene());
+        navigationScene.commitTransaction();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPushSameSceneTwice() {
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(new TestScene());
+        TestScene a = new TestScene();
+        navigationScene.beginTransaction();
+        navigationScene.push(a);
+        navigationScene.push(a);
+    }
+
+    public static class TestScene extends Scene {
+        static final String KEY_SAVED_CREATE_COUNT = "saved_create_count";
+
+        int mCreateCount = 0;
+        @Nullable
+        Bundle mSavedInstanceState;
+
+        @Override
+        public void onCreate(@Nullable Bundle savedInstanceState) {
+            super.onCreate(savedInstanceState);
+            mCreateCount++;
+            mSavedInstanceState = savedInstanceState;
+        }
+
+        @Override
+        public void onSaveInstanceState(@NonNull Bundle outState) {
+            super.onSaveInstanceState(outState);
+            outState.putInt(KEY_SAVED_CREATE_COUNT, mCreateCount);
+        }
+
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+    }
+
+    public static class LazyScene extends TestScene {
+    }
+}
@@ -0,0 +1,178 @@
+package com.bytedance.scene.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+import com.bytedance.scene.parcel.ParcelConstants;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class RecordStackTests {
+    @Test
+    public void testSceneIndex() {
+        RecordStack recordStack = new RecordStack();
+        Record[] records = new Record[5];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = Record.newInstance(new PublicClassScene(), false, null);
+            recordStack.push(records[i]);
+        }
+        for (Record record : records) {
+            assertSame(record, recordStack.getRecordByScene(record.mScene));
+            assertTrue(recordStack.contains(record));
+        }
+        assertNull(recordStack.getRecordByScene(new PublicClassScene()));
+        assertNull(recordStack.getRecordByScene(null));
+
+        recordStack.remove(records[2]);
+        assertNull(recordStack.getRecordByScene(records[2].mScene));
+        assertFalse(recordStack.contains(records[2]));
+        assertEquals(4, recordStack.size());
+
+        recordStack.pop();
+        assertNull(recordStack.getRecordByScene(records[4].mScene));
+        assertSame(records[3], recordStack.getCurrentRecord());
+        assertSame(records[1], recordStack.getPreviousScene());
+    }
+
+    @Test
+    public void testReplaceScene() {
+        RecordStack recordStack = new RecordStack();
+        Record record = Record.newInstance(new PublicClassScene(), false, null);
+        recordStack.push(record);
+        Scene oldScene = record.mScene;
+        Scene newScene = new PublicClassScene();
+        recordStack.replaceScene(record, newScene);
+
+        assertSame(newScene, record.mScene);
+        assertNull(recordStack.getRecordByScene(oldScene));
+        assertSame(record, recordStack.getRecordByScene(newScene));
+        assertTrue(recordStack.contains(record));
+        assertTrue(recordStack.isRootScene(newScene));
+    }
+
+    @Test
+    public void testRecordListView() {
+        RecordStack recordStack = new RecordStack();
+        List<Record> view = recordStack.getCurrentRecordListView();
+        assertSame(view, recordStack.getCurrentRecordListView());
+        assertTrue(view.isEmpty());
+
+        Record record = Record.newInstance(new PublicClassScene(), false, null);
+        recordStack.push(record);
+        assertEquals(1, view.size());
+        assertSame(record, view.get(0));
+
+        List<Record> copy = recordStack.getCurrentRecordList();
+        recordStack.pop();
+        assertTrue(view.isEmpty());
+        assertEquals(1, copy.size());
+
+        try {
+            view.add(record);
+            throw new AssertionError("record list view must be read-only");
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
+    @Test
+    public void testNavigationSceneLookup() {
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(new TestScene());
+        NavigationSceneManager navigationSceneManager = (NavigationSceneManager) navigationScene.mNavigationSceneManager;
+        TestScene[] scenes = new TestScene[30];
+        for (int i = 0; i < scenes.length; i++) {
+            scenes[i] = new TestScene();
+            navigationScene.push(scenes[i]);
+        }
+        for (TestScene scene : scenes) {
+            Record record = navigationSceneManager.findRecordByScene(scene);
+            assertSame(scene, record.mScene);
+            assertTrue(navigationSceneManager.containsRecord(record));
+        }
+
+        Record topRecord = navigationSceneManager.findRecordByScene(scenes[scenes.length - 1]);
+        navigationScene.remove(scenes[10]);
+        navigationScene.pop();
+        assertNull(navigationSceneManager.findRecordByScene(scenes[10]));
+        assertFalse(navigationSceneManager.containsRecord(topRecord));
+        assertEquals(scenes.length - 1, navigationSceneManager.getCurrentSceneList().size());
+    }
+
+    @Test
+    public void testLazyRestore() {
+        Context context = NavigationSourceUtility.createFromSceneLifecycleManager(new TestScene()).requireSceneContext();
+        ArrayList<Record> list = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Record record = new Record();
+            record.mSceneClassName = CountingScene.class.getName();
+            record.mIsTranslucent = i == 3;
+            list.add(record);
+        }
+        Bundle bundle = new Bundle();
+        bundle.putParcelableArrayList(ParcelConstants.KEY_NAVIGATION_RECORD_LIST, list);
+
+        CountingScene.sCreatedCount = 0;
+        RecordStack recordStack = new RecordStack();
+        recordStack.restoreFromBundle(context, bundle, null, true);
+
+        //only the translucent top Scene and the opaque Scene below it are created
+        assertEquals(2, CountingScene.sCreatedCount);
+        assertFalse(list.get(0).isSceneCreated());
+        assertFalse(list.get(1).isSceneCreated());
+        assertTrue(list.get(2).isSceneCreated());
+        assertTrue(recordStack.contains(list.get(0)));
+        assertTrue(recordStack.getStackHistory().contains(CountingScene.class.getSimpleName()));
+        recordStack.saveToBundle(new Bundle());
+        assertEquals(2, CountingScene.sCreatedCount);
+
+        Record record = list.get(1);
+        Scene scene = record.getScene();
+        assertEquals(3, CountingScene.sCreatedCount);
+        assertSame(scene, record.getScene());
+        assertSame(record, recordStack.getRecordByScene(scene));
+
+        recordStack.releaseScene(record, context, 1, null);
+        assertFalse(record.isSceneCreated());
+        assertNull(recordStack.getRecordByScene(scene));
+        Scene newScene = record.getScene();
+        assertNotSame(scene, newScene);
+        assertSame(record, recordStack.getRecordByScene(newScene));
+    }
+
+    public static class CountingScene extends TestScene {
+        static int sCreatedCount = 0;
+
+        public CountingScene() {
+            sCreatedCount++;
+        }
+    }
+
+    public static class TestScene extends Scene {
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+    }
+}
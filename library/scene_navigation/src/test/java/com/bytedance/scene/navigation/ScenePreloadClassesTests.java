@@ -0,0 +1,118 @@
+package com.bytedance.scene.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class ScenePreloadClassesTests {
+
+    @Test
+    public void testAllClassesExist() throws ClassNotFoundException {
+        Set<String> classNames = new HashSet<>();
+        for (String className : ScenePreloadClasses.CLASS_NAMES) {
+            assertTrue("duplicate " + className, classNames.add(className));
+            Class.forName(className, false, NavigationScene.class.getClassLoader());
+        }
+        assertEquals(ScenePreloadClasses.CLASS_NAMES.length, ScenePreloadClasses.preload(NavigationScene.class.getClassLoader()));
+        NavigationScene.preloadClasses();
+    }
+
+    @Test
+    public void testPreloadOnBackgroundThread() throws InterruptedException {
+        final AtomicInteger count = new AtomicInteger();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                count.set(ScenePreloadClasses.preload(NavigationScene.class.getClassLoader()));
+            }
+        });
+        thread.start();
+        thread.join();
+        assertEquals(ScenePreloadClasses.CLASS_NAMES.length, count.get());
+    }
+
+    @Test
+    public void testBaselineProfileMatchPreloadClasses() throws IOException {
+        //unit tests run in the module directory
+        Set<String> profileClasses = new HashSet<>();
+        readProfileClasses(new File("src/main/baseline-prof.txt"), profileClasses);
+        readProfileClasses(new File("../scene/src/main/baseline-prof.txt"), profileClasses);
+
+        Set<String> preloadClasses = new HashSet<>();
+        for (String className : ScenePreloadClasses.CLASS_NAMES) {
+            preloadClasses.add("L" + className.replace('.', '/') + ";");
+        }
+        assertEquals(preloadClasses, profileClasses);
+    }
+
+    @Test
+    public void testConsumerRulesKeepPreloadClassNames() throws IOException {
+        Set<String> keptClasses = new HashSet<>();
+        readKeepNamesClasses(new File("consumer-rules.pro"), keptClasses);
+        readKeepNamesClasses(new File("../scene/consumer-rules.pro"), keptClasses);
+
+        Set<String> preloadClasses = new HashSet<>(Arrays.asList(ScenePreloadClasses.CLASS_NAMES));
+        assertEquals(preloadClasses, keptClasses);
+    }
+
+    private static void readKeepNamesClasses(File file, Set<String> classes) throws IOException {
+        assertTrue(file.getAbsolutePath(), file.exists());
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                assertTrue(line, line.startsWith("-keepnames class "));
+                classes.add(line.substring("-keepnames class ".length()));
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void readProfileClasses(File file, Set<String> classes) throws IOException {
+        assertTrue(file.getAbsolutePath(), file.exists());
+        Set<String> classRules = new HashSet<>();
+        Set<String> methodRules = new HashSet<>();
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.startsWith("HSPL")) {
+                    assertTrue(line, line.endsWith(";->**(**)**"));
+                    methodRules.add(line.substring(4, line.indexOf("->")));
+                } else {
+                    assertTrue(line, line.startsWith("L") && line.endsWith(";"));
+                    classRules.add(line);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        //every class is both loaded and compiled
+        assertEquals(classRules, methodRules);
+        classes.addAll(classRules);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bytedance.scene.navigation.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.bytedance.scene.animation.interaction.progressanimation.AnimationBuilder;
+import com.bytedance.scene.animation.interaction.progressanimation.InteractionAnimation;
+import com.bytedance.scene.animation.interaction.progressanimation.InteractionAnimationBuilder;
+import com.bytedance.scene.animation.interaction.progressanimation.InteractionAnimationSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Micro benchmark of swipe back progress animations, every progress frame must be allocation free
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class InteractionAnimationPerformanceTests {
+    private static final int COUNT = 10000;
+
+    @Test
+    public void testProgressValues() {
+        Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        View view = new View(activity);
+        InteractionAnimation animation = InteractionAnimationBuilder.with(view)
+                .translationX(0, 100)
+                .alpha(1.0f, 0.0f)
+                .translationX(100, 200)
+                .endProgress(0.5f)
+                .build();
+
+        animation.dispatchProgress(0.25f);
+        assertEquals(150.0f, view.getTranslationX(), 0.001f);
+        assertEquals(0.5f, view.getAlpha(), 0.001f);
+
+        animation.dispatchProgress(1.0f);
+        assertEquals(200.0f, view.getTranslationX(), 0.001f);
+        assertEquals(0.0f, view.getAlpha(), 0.001f);
+
+        View otherView = new View(activity);
+        InteractionAnimation otherAnimation = AnimationBuilder.of(otherView).scaleX(1.0f, 2.0f).y(10.0f, 30.0f).build();
+        otherAnimation.dispatchProgress(0.5f);
+        assertEquals(1.5f, otherView.getScaleX(), 0.001f);
+        assertEquals(20.0f, otherView.getY(), 0.001f);
+    }
+
+    @Test
+    public void testNoAllocationPerProgress() {
+        Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        View view = new View(activity);
+        View otherView = new View(activity);
+        InteractionAnimationSet animationSet = new InteractionAnimationSet();
+        animationSet.addInteractionAnimation(InteractionAnimationBuilder.with(view)
+                .translationX(0, 100)
+                .translationY(0, 100)
+                .scaleX(1.0f, 0.5f)
+                .scaleY(1.0f, 0.5f)
+                .alpha(1.0f, 0.0f)
+                .build());
+        animationSet.addInteractionAnimation(AnimationBuilder.of(otherView)
+                .translationX(-100, 0)
+                .alpha(0.0f, 1.0f)
+                .build());
+
+        //warm up
+        progressLoop(animationSet);
+
+        long before = allocatedBytes();
+        progressLoop(animationSet);
+        long allocated = allocatedBytes() - before;
+
+        //allow ThreadMXBean itself a little noise, but far less than one byte per progress frame
+        assertTrue("allocated " + allocated + " bytes for " + COUNT + " progress frames", allocated < COUNT);
+    }
+
+    private static void progressLoop(InteractionAnimation animation) {
+        for (int i = 0; i < COUNT; i++) {
+            animation.dispatchProgress((float) i / COUNT);
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
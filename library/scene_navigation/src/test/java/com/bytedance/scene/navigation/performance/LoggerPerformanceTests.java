@@ -0,0 +1,219 @@
+package com.bytedance.scene.navigation.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.scene.Scene;
+import com.bytedance.scene.logger.DefaultLogger;
+import com.bytedance.scene.logger.Logger;
+import com.bytedance.scene.logger.LoggerManager;
+import com.bytedance.scene.logger.TagLogger;
+import com.bytedance.scene.navigation.NavigationScene;
+import com.bytedance.scene.navigation.NavigationSourceUtility;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micro benchmark of LoggerManager level gate, when logging is off navigation hot paths must not build any message
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class LoggerPerformanceTests {
+    private static final String TAG = "LoggerPerformanceTests";
+    private static final int COUNT = 10000;
+
+    @After
+    public void tearDown() {
+        LoggerManager.getInstance().setLogLevel(LoggerManager.VERBOSE);
+        LoggerManager.getInstance().setLogger(new DefaultLogger());
+    }
+
+    @Test
+    public void testLevelGate() {
+        CountLogger logger = new CountLogger();
+        LoggerManager.getInstance().setLogger(logger);
+        LoggerManager.getInstance().setLogLevel(LoggerManager.INFO);
+
+        assertFalse(LoggerManager.getInstance().isLoggable(LoggerManager.VERBOSE));
+        assertFalse(LoggerManager.getInstance().isLoggable(LoggerManager.DEBUG));
+        assertTrue(LoggerManager.getInstance().isLoggable(LoggerManager.INFO));
+        assertTrue(LoggerManager.getInstance().isLoggable(LoggerManager.ERROR));
+
+        LoggerManager.getInstance().v(TAG, "verbose %s", 1);
+        LoggerManager.getInstance().d(TAG, "debug %s", 1);
+        assertEquals(0, logger.mCount.get());
+
+        LoggerManager.getInstance().i(TAG, "info %s %s", "a", "b");
+        assertEquals(1, logger.mCount.get());
+        assertEquals("Scene Framework", logger.mLastTag);
+        assertEquals(TAG + " info a b", logger.mLastMessage);
+
+        LoggerManager.getInstance().e(TAG, () -> "error");
+        assertEquals(2, logger.mCount.get());
+        assertEquals(TAG + " error", logger.mLastMessage);
+    }
+
+    @Test
+    public void testTagLoggerGetsTagAsIs() {
+        CountTagLogger logger = new CountTagLogger();
+        LoggerManager.getInstance().setLogger(logger);
+
+        LoggerManager.getInstance().i(TAG, "info %s", "a");
+        assertEquals(1, logger.mCount.get());
+        assertEquals(LoggerManager.INFO, logger.mLastLevel);
+        assertEquals(TAG, logger.mLastTag);
+        assertEquals("info a", logger.mLastMessage);
+
+        LoggerManager.getInstance().v(TAG, "verbose");
+        assertEquals(LoggerManager.VERBOSE, logger.mLastLevel);
+        assertEquals("verbose", logger.mLastMessage);
+    }
+
+    @Test
+    public void testSupplierNotInvokedWhenDisabled() {
+        LoggerManager.getInstance().setLogLevel(LoggerManager.NONE);
+        final AtomicInteger invokeCount = new AtomicInteger();
+        LoggerManager.MessageSupplier supplier = new LoggerManager.MessageSupplier() {
+            @NonNull
+            @Override
+            public String get() {
+                invokeCount.incrementAndGet();
+                return "message";
+            }
+        };
+        LoggerManager.getInstance().v(TAG, supplier);
+        LoggerManager.getInstance().d(TAG, supplier);
+        LoggerManager.getInstance().i(TAG, supplier);
+        LoggerManager.getInstance().e(TAG, supplier);
+        assertEquals(0, invokeCount.get());
+    }
+
+    @Test
+    public void testNoAllocationWhenDisabled() {
+        LoggerManager.getInstance().setLogLevel(LoggerManager.NONE);
+        Object arg = new Object();
+        Object arg2 = new Object();
+
+        //warm up
+        logLoop(arg, arg2);
+
+        long before = allocatedBytes();
+        logLoop(arg, arg2);
+        long allocated = allocatedBytes() - before;
+
+        //allow ThreadMXBean itself a little noise, but far less than one byte per log call
+        assertTrue("allocated " + allocated + " bytes for " + COUNT + " disabled log calls", allocated < COUNT);
+    }
+
+    @Test
+    public void testPushPopWithoutLogging() {
+        CountLogger logger = new CountLogger();
+        LoggerManager.getInstance().setLogger(logger);
+        LoggerManager.getInstance().setLogLevel(LoggerManager.NONE);
+        ToStringCountScene.sToStringCount.set(0);
+
+        NavigationScene navigationScene = NavigationSourceUtility.createFromSceneLifecycleManager(new ToStringCountScene());
+        for (int i = 0; i < 100; i++) {
+            navigationScene.push(ToStringCountScene.class);
+            navigationScene.pop();
+        }
+        assertEquals(0, logger.mCount.get());
+        //log arguments are passed as is, so no Scene is turned into a String when logging is off
+        assertEquals(0, ToStringCountScene.sToStringCount.get());
+
+        LoggerManager.getInstance().setLogLevel(LoggerManager.VERBOSE);
+        navigationScene.push(ToStringCountScene.class);
+        navigationScene.pop();
+        assertTrue(logger.mCount.get() > 0);
+        assertTrue(ToStringCountScene.sToStringCount.get() > 0);
+    }
+
+    private static void logLoop(Object arg, Object arg2) {
+        LoggerManager loggerManager = LoggerManager.getInstance();
+        for (int i = 0; i < COUNT; i++) {
+            loggerManager.i(TAG, "postAsync submit %s", arg);
+            loggerManager.i(TAG, "add new record to RecordStack, current stack size %s added scene %s", arg, arg2);
+            loggerManager.v(TAG, "invoke execute operation");
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static class CountLogger implements Logger {
+        final AtomicInteger mCount = new AtomicInteger();
+        String mLastTag;
+        String mLastMessage;
+
+        void log(String tag, String msg) {
+            this.mCount.incrementAndGet();
+            this.mLastTag = tag;
+            this.mLastMessage = msg;
+        }
+
+        @Override
+        public void v(String tag, String msg) {
+            log(tag, msg);
+        }
+
+        @Override
+        public void d(String tag, String msg) {
+            log(tag, msg);
+        }
+
+        @Override
+        public void i(String tag, String msg) {
+            log(tag, msg);
+        }
+
+        @Override
+        public void e(String tag, String msg) {
+            log(tag, msg);
+        }
+    }
+
+    private static class CountTagLogger extends CountLogger implements TagLogger {
+        private int mLastLevel;
+
+        @Override
+        public void log(int level, @NonNull String tag, @NonNull String msg) {
+            this.mLastLevel = level;
+            log(tag, msg);
+        }
+    }
+
+    public static class ToStringCountScene extends Scene {
+        private static final AtomicInteger sToStringCount = new AtomicInteger();
+
+        @NonNull
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @NonNull ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return new View(requireSceneContext());
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            sToStringCount.incrementAndGet();
+            return super.toString();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.bytedance.scene.navigation.post;
+
+import static android.os.Looper.getMainLooper;
+import static org.robolectric.Shadows.shadowOf;
+import static org.robolectric.annotation.LooperMode.Mode.PAUSED;
+
+import com.bytedance.scene.queue.NavigationFrameStatistics;
+import com.bytedance.scene.queue.NavigationMessageQueue;
+import com.bytedance.scene.queue.NavigationRunnable;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NavigationMessageQueue in frame aligned mode
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class NavigationMessageQueueFrameTests {
+
+    @Before
+    public void setUp() {
+        NavigationFrameStatistics.reset();
+    }
+
+    private static NavigationRunnable append(final StringBuilder log, final String value, final long busyMillis) {
+        return new NavigationRunnable() {
+            @Override
+            public void run() {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(busyMillis);
+                while (System.nanoTime() < end) {
+                    //busy
+                }
+                log.append(value);
+            }
+        };
+    }
+
+    private static void runFrames() {
+        shadowOf(getMainLooper()).idleFor(1, TimeUnit.SECONDS);
+    }
+
+    @LooperMode(PAUSED)
+    @Test
+    public void testTasksInOneFrameWithinBudget() {
+        final StringBuilder log = new StringBuilder();
+        final NavigationMessageQueue messageQueue = new NavigationMessageQueue(true, 1000L);
+        Assert.assertTrue(messageQueue.isFrameAligned());
+
+        messageQueue.postAsync(append(log, "1", 0));
+        messageQueue.postAsync(new NavigationRunnable() {
+            @Override
+            public void run() {
+                log.append("2");
+                messageQueue.postAsyncAtHead(append(log, "3", 0));
+            }
+        });
+        messageQueue.postAsync(append(log, "4", 0));
+        runFrames();
+
+        Assert.assertEquals("1234", log.toString());
+        Assert.assertEquals(1, NavigationFrameStatistics.getFrameCount());
+        Assert.assertEquals(0, NavigationFrameStatistics.getSpilledFrameCount());
+        Assert.assertEquals(0, NavigationFrameStatistics.getOverrunFrameCount());
+        Assert.assertFalse(messageQueue.hasPendingTasks());
+    }
+
+    @LooperMode(PAUSED)
+    @Test
+    public void testHeavyTaskSpillsToNextFrame() {
+        final StringBuilder log = new StringBuilder();
+        final NavigationMessageQueue messageQueue = new NavigationMessageQueue(true, 2L);
+
+        messageQueue.postAsync(append(log, "1", 10));
+        messageQueue.postAsync(append(log, "2", 0));
+        runFrames();
+
+        Assert.assertEquals("12", log.toString());
+        Assert.assertEquals(2, NavigationFrameStatistics.getFrameCount());
+        Assert.assertEquals(1, NavigationFrameStatistics.getSpilledFrameCount());
+        Assert.assertEquals(1, NavigationFrameStatistics.getOverrunFrameCount());
+        Assert.assertTrue(NavigationFrameStatistics.getMaxFrameTimeMillis() >= 10);
+    }
+
+    @LooperMode(PAUSED)
+    @Test
+    public void testPostSyncCancelFrame() {
+        final StringBuilder log = new StringBuilder();
+        final NavigationMessageQueue messageQueue = new NavigationMessageQueue(true, 1000L);
+
+        messageQueue.postAsync(append(log, "1", 0));
+        messageQueue.postAsync(append(log, "2", 0));
+        messageQueue.postSync(new Runnable() {
+            @Override
+            public void run() {
+                log.append("3");
+            }
+        });
+        Assert.assertEquals("123", log.toString());
+
+        runFrames();
+        Assert.assertEquals("123", log.toString());
+        Assert.assertEquals(0, NavigationFrameStatistics.getFrameCount());
+    }
+
+    @LooperMode(PAUSED)
+    @Test
+    public void testBarrier() {
+        final StringBuilder log = new StringBuilder();
+        final NavigationMessageQueue messageQueue = new NavigationMessageQueue(true, 1000L);
+        Runnable barrier = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+
+        messageQueue.postAsync(append(log, "1", 0));
+        messageQueue.postBarrier(barrier);
+        messageQueue.postAsync(append(log, "2", 0));
+        runFrames();
+        Assert.assertEquals("", log.toString());
+
+        messageQueue.removeBarrier(barrier);
+        runFrames();
+        Assert.assertEquals("12", log.toString());
+    }
+
+    @LooperMode(PAUSED)
+    @Test
+    public void testIdleDelayedTask() {
+        final StringBuilder log = new StringBuilder();
+        final NavigationMessageQueue messageQueue = new NavigationMessageQueue(true, 1000L);
+
+        messageQueue.postAsync(append(log, "2", 0));
+        messageQueue.postAsyncAtHeadIdleDelayed(append(log, "1", 0), 100L);
+        runFrames();
+        Assert.assertEquals("12", log.toString());
+    }
+}
@@ -19,23 +19,41 @@ import android.os.Handler
 import android.os.Looper
 import android.os.Message
 import com.bytedance.scene.scheduler.IMessageQueue
+import com.bytedance.scene.scheduler.IMessageToken
 
 internal class DefaultMessageQueue : IMessageQueue {
     private val handler = Handler(Looper.getMainLooper())
 
-    override fun postMessage(runnable: Runnable): Runnable {
-        val message: Message = Message.obtain(handler, runnable)
-        handler.sendMessage(message)
-        return runnable
+    override fun postMessage(runnable: Runnable): IMessageToken {
+        val token = Token(runnable)
+        handler.sendMessage(Message.obtain(handler, token))
+        return token
     }
 
-    override fun postMessageAtHead(runnable: Runnable): Runnable {
-        val message: Message = Message.obtain(handler, runnable)
-        handler.sendMessageAtFrontOfQueue(message)
-        return runnable
+    override fun postMessageAtHead(runnable: Runnable): IMessageToken {
+        val token = Token(runnable)
+        handler.sendMessageAtFrontOfQueue(Message.obtain(handler, token))
+        return token
     }
 
-    override fun removeMessage(runnable: Runnable) {
-        handler.removeCallbacks(runnable)
+    private inner class Token(private val runnable: Runnable) : Runnable, IMessageToken {
+        private var isDone = false
+
+        override fun run() {
+            if (isDone) {
+                return
+            }
+            isDone = true
+            runnable.run()
+        }
+
+        override fun cancel(): Boolean {
+            if (isDone) {
+                return false
+            }
+            isDone = true
+            handler.removeCallbacks(this)
+            return true
+        }
     }
-}
\ No newline at end of file
+}
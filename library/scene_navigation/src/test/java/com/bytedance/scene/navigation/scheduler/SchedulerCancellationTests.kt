@@ -0,0 +1,129 @@
+package com.bytedance.scene.navigation.scheduler
+
+import android.os.Looper.getMainLooper
+import com.bytedance.scene.queue.NavigationMessageQueue
+import com.bytedance.scene.scheduler.ForcibleTerminationOperation
+import com.bytedance.scene.scheduler.MessageQueueProxy
+import com.bytedance.scene.scheduler.SchedulerBridge
+import com.bytedance.scene.scheduler.SchedulerNode
+import com.bytedance.scene.scheduler.SharedEnvironment
+import org.junit.Assert
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.annotation.Config
+import org.robolectric.annotation.LooperMode
+
+/**
+ * Force finish a scheduler chain whose follow-up messages are still queued
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(manifest = Config.NONE)
+@LooperMode(LooperMode.Mode.PAUSED)
+class SchedulerCancellationTests {
+    companion object {
+        private const val CHAIN_LENGTH = 200
+    }
+
+    private class CountOperation : ForcibleTerminationOperation() {
+        var executeCount = 0
+        override fun execute(endAction: Runnable) {
+            executeCount++
+            endAction.run()
+        }
+    }
+
+    private fun buildChain(
+        sharedEnvironment: SharedEnvironment,
+        messageQueue: NavigationMessageQueue,
+        operations: List<CountOperation>,
+        atFront: Boolean
+    ): SchedulerNode {
+        var node = SchedulerBridge(sharedEnvironment, DefaultNavigationTaskExecutor(), MessageQueueProxy(messageQueue))
+            .runNext(operations[0])
+        for (i in 1 until operations.size) {
+            node = if (atFront) node.postNextAtFront(operations[i]) else node.postNext(operations[i])
+        }
+        return node
+    }
+
+    private fun testForceFinish(atFront: Boolean) {
+        val messageQueue = NavigationMessageQueue(false, 0L)
+        val sharedEnvironment = SharedEnvironment()
+        val operations = List(CHAIN_LENGTH) { CountOperation() }
+        var endCount = 0
+        buildChain(sharedEnvironment, messageQueue, operations, atFront).endAction {
+            endCount++
+        }.start()
+
+        Assert.assertEquals(1, operations[0].executeCount)
+        Assert.assertEquals(0, operations[1].executeCount)
+        Assert.assertEquals(1, messageQueue.pendingTaskCount)
+
+        shadowOf(getMainLooper()).runOneTask()
+        Assert.assertEquals(1, operations[1].executeCount)
+        Assert.assertEquals(1, messageQueue.pendingTaskCount)
+
+        sharedEnvironment.forceFinish()
+        Assert.assertEquals(0, messageQueue.pendingTaskCount)
+        Assert.assertEquals(1, endCount)
+        for (operation in operations) {
+            Assert.assertEquals(1, operation.executeCount)
+        }
+
+        //no stale message is executed later
+        shadowOf(getMainLooper()).idle()
+        Assert.assertEquals(1, endCount)
+        for (operation in operations) {
+            Assert.assertEquals(1, operation.executeCount)
+        }
+    }
+
+    @Test
+    fun testForceFinishPostNextChain() {
+        testForceFinish(false)
+    }
+
+    @Test
+    fun testForceFinishPostNextAtFrontChain() {
+        testForceFinish(true)
+    }
+
+    @Test
+    fun testChainWithoutForceFinish() {
+        val messageQueue = NavigationMessageQueue(false, 0L)
+        val operations = List(CHAIN_LENGTH) { CountOperation() }
+        var endCount = 0
+        buildChain(SharedEnvironment(), messageQueue, operations, false).endAction {
+            endCount++
+        }.start()
+        shadowOf(getMainLooper()).idle()
+
+        Assert.assertEquals(0, messageQueue.pendingTaskCount)
+        Assert.assertEquals(1, endCount)
+        for (operation in operations) {
+            Assert.assertEquals(1, operation.executeCount)
+        }
+    }
+
+    @Test
+    fun testCancelToken() {
+        val messageQueue = NavigationMessageQueue(false, 0L)
+        val proxy = MessageQueueProxy(messageQueue)
+        val log = StringBuilder()
+        val tokens = List(CHAIN_LENGTH) { index -> proxy.postMessage { log.append(index).append(',') } }
+        Assert.assertEquals(CHAIN_LENGTH, messageQueue.pendingTaskCount)
+
+        for (i in tokens.indices step 2) {
+            Assert.assertTrue(tokens[i].cancel())
+            Assert.assertFalse(tokens[i].cancel())
+        }
+        Assert.assertEquals(CHAIN_LENGTH / 2, messageQueue.pendingTaskCount)
+
+        shadowOf(getMainLooper()).idle()
+        Assert.assertEquals(0, messageQueue.pendingTaskCount)
+        Assert.assertEquals((1 until CHAIN_LENGTH step 2).joinToString(separator = ",", postfix = ","), log.toString())
+        Assert.assertFalse(tokens[1].cancel())
+    }
+}
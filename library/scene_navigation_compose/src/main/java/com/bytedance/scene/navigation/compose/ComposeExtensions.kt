@@ -15,11 +15,40 @@
  */
 package com.bytedance.scene.navigation.compose
 
+import com.bytedance.scene.Scene
+import com.bytedance.scene.animation.NavigationAnimationExecutor
+import com.bytedance.scene.interfaces.PopOptions
+import com.bytedance.scene.interfaces.PushOptions
 import com.bytedance.scene.navigation.NavigationScene
+import com.bytedance.scene.utlity.Predicate
 
-//TODO support other PushOptions abilities, like popTo
-fun NavigationScene.pushCompose(screen: ComposeScreen) {
+/**
+ * Every ComposeScreen is hosted by a ComposeInnerScene, so options matching Scenes by class, like launch modes,
+ * see all ComposeScreens as the same Scene type, use [composeScreenPredicate] to match a ComposeScreen type instead
+ */
+@JvmOverloads
+fun NavigationScene.pushCompose(screen: ComposeScreen, pushOptions: PushOptions? = null) {
     val scene = ComposeInnerScene()
     scene.composeScreen = screen
-    this.push(scene, null)
-}
\ No newline at end of file
+    this.push(scene, pushOptions)
+}
+
+/**
+ * Pop until the top ComposeScreen is an instance of [screenClass]
+ */
+@JvmOverloads
+fun NavigationScene.popToCompose(screenClass: Class<out ComposeScreen>, animationExecutor: NavigationAnimationExecutor? = null) {
+    val builder = PopOptions.Builder().setPopUtilPredicate(composeScreenPredicate(screenClass))
+    if (animationExecutor != null) {
+        builder.setAnimation(animationExecutor)
+    }
+    this.pop(builder.build())
+}
+
+/**
+ * Match the Scenes hosting a ComposeScreen of [screenClass], for PushOptions.Builder.setRemovePredicate and
+ * PopOptions.Builder.setPopUtilPredicate
+ */
+fun composeScreenPredicate(screenClass: Class<out ComposeScreen>): Predicate<Scene> {
+    return Predicate { scene -> scene is ComposeInnerScene && screenClass.isInstance(scene.composeScreen) }
+}
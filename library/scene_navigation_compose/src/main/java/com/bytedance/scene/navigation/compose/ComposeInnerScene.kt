@@ -20,20 +20,34 @@ import android.view.LayoutInflater
 import android.view.View
 import android.view.ViewGroup
 import androidx.compose.runtime.CompositionLocalProvider
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.saveable.rememberSaveableStateHolder
+import androidx.compose.runtime.setValue
 import androidx.compose.ui.platform.ComposeView
+import androidx.compose.ui.platform.ViewCompositionStrategy
 import com.bytedance.scene.Scene
 import com.bytedance.scene.interfaces.CoordinateScheduleScene
 import com.bytedance.scene.navigation.NavigationScene
 
-
-//TODO performance，merge ComposeView?
+/**
+ * All ComposeInnerScenes of a NavigationScene compose with the Recomposer of [ComposeNavigationHost]. The shared
+ * frame clock runs while any ComposeScreen is started, so the content of a ComposeScreen is only composed between
+ * onStart and onStop, while stopped its effects are cancelled and its saveable state is kept.
+ *
+ * The composition lives as long as the Scene view, so it survives the view being detached from the window.
+ */
 class ComposeInnerScene : Scene(), CoordinateScheduleScene {
     private val SCENE_COMPOSE_SCREEN_CLASS_NAME = "bd-scene-nav:scene_compose_name"
     private val SCENE_COMPOSE_SCREEN_ARGUMENTS = "bd-scene-nav:scene_compose_name_arguments"
+    private val SCENE_COMPOSE_SCREEN_STATE_KEY = "bd-scene-nav:scene_compose_screen_state"
     internal var composeScreen: ComposeScreen? = null
     private var composeView: ComposeView? = null
+    private var composeNavigationHost: ComposeNavigationHost? = null
+    private var isScreenActive by mutableStateOf(false)
     override fun onCreateView(p0: LayoutInflater, p1: ViewGroup, p2: Bundle?): View {
         return ComposeView(requireSceneContext()).apply {
+            setViewCompositionStrategy(ViewCompositionStrategy.DisposeOnViewTreeLifecycleDestroyed)
             composeView = this
         }
     }
@@ -54,18 +68,44 @@ class ComposeInnerScene : Scene(), CoordinateScheduleScene {
         }
 
         val navigationScene = requireParentScene() as NavigationScene
-        composeView?.setParentCompositionContext(createLifecycleAwareViewTreeRecomposer(requireView()))
+        val composeNavigationHost = ComposeNavigationHost.of(navigationScene)
+        this.composeNavigationHost = composeNavigationHost
+        composeView?.setParentCompositionContext(composeNavigationHost.recomposer)
         composeView?.setContent {
-            CompositionLocalProvider(
-                LocalNavigationScene provides navigationScene,
-                LocalScreenArguments provides this.composeScreen?.arguments,
-                LocalResultReceiver provides ComposeResultReceiver(navigationScene, this)
-            ) {
-                this.composeScreen?.Content()
+            val saveableStateHolder = rememberSaveableStateHolder()
+            if (this.isScreenActive) {
+                saveableStateHolder.SaveableStateProvider(SCENE_COMPOSE_SCREEN_STATE_KEY) {
+                    CompositionLocalProvider(
+                        LocalNavigationScene provides navigationScene,
+                        LocalScreenArguments provides this.composeScreen?.arguments,
+                        LocalResultReceiver provides ComposeResultReceiver(navigationScene, this)
+                    ) {
+                        this.composeScreen?.Content()
+                    }
+                }
             }
         }
     }
 
+    override fun onStart() {
+        super.onStart()
+        this.isScreenActive = true
+        this.composeNavigationHost?.onScreenStarted()
+    }
+
+    override fun onStop() {
+        super.onStop()
+        this.isScreenActive = false
+        this.composeNavigationHost?.onScreenStopped()
+    }
+
+    override fun onDestroyView() {
+        super.onDestroyView()
+        this.composeView?.disposeComposition()
+        this.composeView = null
+        this.composeNavigationHost = null
+    }
+
     override fun onSaveInstanceState(outState: Bundle) {
         super.onSaveInstanceState(outState)
         outState.putString(
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2019 ByteDance Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.scene.navigation.compose
+
+import androidx.compose.runtime.MonotonicFrameClock
+import androidx.compose.runtime.PausableMonotonicFrameClock
+import androidx.compose.runtime.Recomposer
+import androidx.compose.ui.platform.AndroidUiDispatcher
+import com.bytedance.scene.Scope
+import com.bytedance.scene.navigation.NavigationScene
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.launch
+import kotlin.coroutines.EmptyCoroutineContext
+
+/**
+ * One Recomposer shared by all ComposeScreens of a NavigationScene, registered in the Scope of the NavigationScene
+ * and cancelled when it is destroyed.
+ *
+ * The frame clock only runs while at least one ComposeScreen is started. A stopped ComposeScreen is deactivated
+ * by its ComposeInnerScene instead, so the shared clock doesn't drive its animations and frame callbacks.
+ */
+internal class ComposeNavigationHost private constructor() : Scope.Scoped {
+    private val pausableClock: PausableMonotonicFrameClock?
+    val recomposer: Recomposer
+    private var startedScreenCount = 0
+
+    init {
+        val currentThreadContext = AndroidUiDispatcher.CurrentThread
+        pausableClock = currentThreadContext[MonotonicFrameClock]?.let {
+            PausableMonotonicFrameClock(it).apply { pause() }
+        }
+        val contextWithClock = currentThreadContext + (pausableClock ?: EmptyCoroutineContext)
+        recomposer = Recomposer(contextWithClock)
+        // Undispatched launch since this scope is on the UI thread
+        CoroutineScope(contextWithClock).launch(start = CoroutineStart.UNDISPATCHED) {
+            recomposer.runRecomposeAndApplyChanges()
+        }
+    }
+
+    fun onScreenStarted() {
+        if (startedScreenCount++ == 0) {
+            pausableClock?.resume()
+        }
+    }
+
+    fun onScreenStopped() {
+        if (--startedScreenCount == 0) {
+            pausableClock?.pause()
+        }
+    }
+
+    override fun onUnRegister() {
+        recomposer.cancel()
+    }
+
+    companion object {
+        private val KEY = ComposeNavigationHost::class.java
+
+        fun of(navigationScene: NavigationScene): ComposeNavigationHost {
+            val scope = navigationScene.scope
+            return scope.getServiceInMyScope<ComposeNavigationHost>(KEY)
+                ?: ComposeNavigationHost().also { scope.registerInMyScope(KEY, it) }
+        }
+    }
+}
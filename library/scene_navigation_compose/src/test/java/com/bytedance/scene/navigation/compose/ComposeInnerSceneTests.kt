@@ -0,0 +1,198 @@
+package com.bytedance.scene.navigation.compose
+
+import android.app.Activity
+import android.os.Bundle
+import android.os.Looper
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.Recomposer
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.saveable.rememberSaveable
+import androidx.compose.runtime.withFrameNanos
+import com.bytedance.scene.Scene
+import com.bytedance.scene.SceneComponentFactory
+import com.bytedance.scene.SceneLifecycleManager
+import com.bytedance.scene.Scope
+import com.bytedance.scene.State
+import com.bytedance.scene.animation.animatorexecutor.NoAnimationExecutor
+import com.bytedance.scene.interfaces.PushOptions
+import com.bytedance.scene.navigation.NavigationScene
+import com.bytedance.scene.navigation.NavigationSceneOptions
+import org.junit.Assert
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.annotation.Config
+import java.time.Duration
+
+@RunWith(RobolectricTestRunner::class)
+@Config(manifest = Config.NONE)
+class ComposeInnerSceneTests {
+
+    class TestActivity : Activity() {
+        lateinit var frameLayout: FrameLayout
+
+        override fun onCreate(savedInstanceState: Bundle?) {
+            super.onCreate(savedInstanceState)
+            frameLayout = FrameLayout(this)
+            setContentView(frameLayout)
+        }
+    }
+
+    class TestScene : Scene() {
+        override fun onCreateView(inflater: LayoutInflater, container: ViewGroup, savedInstanceState: Bundle?): View {
+            return View(requireSceneContext())
+        }
+    }
+
+    class FrameCountingScreen : ComposeScreen() {
+        var frameCount = 0
+
+        @Composable
+        override fun Content() {
+            LaunchedEffect(Unit) {
+                while (true) {
+                    withFrameNanos { frameCount++ }
+                }
+            }
+        }
+    }
+
+    class OtherScreen : ComposeScreen() {
+        @Composable
+        override fun Content() {
+        }
+    }
+
+    @Test
+    fun testCoveredScreenGetsNoFrames() {
+        val navigationScene = createNavigationScene()
+        val bottomScreen = FrameCountingScreen()
+        navigationScene.pushCompose(bottomScreen)
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+        Assert.assertTrue(bottomScreen.frameCount > 0)
+
+        val topScreen = FrameCountingScreen()
+        navigationScene.pushCompose(topScreen)
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+        val bottomFrameCount = bottomScreen.frameCount
+        val topFrameCount = topScreen.frameCount
+        Assert.assertTrue(topFrameCount > 0)
+
+        runFrames()
+        Assert.assertEquals(bottomFrameCount, bottomScreen.frameCount)
+        Assert.assertTrue(topScreen.frameCount > topFrameCount)
+
+        navigationScene.pop()
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+        Assert.assertTrue(bottomScreen.frameCount > bottomFrameCount)
+    }
+
+    class SaveableStateScreen : ComposeScreen() {
+        var createCount = 0
+        var rememberCount = 0
+
+        @Composable
+        override fun Content() {
+            rememberSaveable { ++createCount }
+            remember { ++rememberCount }
+        }
+    }
+
+    @Test
+    fun testScreensShareOneRecomposer() {
+        val navigationScene = createNavigationScene()
+        val runningRecomposerCount = Recomposer.runningRecomposers.value.size
+        navigationScene.pushCompose(OtherScreen())
+        navigationScene.pushCompose(OtherScreen())
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+        Assert.assertEquals(runningRecomposerCount + 1, Recomposer.runningRecomposers.value.size)
+    }
+
+    @Test
+    fun testCoveredScreenKeepsSaveableState() {
+        val navigationScene = createNavigationScene()
+        val bottomScreen = SaveableStateScreen()
+        navigationScene.pushCompose(bottomScreen)
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+        Assert.assertEquals(1, bottomScreen.createCount)
+        Assert.assertEquals(1, bottomScreen.rememberCount)
+
+        navigationScene.pushCompose(OtherScreen())
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+
+        navigationScene.pop()
+        navigationScene.forceExecutePendingNavigationOperation()
+        runFrames()
+        //the content was deactivated while covered, only its saveable state is restored
+        Assert.assertEquals(1, bottomScreen.createCount)
+        Assert.assertEquals(2, bottomScreen.rememberCount)
+    }
+
+    @Test
+    fun testPushComposeWithPushOptions() {
+        val navigationScene = createNavigationScene()
+        navigationScene.pushCompose(OtherScreen())
+        navigationScene.forceExecutePendingNavigationOperation()
+
+        val screen = OtherScreen()
+        navigationScene.pushCompose(screen, PushOptions.Builder().clearCurrent().build())
+        navigationScene.forceExecutePendingNavigationOperation()
+
+        Assert.assertEquals(2, navigationScene.sceneList.size)
+        val currentScene = navigationScene.currentScene as ComposeInnerScene
+        Assert.assertSame(screen, currentScene.composeScreen)
+        Assert.assertEquals(State.RESUMED, currentScene.state)
+    }
+
+    @Test
+    fun testPopToCompose() {
+        val navigationScene = createNavigationScene()
+        val target = FrameCountingScreen()
+        navigationScene.pushCompose(target)
+        navigationScene.pushCompose(OtherScreen())
+        navigationScene.pushCompose(OtherScreen())
+        navigationScene.forceExecutePendingNavigationOperation()
+        Assert.assertEquals(4, navigationScene.sceneList.size)
+
+        navigationScene.popToCompose(FrameCountingScreen::class.java)
+        navigationScene.forceExecutePendingNavigationOperation()
+
+        Assert.assertEquals(2, navigationScene.sceneList.size)
+        Assert.assertSame(target, (navigationScene.currentScene as ComposeInnerScene).composeScreen)
+    }
+
+    private fun runFrames() {
+        for (i in 0 until 10) {
+            shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(16))
+        }
+    }
+
+    private fun createNavigationScene(): NavigationScene {
+        val activity = Robolectric.buildActivity(TestActivity::class.java).create().start().resume().get()
+        val rootScene = TestScene()
+        val navigationScene = NavigationScene()
+        navigationScene.setArguments(NavigationSceneOptions(TestScene::class.java).toBundle())
+        navigationScene.setDefaultNavigationAnimationExecutor(NoAnimationExecutor())
+        navigationScene.setRootSceneComponentFactory(SceneComponentFactory { _, _, _ -> rootScene })
+
+        val sceneLifecycleManager = SceneLifecycleManager<NavigationScene>()
+        sceneLifecycleManager.onActivityCreated(activity, activity.frameLayout, navigationScene,
+            Scope.RootScopeFactory { Scope.DEFAULT_ROOT_SCOPE_FACTORY.rootScope }, false, null)
+        sceneLifecycleManager.onStart()
+        sceneLifecycleManager.onResume()
+        return navigationScene
+    }
+}
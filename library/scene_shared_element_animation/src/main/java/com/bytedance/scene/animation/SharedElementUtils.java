@@ -22,6 +22,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewParent;
 
+import androidx.annotation.NonNull;
 import androidx.collection.ArrayMap;
 import androidx.core.util.Pair;
 import androidx.core.view.ViewCompat;
@@ -30,10 +31,15 @@ import com.bytedance.scene.animation.interaction.ghostview.GhostViewUtils;
 import com.bytedance.scene.utlity.NonNullPair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @TargetApi(21)
 public class SharedElementUtils {
@@ -104,16 +110,47 @@ public class SharedElementUtils {
         return null;
     }
 
-    private static HashMap<String, View> getTransitionViewList(View view, List<String> transitionNameList, boolean visible) {
-        transitionNameList = new ArrayList<>(new HashSet<>(transitionNameList));
-        HashMap<String, View> hashMap = new HashMap<>();
-        for (String transitionName : transitionNameList) {
-            View targetView = SharedElementUtils.getViewByTransitionName(view, transitionName, visible);
-            if (targetView != null) {
-                hashMap.put(transitionName, targetView);
+    /**
+     * Resolve all transition names with one traversal of the view tree, the result is the same as calling
+     * {@link #getViewByTransitionName(View, String, boolean)} for every name, names not found are absent from the map
+     */
+    @NonNull
+    public static ArrayMap<String, View> getViewsByTransitionName(@NonNull View view, @NonNull Collection<String> transitionNames, boolean visible) {
+        Set<String> transitionNameSet = transitionNames instanceof Set ? (Set<String>) transitionNames : new HashSet<>(transitionNames);
+        ArrayMap<String, View> result = new ArrayMap<>(transitionNameSet.size());
+        if (!transitionNameSet.isEmpty()) {
+            collectViewsByTransitionName(view, transitionNameSet, visible, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return true when every transition name is resolved and the traversal can stop
+     */
+    private static boolean collectViewsByTransitionName(View view, Set<String> transitionNameSet, boolean visible, ArrayMap<String, View> result) {
+        String transitionName = ViewCompat.getTransitionName(view);
+        if (transitionName != null && transitionNameSet.contains(transitionName) && !result.containsKey(transitionName)) {
+            result.put(transitionName, view);
+            if (result.size() == transitionNameSet.size()) {
+                return true;
             }
         }
-        return hashMap;
+        if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                View childView = viewGroup.getChildAt(i);
+                if (childView.getVisibility() == View.VISIBLE || !visible) {
+                    if (collectViewsByTransitionName(childView, transitionNameSet, visible, result)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static HashMap<String, View> getTransitionViewList(View view, List<String> transitionNameList, boolean visible) {
+        return new HashMap<>(getViewsByTransitionName(view, transitionNameList, visible));
     }
 
     private static HashMap<String, Pair<View, View>> getShareView(View fromView, View toView, List<String> share) {
@@ -152,38 +189,55 @@ public class SharedElementUtils {
     /**
      * Guarantee order: Parent -> Child
      * Make sure that Parent will not overwrite Child when adding Overlay
+     * <p>
+     * Shared elements are ordered by the count of other shared elements among their ancestors,
+     * null or detached Views are dropped
      */
     public static List<NonNullPair<String, View>> sortSharedElementList(ArrayMap<String, View> sharedElements) {
-        List<NonNullPair<String, View>> list = new ArrayList<>();
-        boolean isFirstRun = true;
-        while (!sharedElements.isEmpty()) {
-            final int numSharedElements = sharedElements.size();
-            for (int i = numSharedElements - 1; i >= 0; i--) {
-                final View view = sharedElements.valueAt(i);
-                final String name = sharedElements.keyAt(i);
-                if (isFirstRun && (view == null || !view.isAttachedToWindow() || name == null)) {
-                    sharedElements.removeAt(i);
-                } else if (!isNested(view, sharedElements)) {
-                    list.add(NonNullPair.create(name, view));
-                    sharedElements.removeAt(i);
+        final int numSharedElements = sharedElements.size();
+        Set<View> sharedElementViewSet = Collections.newSetFromMap(new IdentityHashMap<View, Boolean>(numSharedElements));
+        for (int i = 0; i < numSharedElements; i++) {
+            View view = sharedElements.valueAt(i);
+            if (view != null && view.isAttachedToWindow() && sharedElements.keyAt(i) != null) {
+                sharedElementViewSet.add(view);
+            }
+        }
+
+        int[] depthArray = new int[numSharedElements];
+        int[] depthCountArray = new int[numSharedElements + 1];
+        int sortedCount = 0;
+        for (int i = 0; i < numSharedElements; i++) {
+            View view = sharedElements.valueAt(i);
+            if (view == null || !sharedElementViewSet.contains(view)) {
+                depthArray[i] = -1;
+                continue;
+            }
+            int depth = 0;
+            ViewParent parent = view.getParent();
+            while (parent instanceof View) {
+                if (sharedElementViewSet.contains(parent)) {
+                    depth++;
                 }
+                parent = parent.getParent();
             }
-            isFirstRun = false;
+            depthArray[i] = depth;
+            depthCountArray[depth]++;
+            sortedCount++;
         }
-        return list;
-    }
 
-    private static boolean isNested(View view, ArrayMap<String, View> sharedElements) {
-        ViewParent parent = view.getParent();
-        boolean isNested = false;
-        while (parent instanceof View) {
-            View parentView = (View) parent;
-            if (sharedElements.containsValue(parentView)) {
-                isNested = true;
-                break;
+        // counting sort, keep the previous reverse index order inside the same depth
+        int[] depthStartArray = new int[numSharedElements + 1];
+        for (int depth = 1; depth <= numSharedElements; depth++) {
+            depthStartArray[depth] = depthStartArray[depth - 1] + depthCountArray[depth - 1];
+        }
+        NonNullPair<String, View>[] sortedArray = new NonNullPair[sortedCount];
+        for (int i = numSharedElements - 1; i >= 0; i--) {
+            int depth = depthArray[i];
+            if (depth >= 0) {
+                sortedArray[depthStartArray[depth]++] = NonNullPair.create(sharedElements.keyAt(i), sharedElements.valueAt(i));
             }
-            parent = parentView.getParent();
         }
-        return isNested;
+        sharedElements.clear();
+        return new ArrayList<>(Arrays.asList(sortedArray));
     }
 }
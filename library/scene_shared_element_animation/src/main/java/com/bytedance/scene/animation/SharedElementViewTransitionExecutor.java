@@ -88,10 +88,11 @@ class SharedElementViewTransitionExecutor {
                                   @NonNull SharedElementNotFoundPolicy sharedElementNotFoundPolicy,
                                   @NonNull Runnable fallbackAction) {
         Set<String> keySet = this.mSharedElementTransition.keySet();
+        ArrayMap<String, View> dstViewMap = SharedElementUtils.getViewsByTransitionName(toView, keySet, true);
         // Sort, don't let parent cover child
         ArrayMap<String, View> map = new ArrayMap<>();
         for (String transitionName : keySet) {
-            View dstView = SharedElementUtils.getViewByTransitionName(toView, transitionName, true);
+            View dstView = dstViewMap.get(transitionName);
             if (dstView == null) {
                 switch (sharedElementNotFoundPolicy) {
                     case ABORT:
@@ -105,13 +106,14 @@ class SharedElementViewTransitionExecutor {
         }
 
         List<NonNullPair<String, View>> list = SharedElementUtils.sortSharedElementList(map);
+        ArrayMap<String, View> srcViewMap = SharedElementUtils.getViewsByTransitionName(fromView, keySet, true);
         final List<Info> infoList = new ArrayList<>();
         List<View> sharedElementViewList = new ArrayList<>();
         for (int i = 0; i < list.size(); i++) {
             String transitionName = list.get(i).first;
 
             SceneTransition sceneTransition = this.mSharedElementTransition.get(transitionName);
-            View srcView = SharedElementUtils.getViewByTransitionName(fromView, transitionName, true);
+            View srcView = srcViewMap.get(transitionName);
             View dstView = list.get(i).second;
 
             if (srcView == null) {
@@ -210,9 +212,10 @@ class SharedElementViewTransitionExecutor {
         final List<Info> infoList = new ArrayList<>();
         List<View> sharedElementViewList = new ArrayList<>();
         Set<String> keySet = this.mSharedElementTransition.keySet();
+        ArrayMap<String, View> srcViewMap = SharedElementUtils.getViewsByTransitionName(fromView, keySet, true);
         ArrayMap<String, View> map = new ArrayMap<>();
         for (String transitionName : keySet) {
-            View srcView = SharedElementUtils.getViewByTransitionName(fromView, transitionName, true);
+            View srcView = srcViewMap.get(transitionName);
             if (srcView == null) {
                 switch (sharedElementNotFoundPolicy) {
                     case ABORT:
@@ -227,10 +230,11 @@ class SharedElementViewTransitionExecutor {
         }
 
         List<NonNullPair<String, View>> list = SharedElementUtils.sortSharedElementList(map);
+        ArrayMap<String, View> dstViewMap = SharedElementUtils.getViewsByTransitionName(toView, keySet, false);
         for (NonNullPair<String, View> pair : list) {
             SceneTransition sceneTransition = this.mSharedElementTransition.get(pair.first);
             View srcView = pair.second;
-            View dstView = SharedElementUtils.getViewByTransitionName(toView, pair.first, false);
+            View dstView = dstViewMap.get(pair.first);
 
             if (dstView == null) {
                 switch (sharedElementNotFoundPolicy) {